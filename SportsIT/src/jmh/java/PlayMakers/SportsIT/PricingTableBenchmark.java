@@ -0,0 +1,94 @@
+package PlayMakers.SportsIT;
+
+import PlayMakers.SportsIT.domain.CompetitionForm;
+import PlayMakers.SportsIT.domain.CompetitionTemplate;
+import PlayMakers.SportsIT.domain.PricingTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 참가비 계산 벤치마크
+ * legacy: 호출마다 템플릿으로 Map을 만드는 기존 calculatePrice 방식
+ * compiled: 캐시된 PricingTable로 계산
+ * compileAndCalculate: 캐시 없이 매번 PricingTable을 만드는 경우
+ *
+ * ./gradlew jmh -Pjmh (gradle/jmh.gradle에 profilers = ['gc']를 추가하면 호출당 할당량을 함께 볼 수 있다)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PricingTableBenchmark {
+    private static final String[] SUB_SECTORS = {"-65kg", "-75kg", "+75kg"};
+
+    @Param({"10", "50", "100"})
+    int sectorCount;
+
+    CompetitionTemplate template;
+    List<CompetitionForm.Sector> formSectors;
+    PricingTable pricingTable;
+
+    @Setup
+    public void setUp() {
+        List<CompetitionTemplate.Sector> sectors = new ArrayList<>();
+        formSectors = new ArrayList<>();
+        for (int i = 0; i < sectorCount; i++) {
+            List<CompetitionTemplate.SubSector> subSectors = new ArrayList<>();
+            List<CompetitionForm.SubSector> checked = new ArrayList<>();
+            for (int j = 0; j < SUB_SECTORS.length; j++) {
+                subSectors.add(new CompetitionTemplate.SubSector(SUB_SECTORS[j]));
+                checked.add(new CompetitionForm.SubSector(SUB_SECTORS[j], j < 2)); // 부문마다 체급 2개 선택
+            }
+            sectors.add(new CompetitionTemplate.Sector("부문" + i, 30000L + i, 10000L, true, subSectors));
+            formSectors.add(new CompetitionForm.Sector("부문" + i, checked));
+        }
+        template = new CompetitionTemplate();
+        template.setSectors(sectors);
+        pricingTable = PricingTable.of(template);
+        if (legacy() != compiled()) throw new IllegalStateException("계산 결과가 다릅니다.");
+    }
+
+    @Benchmark
+    public long legacy() {
+        long amount = 0L;
+        Map<String, Map<String, Long>> sectorPriceMap = new HashMap<>();
+        for (CompetitionTemplate.Sector sector : template.getSectors()) {
+            Map<String, Long> priceMap = new HashMap<>();
+            priceMap.put("cost", sector.getCost());
+            priceMap.put("expandCost", sector.getExpandCost());
+            sectorPriceMap.put(sector.getTitle(), priceMap);
+        }
+        Map<String, List<Map<String, Long>>> sectorSubSectorMap = new HashMap<>();
+        for (CompetitionForm.Sector sector : formSectors) {
+            for (CompetitionForm.SubSector subSector : sector.getSubSectors()) {
+                if (!subSector.isChecked()) continue;
+                Map<String, Long> priceMap = sectorPriceMap.get(sector.getTitle());
+                List<Map<String, Long>> selected = sectorSubSectorMap.get(sector.getTitle());
+                Long cost = priceMap.get(selected == null ? "cost" : "expandCost");
+                if (selected == null) {
+                    selected = new ArrayList<>();
+                    sectorSubSectorMap.put(sector.getTitle(), selected);
+                }
+                Map<String, Long> entry = new HashMap<>();
+                entry.put(subSector.getName(), cost);
+                selected.add(entry);
+                amount += cost;
+            }
+        }
+        return amount;
+    }
+
+    @Benchmark
+    public long compiled() {
+        return pricingTable.calculate(formSectors);
+    }
+
+    @Benchmark
+    public long compileAndCalculate() {
+        return PricingTable.of(template).calculate(formSectors);
+    }
+}
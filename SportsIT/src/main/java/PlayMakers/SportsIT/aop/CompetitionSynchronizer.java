@@ -0,0 +1,52 @@
+package PlayMakers.SportsIT.aop;
+
+import PlayMakers.SportsIT.domain.Competition;
+import PlayMakers.SportsIT.scheduler.CompetitionStateTransitionEngine;
+import PlayMakers.SportsIT.service.CompetitionListCache;
+import PlayMakers.SportsIT.service.CompetitionSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대회 생성/수정/삭제 시 검색 색인 갱신, 대회 목록 캐시 무효화, 대회 상태 전환 예약
+ * 트랜잭션보다 바깥에서 실행되도록 가장 높은 우선순위를 주어, 커밋된 후에만 반영한다.
+ */
+@Slf4j
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Component
+public class CompetitionSynchronizer {
+    private final CompetitionSearchIndex competitionSearchIndex;
+    private final CompetitionListCache competitionListCache;
+    private final CompetitionStateTransitionEngine competitionStateTransitionEngine;
+
+    @AfterReturning(value = "execution(* PlayMakers.SportsIT.service.CompetitionService.create(..)) || execution(* PlayMakers.SportsIT.service.CompetitionService.update(..))", returning = "competition")
+    public void onCompetitionSaved(Competition competition) {
+        competitionListCache.invalidateAll();
+        log.info("대회 검색 색인 갱신: {}", competition.getCompetitionId());
+        try {
+            competitionSearchIndex.index(competition.getCompetitionId());
+        } catch (RuntimeException e) {
+            log.warn("대회 검색 색인 갱신 실패: {}", competition.getCompetitionId(), e);
+        }
+        try {
+            competitionStateTransitionEngine.reschedule(competition.getCompetitionId());
+        } catch (RuntimeException e) {
+            log.warn("대회 상태 전환 예약 실패: {}", competition.getCompetitionId(), e);
+        }
+    }
+
+    @AfterReturning(value = "execution(* PlayMakers.SportsIT.service.CompetitionService.delete(..)) && args(competitionId)", argNames = "competitionId")
+    public void onCompetitionDeleted(Long competitionId) {
+        competitionListCache.invalidateAll();
+        log.info("대회 검색 색인 삭제: {}", competitionId);
+        competitionSearchIndex.remove(competitionId);
+        competitionStateTransitionEngine.cancel(competitionId);
+    }
+}
@@ -0,0 +1,64 @@
+package PlayMakers.SportsIT.config;
+
+import PlayMakers.SportsIT.domain.CompetitionForm;
+import PlayMakers.SportsIT.domain.CompetitionTemplate;
+import PlayMakers.SportsIT.repository.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 대회 신청 템플릿, 참가 신청서 저장소 설정
+ * document.store.primary: 조회와 쓰기에 사용하는 저장소 (firestore, jdbc, memory / 기본값 firestore)
+ * document.store.secondary: 쓰기를 함께 반영할 저장소 (none, firestore, jdbc / 기본값 none)
+ *
+ * 저장소 이관 순서 (Firestore -> DB)
+ *  1. primary=firestore, secondary=jdbc 로 이중 쓰기를 켜고, 기존 문서를 DocumentStoreBackfill로 복사한다.
+ *  2. primary=jdbc, secondary=firestore 로 조회를 DB로 옮긴다. (문제가 생기면 1로 되돌린다.)
+ *  3. primary=jdbc, secondary=none
+ */
+@Slf4j
+@Configuration
+public class DocumentStoreConfig {
+    public static final String TEMPLATE_COLLECTION = "template";
+    public static final String FORM_COLLECTION = "form";
+
+    @Bean
+    public DocumentStore<CompetitionTemplate> templateStore(JdbcTemplate jdbcTemplate,
+                                                            @Value("${document.store.primary:firestore}") String primary,
+                                                            @Value("${document.store.secondary:none}") String secondary) {
+        return create("template", TEMPLATE_COLLECTION, "template_document", CompetitionTemplate.class, jdbcTemplate, primary, secondary);
+    }
+
+    @Bean
+    public DocumentStore<CompetitionForm> formStore(JdbcTemplate jdbcTemplate,
+                                                    @Value("${document.store.primary:firestore}") String primary,
+                                                    @Value("${document.store.secondary:none}") String secondary) {
+        return create("form", FORM_COLLECTION, "form_document", CompetitionForm.class, jdbcTemplate, primary, secondary);
+    }
+
+    private static <T> DocumentStore<T> create(String name, String collection, String table, Class<T> type,
+                                               JdbcTemplate jdbcTemplate, String primary, String secondary) {
+        DocumentStore<T> primaryStore = of(primary, collection, table, type, jdbcTemplate);
+        if (secondary == null || secondary.isBlank() || secondary.equals("none")) {
+            log.info("{} 저장소: {}", name, primary);
+            return primaryStore;
+        }
+        if (secondary.equals(primary)) {
+            throw new IllegalArgumentException("document.store.secondary는 primary와 달라야 합니다: " + secondary);
+        }
+        log.info("{} 저장소: {} (이중 쓰기: {})", name, primary, secondary);
+        return new DualWriteDocumentStore<>(name, primaryStore, of(secondary, collection, table, type, jdbcTemplate));
+    }
+
+    private static <T> DocumentStore<T> of(String store, String collection, String table, Class<T> type, JdbcTemplate jdbcTemplate) {
+        return switch (store) {
+            case "firestore" -> new FirestoreDocumentStore<>(collection, type);
+            case "jdbc" -> new JdbcDocumentStore<>(jdbcTemplate, table, type);
+            case "memory" -> new InMemoryDocumentStore<>(type);
+            default -> throw new IllegalArgumentException("지원하지 않는 document.store 값입니다: " + store);
+        };
+    }
+}
@@ -2,12 +2,16 @@ package PlayMakers.SportsIT.controller;
 
 import PlayMakers.SportsIT.domain.*;
 import PlayMakers.SportsIT.dto.*;
+import PlayMakers.SportsIT.enums.ExportFormat;
 import PlayMakers.SportsIT.exceptions.ErrorCode;
 import PlayMakers.SportsIT.exceptions.RequestDeniedException;
 import PlayMakers.SportsIT.exceptions.UnAuthorizedException;
 import PlayMakers.SportsIT.service.*;
 import PlayMakers.SportsIT.utils.api.ApiUtils;
 import PlayMakers.SportsIT.utils.api.CommonResponse;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
+import com.google.api.gax.rpc.ApiException;
+import com.google.cloud.BaseServiceException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -22,15 +26,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import static java.lang.Integer.parseInt;
@@ -50,6 +59,8 @@ public class CompetitionController {
     private final AgreementService agreementService;
     private final CompetitionFormService competitionFormService;
     private final ParticipantService participantService;
+    private final AdmissionQueueService admissionQueueService;
+    private final DocumentStoreBackfill documentStoreBackfill;
 
     /*
         대회 생성
@@ -132,24 +143,26 @@ public class CompetitionController {
      * @param keyword String
      * @param filteringConditions List<String>
      * @param orderBy String
+     * @param cursor String
      * @param page String
      * @param size String
-     * @return ResponseEntity<?> - 200 : success: true, result: Slice<Competition>
+     * @return ResponseEntity<?> - 200 : success: true, result: CursorSlice<CompetitionDto.Summary>
      */
     @Operation(summary = "대회 슬라이스 조회 API", description = """
             \uD83D\uDCCC 대회 목록을 불러옵니다. Pagination으로 구현되어 page 값이 필요합니다.
             \n"keyword"는 검색시 대회의 {대회 제목, 주최자 이름, 종목 한글명}에 포함되어있을 경우 해당 대회를 검색 결과에 포함시킵니다. 전체 조회를 원할 경우 비워둡니다.
-            \n"orderBy"는 대회 목록 정렬시 사용합니다. 기본 값은 createdDate입니다.
+            \n"orderBy"는 대회 목록 정렬시 사용합니다. 기본 값은 createdDate입니다. 검색어가 있을 때 relevance를 사용하면 검색 관련도 순으로 정렬합니다.
             \n"filteryBy"는 대회 목록을 필터링 할 경우 사용합니다. 대회 상태(PLANNING~END)는 OR 연산을, 일부 조건(recruitignEnd, totalPrize, recommend)는 AND 연산을 수행한 결과를 반환합니다. 복수 개의 필터링 사용이 가능합니다. (ex. filteringConditions=RECRUITING&filteringConditions=PLANNING)
-            \n"page"와 "size"는 Pagination 파라미터입니다. 매 요청마다 size는 고정시키고, page만 변경하여 새로운 대회 데이터를 받아올 수 있습니다.\n\n
-            ✔️ 성공시 result와 success: true를 반환합니다. result에는 대회 목록(content)와 page 정보(size, number, first, last, numberOfElements, empty)를 확인할 수 있습니다. (200)\n\n
+            \n"page"와 "size"는 Pagination 파라미터입니다. 매 요청마다 size는 고정시키고, page만 변경하여 새로운 대회 데이터를 받아올 수 있습니다.
+            \n"cursor"는 이전 응답의 nextCursor 값입니다. cursor를 전달하면 page는 무시되고 해당 위치 이후의 대회를 조회합니다. 깊은 페이지를 조회할 때는 page 대신 cursor 사용을 권장합니다.\n\n
+            ✔️ 성공시 result와 success: true를 반환합니다. result에는 대회 요약 목록(content)와 page 정보(size, number, first, last, numberOfElements, empty), 다음 페이지 커서(nextCursor, 마지막 페이지면 null)를 확인할 수 있습니다. (200)\n\n
             ❌ 실패시 HTTP Status Code와 에러 코드를 반환합니다.
             """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "대회 슬라이스 조회 성공", content = @Content(schema = @Schema(ref = "#/components/schemas/CompetitionSlice"))),
     })
     @GetMapping("/slice")
-    public ResponseEntity<CommonResponse<Slice<Competition>>> getCompetitionSlice(
+    public ResponseEntity<CommonResponse<CursorSlice<CompetitionDto.Summary>>> getCompetitionSlice(
             @Parameter(name="keyword", description="검색어(없으면 전체조회)", examples= {@ExampleObject(name="전체 조회"), @ExampleObject(name="검색", value="팔씨름")}) @RequestParam(required = false) String keyword,
             @Parameter(name="filterBy", description="필터 조건", examples={
                     @ExampleObject(name="PLANNING", value="PLANNING", description="모집 전 : 대회 모집일 전"),
@@ -164,17 +177,31 @@ public class CompetitionController {
             @Parameter(name="orderBy", description="정렬 조건", examples={
                     @ExampleObject(name="등록순", value="createdDate"),
                     @ExampleObject(name="조회수 순", value="viewCount"),
+                    @ExampleObject(name="관련도 순", value="relevance"),
             }) @RequestParam(required = false) String orderBy,
+            @Parameter(name="cursor", description="다음 페이지 커서(이전 응답의 nextCursor, 없으면 page 기준 조회)")
+            @RequestParam(required = false) String cursor,
             @Parameter(name="page", description="페이지 번호", examples= {@ExampleObject(name="0", value="0")})
-            @RequestParam String page,
+            @RequestParam(required = false, defaultValue = "0") String page,
             @Parameter(name="size", description="한 페이지당 대회 수", examples= {@ExampleObject(name="10", value="10")})
             @RequestParam String size) {
-        log.info("대회 slice 요청: {} {} {} {} {}", keyword, filteringConditions, orderBy, page, size);
+        log.info("대회 slice 요청: {} {} {} {} {} {}", keyword, filteringConditions, orderBy, cursor, page, size);
 
-        Slice<Competition> competitions = competitionService.getCompetitionSlice(keyword, filteringConditions, orderBy, parseInt(page), parseInt(size));
+        CursorSlice<CompetitionDto.Summary> competitions = competitionService.getCompetitionSliceByCursor(keyword, filteringConditions, orderBy, cursor, parseInt(page), parseInt(size));
         return ResponseEntity.ok(ApiUtils.success(HttpStatus.OK.value(), competitions)); // 200
     }
 
+    @Operation(summary = "대회 목록 캐시 통계 API", description = """
+            \uD83D\uDCCC 대회 목록(/slice) 캐시의 hit/miss 통계를 조회합니다. 관리자만 조회할 수 있습니다.\n\n
+            ✔️ 성공시 result와 success: true를 반환합니다. (200)\n\n
+            ❌ 실패시 HTTP Status Code와 에러 코드를 반환합니다.
+            """)
+    @GetMapping("/slice/cache-stats")
+    public ResponseEntity<CommonResponse<Map<String, Object>>> getCompetitionListCacheStats(@AuthenticationPrincipal User user) {
+        checkAdmin(user, "관리자만 캐시 통계를 조회할 수 있습니다.");
+        return ResponseEntity.ok(ApiUtils.success(HttpStatus.OK.value(), competitionService.getCompetitionListCacheStats())); // 200
+    }
+
     /**
      * 대회 상세 조회 컨트롤러
      * @param competitionId Long
@@ -195,10 +222,9 @@ public class CompetitionController {
             @Parameter(name = "competitionId", description = "대회 ID", required = true, in = ParameterIn.PATH)
             @PathVariable Long competitionId,
             @AuthenticationPrincipal User user) throws Exception {
-        Competition competition = competitionService.findById(competitionId);
+        CompetitionDto.Info dto = competitionService.getCompetitionDetail(competitionId);
         boolean joined = (user != null) && joinCompetitionService.checkAlreadyJoined(Long.parseLong(user.getUsername()), competitionId);
 
-        CompetitionDto.Info dto = CompetitionDto.Info.entityToInfo(competition);
         dto.setJoined(joined);
 
         CommonResponse<CompetitionDto.Info> res = ApiUtils.success(HttpStatus.OK.value(), dto);
@@ -322,6 +348,84 @@ public class CompetitionController {
         }
     }
 
+    /**
+     * 대회 참가 대기열 열기 (주최자 또는 관리자)
+     * 대기열이 열린 대회는 대기열에서 입장한 회원만 참가 양식 조회, 신청서 제출, 참가 신청을 할 수 있다.
+     * @param ratePerSecond 초당 입장 인원
+     */
+    @Operation(summary = "대회 참가 대기열 열기 API", description = """
+            \uD83D\uDCCC 모집 시작 시 참가 요청이 몰릴 것으로 예상되는 대회의 참가 대기열을 엽니다. 이미 열려 있으면 초당 입장 인원만 바꿉니다. 주최자 또는 관리자만 사용할 수 있습니다.\n\n
+            ✔️ 성공시 success: true를 반환합니다. (200)\n\n
+            ❌ 실패시 HTTP Status Code와 에러 코드를 반환합니다.
+            """)
+    @PutMapping("/{competitionId}/queue")
+    public ResponseEntity<CommonResponse<Object>> openAdmissionQueue(
+            @Parameter(name = "competitionId", description = "대회 ID", required = true, in = ParameterIn.PATH, example="2790") @PathVariable Long competitionId,
+            @Parameter(name = "ratePerSecond", description = "초당 입장 인원", in = ParameterIn.QUERY, example="20")
+            @RequestParam(defaultValue = "20") int ratePerSecond,
+            @AuthenticationPrincipal User user) throws Exception {
+        checkHostOrAdmin(competitionService.findById(competitionId), user, "관리자 또는 작성자 본인만 대기열을 열 수 있습니다.");
+        admissionQueueService.open(competitionId, ratePerSecond);
+        return ResponseEntity.ok(ApiUtils.success(HttpStatus.OK.value(), null)); // 200
+    }
+
+    @Operation(summary = "대회 참가 대기열 닫기 API", description = """
+            \uD83D\uDCCC 대회 참가 대기열을 닫습니다. 대기 중인 회원은 모두 바로 참가할 수 있게 됩니다. 주최자 또는 관리자만 사용할 수 있습니다.\n\n
+            ✔️ 성공시 success: true를 반환합니다. (200)\n\n
+            ❌ 실패시 HTTP Status Code와 에러 코드를 반환합니다.
+            """)
+    @DeleteMapping("/{competitionId}/queue")
+    public ResponseEntity<CommonResponse<Object>> closeAdmissionQueue(
+            @Parameter(name = "competitionId", description = "대회 ID", required = true, in = ParameterIn.PATH, example="2790") @PathVariable Long competitionId,
+            @AuthenticationPrincipal User user) throws Exception {
+        checkHostOrAdmin(competitionService.findById(competitionId), user, "관리자 또는 작성자 본인만 대기열을 닫을 수 있습니다.");
+        admissionQueueService.close(competitionId);
+        return ResponseEntity.ok(ApiUtils.success(HttpStatus.OK.value(), null)); // 200
+    }
+
+    @Operation(summary = "대회 참가 대기열 입장 API", description = """
+            \uD83D\uDCCC 대회 참가 대기열에서 순번을 받습니다. position이 0이 되면 admissionToken을 X-Admission-Token 헤더에 넣어 참가 API를 호출합니다.
+            대기 중에는 queueToken으로 순서 조회 API를 호출합니다. 대기열이 없는 대회는 바로 admissionToken을 받습니다.\n\n
+            ✔️ 성공시 success: true와 queueToken, position, admissionToken을 result에 담아 반환합니다. (200)\n\n
+            ❌ 실패시 HTTP Status Code와 에러 코드를 반환합니다.
+            """)
+    @PostMapping("/{competitionId}/queue/enter")
+    public ResponseEntity<CommonResponse<AdmissionQueueService.Ticket>> enterAdmissionQueue(
+            @Parameter(name = "competitionId", description = "대회 ID", required = true, in = ParameterIn.PATH, example="2790") @PathVariable Long competitionId,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(ApiUtils.success(HttpStatus.OK.value(), admissionQueueService.enter(competitionId, getUid(user)))); // 200
+    }
+
+    @Operation(summary = "대회 참가 대기열 순서 조회 API", description = """
+            \uD83D\uDCCC 대기열 토큰(X-Queue-Token 헤더)으로 앞에 남은 인원을 조회합니다. position이 0이면 admissionToken을 함께 반환합니다.\n\n
+            ✔️ 성공시 success: true와 queueToken, position, admissionToken을 result에 담아 반환합니다. (200)\n\n
+            ❌ 실패시 HTTP Status Code와 에러 코드를 반환합니다. (QUEUE-002: 잘못된 대기열 토큰)
+            """)
+    @GetMapping("/{competitionId}/queue/status")
+    public ResponseEntity<CommonResponse<AdmissionQueueService.Ticket>> getAdmissionQueueStatus(
+            @Parameter(name = "competitionId", description = "대회 ID", required = true, in = ParameterIn.PATH, example="2790") @PathVariable Long competitionId,
+            @RequestHeader("X-Queue-Token") String queueToken,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(ApiUtils.success(HttpStatus.OK.value(), admissionQueueService.status(competitionId, getUid(user), queueToken))); // 200
+    }
+
+    private void checkAdmin(User user, String message) {
+        getUid(user); // 토큰이 비어있으면 EMPTY_TOKEN
+        Member member = getMember(user);
+        if (member == null || member.getMemberType().stream().noneMatch(
+                memberType -> memberType.getRoleName().equals("ROLE_ADMIN"))) {
+            throw new UnAuthorizedException(ErrorCode.ACCESS_DENIED, message);
+        }
+    }
+
+    private void checkHostOrAdmin(Competition competition, User user, String message) {
+        Member member = getMember(user);
+        if (member == null || (!competition.getHost().getUid().equals(member.getUid()) && member.getMemberType().stream().noneMatch(
+                memberType -> memberType.getRoleName().equals("ROLE_ADMIN")))) {
+            throw new UnAuthorizedException(ErrorCode.ACCESS_DENIED, message);
+        }
+    }
+
     /**
      * 대회 참가시 참가 타입에 맞는 포맷 반환, 대회 참가가 불가능할 경우 예외 발생
      * @param competitionId
@@ -343,13 +447,15 @@ public class CompetitionController {
             @ApiResponse(responseCode = "404", description = "(COMPETITION-003) 해당 ID의 대회가 존재하지 않을 경우", content = @Content)
     })
     @GetMapping("/{competitionId}/join/format")
-    public ResponseEntity<Object> getCompetitionContents(
+    public CompletableFuture<ResponseEntity<Object>> getCompetitionContents(
             @Parameter(name = "competitionId", description = "대회 ID", required = true, in = ParameterIn.PATH, example="2790") @PathVariable Long competitionId,
             @Parameter(name = "joinType", description = "참가 타입", required = true, in = ParameterIn.QUERY, examples= {
                     @ExampleObject(name = "선수", description = "선수로 참가할 경우", value="player"),
                     @ExampleObject(name = "관람", description = "관람객으로 참가할 경우", value="viewer")})
             @RequestParam String joinType,
+            @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
             @AuthenticationPrincipal User user) throws Exception{
+        admissionQueueService.checkAdmitted(competitionId, getUid(user), admissionToken);
         Member member = getMember(user);
 
         Map<String, Object> res = new HashMap<>();
@@ -357,7 +463,7 @@ public class CompetitionController {
         if (joinCompetitionService.checkAlreadyJoined(member.getUid(), competitionId)) {
             res.put("success", false);
             res.put("message", "이미 참가한 대회입니다.");
-            return ResponseEntity.ok(res); // 200
+            return CompletableFuture.completedFuture(ResponseEntity.ok(res)); // 200
         }
         try{
             JoinCompetition.joinType type = getJoinType(joinType);
@@ -365,15 +471,18 @@ public class CompetitionController {
         } catch (IllegalArgumentException e) {
             res.put("success", false);
             res.put("message", e.getMessage());
-            return ResponseEntity.ok(res); // 200
+            return CompletableFuture.completedFuture(ResponseEntity.ok(res)); // 200
         }
         Competition target = competitionService.findById(competitionId);
         res.put("success", true);
         res.put("agreements", target.getAgreements());
         String templateId = target.getTemplateID();
-        res.put("template", competitionTemplateService.getTemplate(templateId));
 
-        return ResponseEntity.ok(res); // 200
+        // 템플릿 조회를 기다리는 동안 요청 스레드를 반환한다.
+        return competitionTemplateService.getTemplateAsync(templateId).thenApply(template -> {
+            res.put("template", template);
+            return ResponseEntity.<Object>ok(res); // 200
+        });
     }
 
     /**
@@ -391,13 +500,13 @@ public class CompetitionController {
             """)
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "대회 참가 신청서 성공", content = @Content(schema = @Schema(ref = "#/components/schemas/JoinFormSubmitResponse"))),
-            @ApiResponse(responseCode = "400", description = "(COMPETITION-005) 대회 모집 기간이 아니거나 이미 참가한 대회일 경우", content = @Content),
+            @ApiResponse(responseCode = "400", description = "(COMPETITION-005) 대회 모집 기간이 아니거나 이미 참가한 대회일 경우, (COMPETITION-006) 신청서가 대회 템플릿과 맞지 않을 경우", content = @Content),
             @ApiResponse(responseCode = "401", description = "(AUTH-001) Token이 비어있는 경우", content = @Content),
             @ApiResponse(responseCode = "403", description = "(AUTH-005) 로그인한 사용자가 체육인 권한이 없을 경우", content = @Content),
             @ApiResponse(responseCode = "404", description = "(COMPETITION-003) 해당 ID의 대회가 존재하지 않을 경우", content = @Content)
     })
     @PostMapping("/{competitionId}/join/format")
-    public ResponseEntity<Object> postJoinForm(
+    public CompletableFuture<ResponseEntity<Object>> postJoinForm(
             @Parameter(name = "competitionId", description = "대회 ID", required = true, in = ParameterIn.PATH, example="2790") @PathVariable Long competitionId,
             @Parameter(name = "joinType", description = "참가 타입", required = true, in = ParameterIn.QUERY, examples= {
                     @ExampleObject(name = "선수", description = "선수로 참가할 경우", value="player"),
@@ -405,8 +514,10 @@ public class CompetitionController {
             @RequestParam String joinType,
             @Parameter(name = "formDto", description = "대회 참가 신청서", required = true, schema = @Schema(implementation = CompetitionFormDto.class))
             @RequestBody CompetitionFormDto formDto,
+            @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
             @AuthenticationPrincipal User user) throws Exception{
 
+        admissionQueueService.checkAdmitted(competitionId, getUid(user), admissionToken);
         Member member = getMember(user);
         Competition target = competitionService.findById(competitionId);
         Map<String, Object> res = new HashMap<>();
@@ -418,18 +529,20 @@ public class CompetitionController {
 
         joinCompetitionService.checkJoinable(competitionId, type);
 
-        // 결제 금액 계산
+        // 템플릿과 맞는지 검증하고 결제 금액을 계산한 뒤에 신청서를 저장한다. (잘못된 신청서는 저장하지 않는다)
         String templateId = target.getTemplateID();
-        CompetitionTemplate template = competitionTemplateService.getTemplate(templateId);
-        Long amount = competitionService.calculatePrice(template, formDto);
+        CompletableFuture<CompetitionFormValidator> validatorFuture = competitionTemplateService.getFormValidatorAsync(templateId);
+        CompletableFuture<PricingTable> pricingFuture = competitionTemplateService.getPricingTableAsync(templateId);
 
-        String formId = competitionFormService.createForm(formDto.toEntity());
-
-        res.put("success", true);
-        res.put("amount", amount);
-        res.put("form", formId); // 신청서 저장
-
-        return ResponseEntity.ok(res); // 200
+        return validatorFuture.thenCombine(pricingFuture, (validator, pricingTable) -> {
+            if (validator != null) validator.validate(formDto.getSectors(), formDto.getAnswers());
+            return competitionService.calculatePrice(pricingTable, formDto);
+        }).thenCompose(amount -> competitionFormService.createFormAsync(formDto.toEntity()).thenApply(formId -> {
+            res.put("success", true);
+            res.put("amount", amount);
+            res.put("form", formId); // 신청서 저장
+            return ResponseEntity.<Object>ok(res); // 200
+        }));
     }
 
 
@@ -449,6 +562,29 @@ public class CompetitionController {
         }
     }
 
+    @Operation(summary = "대회 참가자 명단 내보내기 API", description = """
+            \uD83D\uDCCC 대회 참가자 명단을 CSV 또는 JSON Lines 파일로 내려받습니다. 주최자 또는 관리자만 사용할 수 있습니다.
+            종목(sectorTitle), 세부 종목(subSectorName)으로 거를 수 있으며, 전화번호는 뒤 4자리만 포함됩니다.\n\n
+            ✔️ 성공시 명단 파일을 반환합니다. (200)\n\n
+            ❌ 실패시 HTTP Status Code와 에러 코드를 반환합니다.
+            """)
+    @GetMapping("/{competitionId}/participants/export")
+    public ResponseEntity<StreamingResponseBody> exportParticipants(
+            @Parameter(name = "competitionId", description = "대회 ID", required = true, in = ParameterIn.PATH, example="2790") @PathVariable Long competitionId,
+            @Parameter(name = "format", description = "파일 형식 (CSV, JSONL)", in = ParameterIn.QUERY, example="CSV") @RequestParam(required = false, defaultValue = "CSV") ExportFormat format,
+            @Parameter(name = "sectorTitle", description = "종목", in = ParameterIn.QUERY) @RequestParam(required = false) String sectorTitle,
+            @Parameter(name = "subSectorName", description = "세부 종목", in = ParameterIn.QUERY) @RequestParam(required = false) String subSectorName,
+            @AuthenticationPrincipal User user) {
+        checkHostOrAdmin(competitionService.findById(competitionId), user, "관리자 또는 작성자 본인만 참가자 명단을 내려받을 수 있습니다.");
+        StreamingResponseBody body = out -> participantService.export(competitionId, sectorTitle, subSectorName, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("participants-" + competitionId + "." + format.getExtension())
+                        .build().toString())
+                .body(body); // 200
+    }
+
     @GetMapping("/{competitionId}/join/player/agreements")
     public ResponseEntity<Object> getAgreements(@PathVariable Long competitionId) throws Exception{
         Map<String, Object> res = new HashMap<>();
@@ -481,11 +617,13 @@ public class CompetitionController {
     public ResponseEntity<Object> joinCompetition(@RequestBody JoinCompetitionDto joinCompetitionDto,
                                                   @RequestParam String joinType,
                                                   @PathVariable Long competitionId,
+                                                  @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
                                                   @AuthenticationPrincipal User user) throws Exception{
 
         Map<String, Object> res = new HashMap<>();
 
         log.info("대회 참가 요청 Controller: {}", joinCompetitionDto);
+        admissionQueueService.checkAdmitted(competitionId, getUid(user), admissionToken);
         Member member = getMember(user);
         joinCompetitionDto.setUid(member.getUid());
         Competition competition = competitionService.findById(competitionId);
@@ -495,6 +633,10 @@ public class CompetitionController {
         } else {
             joinCompetitionDto.setType(JoinCompetition.joinType.PLAYER);
         }
+        // 신청서 조회를 먼저 요청해 두고, 그동안 참가 신청을 처리한다.
+        CompletableFuture<CompetitionForm> formFuture = joinType.equals("player") && joinCompetitionDto.getFormId() != null
+                ? competitionFormService.getFormAsync(joinCompetitionDto.getFormId())
+                : null;
         JoinCompetition joinCompetition = joinCompetitionService.join(joinCompetitionDto);
 
         List<Participant> participants = null;
@@ -503,7 +645,7 @@ public class CompetitionController {
         // Participants 객체 생성
         if(joinType.equals("player")){
             try {
-                CompetitionForm form = competitionFormService.getForm(joinCompetition.getFormId());
+                CompetitionForm form = formFuture != null ? formFuture.get() : competitionFormService.getForm(joinCompetition.getFormId());
                 log.info("참가자 신청서: {}", form);
                 participants = participantService.parseAndSaveParticipants(member, competition, form);
                 for (Participant participant: participants) {
@@ -540,7 +682,7 @@ public class CompetitionController {
             result = joinCompetitionService.deleteJoinCompetition(joincompetitionDto);
             String formId = join.getFormId();
             if (formId != null) {
-                competitionFormService.deleteForm(formId);
+                competitionFormService.deleteFormAsync(formId); // 완료를 기다리지 않음 (실패 시 로그)
             }
         } catch (Exception e) {
             res.put("success", false);
@@ -557,21 +699,25 @@ public class CompetitionController {
     /**
      * 체육인 별 참가 대회 조회
      * @param userId : Member의 uid
+     * @param cursor : 이전 응답의 nextCursor (없으면 page 번호로 조회)
      * @param page : 페이지 번호
      * @param size : 페이지 사이즈
-     * @return : Slice<JoinCompetitionDto.UserJoinResponse>
+     * @return : CursorSlice<JoinCompetitionDto.UserJoinResponse> (참가 신청일 최신순)
+     *           기존 Slice 응답 필드에 다음 페이지 조회용 nextCursor가 추가되었고 (마지막 페이지면 null),
+     *           competition에는 포스터 목록(posters) 대신 대표 포스터 URL(posterUrl)과 대회 목록 필드가 담긴다. (posters는 null)
      * @throws Exception
      */
     @GetMapping("/join/slice/{userId}")
     public ResponseEntity<Object> getJoinCompetitionSlice(@PathVariable Long userId,
+                                                                      @RequestParam(required = false) String cursor,
                                                                       @RequestParam(required = false) Long page,
                                                                       @RequestParam(required = false) Long size) throws Exception {
         Map<String, Object> res = new HashMap<>();
-        Slice<JoinCompetitionDto.UserJoinResponse> result = null;
+        CursorSlice<JoinCompetitionDto.UserJoinResponse> result = null;
         page = page == null ? 0 : page;
         size = size == null ? 15 : size;
         try {
-            result =  joinCompetitionService.findJoinedCompetitionsByUid(userId, page, size);
+            result =  joinCompetitionService.findJoinedCompetitionsByUid(userId, cursor, page, size);
         } catch (Exception e) {
             res.put("success", false);
             res.put("message", e.getMessage());
@@ -651,11 +797,10 @@ public class CompetitionController {
             @ApiResponse(responseCode = "204", description = "대회 템플릿(선수) 수정 성공", content = @Content(schema = @Schema(ref = "#/components/schemas/PostResponse"))),
     })
     @PutMapping("/template/{templateId}")
-    public ResponseEntity<CommonResponse> updateTemplate(@PathVariable String templateId, @RequestBody CompetitionTemplate template) throws Exception {
+    public CompletableFuture<ResponseEntity<CommonResponse>> updateTemplate(@PathVariable String templateId, @RequestBody CompetitionTemplate template) throws Exception {
         log.info("템플릿 수정 요청 Controller: {}", template);
-        competitionTemplateService.updateTemplate(templateId, template);
-
-        return ResponseEntity.ok(ApiUtils.success(HttpStatus.NO_CONTENT.value(), null)); // 204
+        return competitionTemplateService.updateTemplateAsync(templateId, template)
+                .thenApply(result -> ResponseEntity.ok(ApiUtils.success(HttpStatus.NO_CONTENT.value(), null))); // 204
     }
 
     @Operation(summary = "대회 신청 템플릿 조회 API", description = """
@@ -668,13 +813,33 @@ public class CompetitionController {
             @ApiResponse(responseCode = "404", description = "요청한 템플릿 ID를 찾을 수 없을 경우", content = @Content),
     })
     @GetMapping("/template/{templateId}")
-    public ResponseEntity<?> getTemplate(@PathVariable String templateId) throws Exception {
+    public CompletableFuture<ResponseEntity<?>> getTemplate(@PathVariable String templateId) throws Exception {
         log.info("템플릿 조회 요청 Controller: {}", templateId);
-        CompetitionTemplate template = competitionTemplateService.getTemplate(templateId);
-        Map<String, Object> result = new HashMap<>();
-        result.put("success", true);
-        result.put("result", template);
-        return ResponseEntity.ok(ApiUtils.success(HttpStatus.OK.value(), template)); // 200
+        return competitionTemplateService.getTemplateAsync(templateId)
+                .thenApply(template -> ResponseEntity.ok(ApiUtils.success(HttpStatus.OK.value(), template))); // 200
+    }
+
+    @Operation(summary = "대회 신청 템플릿 캐시 통계 API", description = """
+            \uD83D\uDCCC 대회 신청 템플릿 캐시의 hit/miss 통계를 조회합니다. 관리자만 조회할 수 있습니다.\n\n
+            ✔️ 성공시 result와 success: true를 반환합니다. (200)\n\n
+            ❌ 실패시 HTTP Status Code와 에러 코드를 반환합니다.
+            """)
+    @GetMapping("/template/cache-stats")
+    public ResponseEntity<CommonResponse<Map<String, Object>>> getTemplateCacheStats(@AuthenticationPrincipal User user) {
+        checkAdmin(user, "관리자만 캐시 통계를 조회할 수 있습니다.");
+        return ResponseEntity.ok(ApiUtils.success(HttpStatus.OK.value(), competitionTemplateService.stats())); // 200
+    }
+
+    @Operation(summary = "템플릿/신청서 저장소 이관 API", description = """
+            \uD83D\uDCCC 이중 쓰기(document.store.secondary) 중에 기존 템플릿과 신청서를 secondary 저장소로 복사합니다. 관리자만 사용할 수 있습니다.
+            secondary에 이미 있는 문서는 덮어쓰지 않으므로 여러 번 실행해도 됩니다.\n\n
+            ✔️ 성공시 result에 저장소별 조회/복사/실패 문서 수와 success: true를 반환합니다. (200)\n\n
+            ❌ 실패시 HTTP Status Code와 에러 코드를 반환합니다.
+            """)
+    @PostMapping("/document-store/backfill")
+    public ResponseEntity<CommonResponse<List<DocumentStoreBackfill.Result>>> backfillDocumentStore(@AuthenticationPrincipal User user) throws Exception {
+        checkAdmin(user, "관리자만 저장소를 이관할 수 있습니다.");
+        return ResponseEntity.ok(ApiUtils.success(HttpStatus.OK.value(), documentStoreBackfill.backfillAll())); // 200
     }
 
     @Operation(summary = "대회 신청 템플릿 삭제 API", description = """
@@ -687,10 +852,10 @@ public class CompetitionController {
             @ApiResponse(responseCode = "404", description = "요청한 템플릿 ID를 찾을 수 없을 경우", content = @Content),
     })
     @DeleteMapping("/template/{templateId}")
-    public ResponseEntity<Void> deleteTemplate(@PathVariable String templateId) throws Exception {
+    public CompletableFuture<ResponseEntity<Void>> deleteTemplate(@PathVariable String templateId) throws Exception {
         log.info("템플릿 삭제 요청 Controller: {}", templateId);
-        competitionTemplateService.deleteTemplate(templateId);
-        return ResponseEntity.noContent().build(); // 204
+        return competitionTemplateService.deleteTemplateAsync(templateId)
+                .thenApply(result -> ResponseEntity.noContent().build()); // 204
     }
 
     @Operation(summary = "대회 신청서(선수) 조회 API", description = """
@@ -703,13 +868,14 @@ public class CompetitionController {
             @ApiResponse(responseCode = "404", description = "요청한 신청서 ID를 찾을 수 없을 경우", content = @Content),
     })
     @GetMapping("/form/{formId}")
-    public ResponseEntity<?> getForm(@PathVariable String formId) throws Exception {
+    public CompletableFuture<ResponseEntity<?>> getForm(@PathVariable String formId) throws Exception {
         log.info("템플릿 조회 요청 Controller: {}", formId);
-        CompetitionForm form = competitionFormService.getForm(formId);
-        Map<String, Object> result = new HashMap<>();
-        result.put("success", true);
-        result.put("result", form);
-        return ResponseEntity.ok(result); // 200
+        return competitionFormService.getFormAsync(formId).thenApply(form -> {
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("result", form);
+            return ResponseEntity.ok(result); // 200
+        });
     }
     @GetMapping("/result/{competitionId}")
     public ResponseEntity<List<CompetitionResultDto>> getCompetitionResult(@PathVariable Long competitionId){
@@ -731,7 +897,7 @@ public class CompetitionController {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(res); // 404
     }
 
-    @ExceptionHandler({ExecutionException.class, InterruptedException.class})
+    @ExceptionHandler({ExecutionException.class, InterruptedException.class, ApiException.class, BaseServiceException.class})
     public ResponseEntity<?> handleFirestoreException(Exception exception) {
         Map<String, Object> res = new HashMap<>();
         res.put("success", false);
@@ -771,4 +937,11 @@ public class CompetitionController {
         return memberService.findByUid(Long.parseLong(user.getUsername())).orElse(null);
     }
 
+    private static Long getUid(User user) {
+        if (user == null) {
+            throw new UnAuthorizedException(ErrorCode.EMPTY_TOKEN, "Access Token이 비어있거나 잘못 되었습니다.");
+        }
+        return Long.parseLong(user.getUsername());
+    }
+
 }
@@ -1,12 +1,19 @@
 package PlayMakers.SportsIT.controller;
 
+import PlayMakers.SportsIT.domain.Member;
+import PlayMakers.SportsIT.enums.NotificationType;
+import PlayMakers.SportsIT.scheduler.NotificationArchiver;
+import PlayMakers.SportsIT.scheduler.OutboxDispatcher;
 import PlayMakers.SportsIT.service.MemberService;
 import PlayMakers.SportsIT.service.NotificationService;
+import PlayMakers.SportsIT.service.NotificationStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.net.http.HttpResponse;
 import java.util.HashMap;
@@ -18,43 +25,121 @@ import java.util.Map;
 public class NotificationController {
     private final NotificationService notificationService;
     private final MemberService memberService;
+    private final OutboxDispatcher outboxDispatcher;
+    private final NotificationArchiver notificationArchiver;
+    private final NotificationStreamService notificationStreamService;
+
+    /**
+     * 실시간 알림 구독 (Server-Sent Events)
+     * notification 이벤트(새 알림, id = 알림 id)와 unread-count 이벤트(확인하지 않은 알림 수)를 보낸다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamNotification(@AuthenticationPrincipal User user,
+                                  @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) throws Exception {
+        if (user == null) throw new IllegalAccessException("로그인이 필요합니다.");
+        Long afterId = lastEventId == null || lastEventId.isBlank() ? null : Long.parseLong(lastEventId.trim());
+        return notificationStreamService.subscribe(Long.parseLong(user.getUsername()), afterId);
+    }
 
     @GetMapping("/count-new")
     ResponseEntity<Object> countNewNotification(@AuthenticationPrincipal User user) throws Exception {
-        Long count = (long) notificationService.getUncheckedNotificationCount(memberService.findOne(user.getUsername()));
+        Map<NotificationType, Long> counts = notificationService.getUncheckedNotificationCounts(Long.parseLong(user.getUsername()));
         Map<String, Object> res = new HashMap<>() {{
             put("success", true);
-            put("count", count);
+            put("count", counts.values().stream().mapToLong(Long::longValue).sum());
+            put("activity", counts.get(NotificationType.ACTIVITY));
+            put("competition", counts.get(NotificationType.COMPETITION));
         }};
         return ResponseEntity.ok(res);
     }
+    /**
+     * 활동 알림 목록 (최신순, cursor에 이전 응답의 nextCursor를 넣으면 다음 페이지)
+     */
     @GetMapping("/list/activity")
-    ResponseEntity<Object> getActivityNotificationList(@AuthenticationPrincipal User user) throws Exception {
+    ResponseEntity<Object> getActivityNotificationList(@AuthenticationPrincipal User user,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false, defaultValue = "15") int size) throws Exception {
         Map<String, Object> res = new HashMap<>() {{
             put("success", true);
-            put("result", notificationService.getActivityNotificationsByMember(memberService.findOne(user.getUsername())));
+            put("result", notificationService.getNotifications(Long.parseLong(user.getUsername()), NotificationType.ACTIVITY, cursor, size));
         }};
         return ResponseEntity.ok(res);
     }
 
+    /**
+     * 대회 알림 목록 (최신순, cursor에 이전 응답의 nextCursor를 넣으면 다음 페이지)
+     */
     @GetMapping("/list/competition")
-    ResponseEntity<Object> getCompetitionNotificationList(@AuthenticationPrincipal User user) throws Exception {
+    ResponseEntity<Object> getCompetitionNotificationList(@AuthenticationPrincipal User user,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false, defaultValue = "15") int size) throws Exception {
+        Map<String, Object> res = new HashMap<>() {{
+            put("success", true);
+            put("result", notificationService.getNotifications(Long.parseLong(user.getUsername()), NotificationType.COMPETITION, cursor, size));
+        }};
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 알림 일괄 확인
+     * type(ACTIVITY, COMPETITION)이 없으면 모든 종류, upTo(알림 id 또는 목록 커서)가 없으면 모든 알림을 확인 처리한다.
+     */
+    @PostMapping("/check-all")
+    ResponseEntity<Object> checkAllNotification(@AuthenticationPrincipal User user,
+                                                @RequestParam(required = false) NotificationType type,
+                                                @RequestParam(required = false) String upTo) throws Exception {
+        int checked = notificationService.checkNotifications(Long.parseLong(user.getUsername()), type, upTo);
         Map<String, Object> res = new HashMap<>() {{
             put("success", true);
-            put("result", notificationService.getCompetitionNotificationsByMember(memberService.findOne(user.getUsername())));
+            put("count", checked);
         }};
         return ResponseEntity.ok(res);
     }
+
     @GetMapping("/check/{notificationId}")
     ResponseEntity<Object> checkNotification(@AuthenticationPrincipal User user,
                                              @PathVariable Long notificationId) throws Exception {
-        notificationService.checkNotification(notificationId, memberService.findOne(user.getUsername()));
+        notificationService.checkNotification(notificationId, Long.parseLong(user.getUsername()));
         Map<String, Object> res = new HashMap<>() {{
             put("success", true);
         }};
         return ResponseEntity.ok(res);
     }
 
+    /**
+     * 알림 발송(아웃박스) 지연 지표 조회 (관리자)
+     */
+    @GetMapping("/outbox-stats")
+    ResponseEntity<Object> getOutboxStats(@AuthenticationPrincipal User user) throws Exception {
+        checkAdmin(user, "관리자만 알림 발송 지표를 조회할 수 있습니다.");
+        Map<String, Object> res = new HashMap<>() {{
+            put("success", true);
+            put("result", outboxDispatcher.stats());
+        }};
+        return ResponseEntity.ok(res);
+    }
+
+    /**
+     * 마지막 알림 보관 실행 결과 조회 (관리자)
+     */
+    @GetMapping("/archive-stats")
+    ResponseEntity<Object> getArchiveStats(@AuthenticationPrincipal User user) throws Exception {
+        checkAdmin(user, "관리자만 알림 보관 결과를 조회할 수 있습니다.");
+        Map<String, Object> res = new HashMap<>() {{
+            put("success", true);
+            put("result", notificationArchiver.lastRun());
+        }};
+        return ResponseEntity.ok(res);
+    }
+
+    private void checkAdmin(User user, String message) throws IllegalAccessException {
+        Member member = user == null ? null : memberService.findByUid(Long.parseLong(user.getUsername())).orElse(null);
+        if (member == null || member.getMemberType().stream().noneMatch(
+                memberType -> memberType.getRoleName().equals("ROLE_ADMIN"))) {
+            throw new IllegalAccessException(message);
+        }
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleException(Exception e) {
         Map<String, Object> res = new HashMap<>() {{
@@ -0,0 +1,31 @@
+package PlayMakers.SportsIT.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대회 참가 대기열 (admission.queue.store=jdbc 일 때 사용)
+ * issued는 지금까지 발급한 순번, admitted는 입장시킨 마지막 순번이며
+ * 매초 ratePerSecond만큼 admitted가 올라간다. (issued를 넘지 않음)
+ */
+@Entity
+@Table(name = "admission_queue")
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+@Getter
+public class AdmissionQueue {
+    @Id
+    private Long competitionId;
+
+    @Column(nullable = false)
+    private int ratePerSecond;
+
+    @Column(nullable = false)
+    private long issued;
+
+    @Column(nullable = false)
+    private long admitted;
+}
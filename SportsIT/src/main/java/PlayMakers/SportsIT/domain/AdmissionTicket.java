@@ -0,0 +1,33 @@
+package PlayMakers.SportsIT.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 대회 참가 대기열에서 회원이 받은 순번 (admission.queue.store=jdbc 일 때 사용)
+ * (대회, 회원)마다 한 행이므로 같은 회원이 다시 들어와도 처음 받은 순번을 돌려준다.
+ * 대기열을 닫으면 함께 삭제된다.
+ */
+@Entity
+@Table(name = "admission_ticket")
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+public class AdmissionTicket {
+    @EmbeddedId
+    private AdmissionTicketId id;
+
+    @Column(nullable = false)
+    private long sequence;
+
+    @Embeddable
+    @AllArgsConstructor @NoArgsConstructor
+    @Getter @Setter
+    @EqualsAndHashCode
+    public static class AdmissionTicketId implements Serializable {
+        private Long competitionId;
+        private Long uid;
+    }
+}
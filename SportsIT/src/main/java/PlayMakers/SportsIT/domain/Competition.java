@@ -20,6 +20,7 @@ import java.util.Set;
 @Builder
 @DynamicInsert // null인 필드는
 @Entity(name="competition") // 대회 엔티티 이름 지정
+@Table(indexes = @Index(name = "idx_competition_updated_date", columnList = "updatedDate")) // 검색 색인 반영 (CompetitionSearchIndex.refresh)
 public class Competition extends BaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY) // MySQL에서는 AI 해제할 것
     private Long competitionId;
@@ -0,0 +1,137 @@
+package PlayMakers.SportsIT.domain;
+
+import PlayMakers.SportsIT.exceptions.ErrorCode;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 참가 신청서 검증기 (CompetitionTemplate 한 버전을 미리 변환해 둔 것)
+ * 부문별 체급 이름과 질문별 선택지를 HashSet으로 가지고, 신청서가 템플릿과 맞는지 확인한다.
+ * 만든 뒤에는 바뀌지 않으므로(내부 Map, Set을 밖에 내보내지 않음) 여러 요청이 함께 사용할 수 있다.
+ *
+ * - 부문 제목과 체급 이름이 템플릿에 있어야 하고, 같은 부문을 두 번 보낼 수 없다.
+ * - 복수 선택(multi)이 아닌 부문은 체급을 하나만 선택할 수 있다.
+ * - 답변의 질문이 템플릿에 있어야 한다. SINGLE은 선택지 하나, MULTI는 여러 개를 고를 수 있고, 모두 템플릿의 선택지여야 한다.
+ *   SHORT, LONG은 직접 입력한 답변이므로 선택지를 확인하지 않는다.
+ */
+public final class CompetitionFormValidator {
+    private final Map<String, SectorRule> sectors;
+    private final Map<String, QuestionRule> questions;
+
+    private record SectorRule(boolean multi, Set<String> subSectors) {
+    }
+
+    private record QuestionRule(CompetitionTemplate.Type type, Set<String> options) {
+    }
+
+    private CompetitionFormValidator(Map<String, SectorRule> sectors, Map<String, QuestionRule> questions) {
+        this.sectors = sectors;
+        this.questions = questions;
+    }
+
+    public static CompetitionFormValidator of(CompetitionTemplate template) {
+        Map<String, SectorRule> sectors = new HashMap<>();
+        if (template.getSectors() != null) {
+            for (CompetitionTemplate.Sector sector : template.getSectors()) {
+                Set<String> subSectors = new HashSet<>();
+                if (sector.getSubSectors() != null) {
+                    sector.getSubSectors().forEach(subSector -> subSectors.add(subSector.getName()));
+                }
+                // 같은 제목의 부문이 여러 개면 체급을 합친다.
+                SectorRule previous = sectors.get(sector.getTitle());
+                if (previous != null) subSectors.addAll(previous.subSectors());
+                sectors.put(sector.getTitle(), new SectorRule(
+                        sector.isMulti() || (previous != null && previous.multi()), subSectors));
+            }
+        }
+        Map<String, QuestionRule> questions = new HashMap<>();
+        if (template.getQuestionnaires() != null) {
+            for (CompetitionTemplate.Questionnaire questionnaire : template.getQuestionnaires()) {
+                Set<String> options = new HashSet<>();
+                if (questionnaire.getOptions() != null) {
+                    questionnaire.getOptions().forEach(opt -> options.add(opt.getOpt()));
+                }
+                questions.put(questionnaire.getQuestion(), new QuestionRule(questionnaire.getType(), options));
+            }
+        }
+        return new CompetitionFormValidator(sectors, questions);
+    }
+
+    /**
+     * 신청서 검증
+     * @throws InvalidValueException 템플릿과 맞지 않는 경우 (COMPETITION-006)
+     */
+    public void validate(List<CompetitionForm.Sector> formSectors, List<CompetitionForm.Answer> answers) {
+        if (formSectors != null) {
+            for (int i = 0, n = formSectors.size(); i < n; i++) {
+                validateSector(formSectors, i);
+            }
+        }
+        if (answers != null) {
+            for (int i = 0, n = answers.size(); i < n; i++) {
+                validateAnswer(answers, i);
+            }
+        }
+    }
+
+    private void validateSector(List<CompetitionForm.Sector> formSectors, int index) {
+        CompetitionForm.Sector sector = formSectors.get(index);
+        SectorRule rule = sector == null ? null : sectors.get(sector.getTitle());
+        if (rule == null) {
+            throw invalid("템플릿에 없는 부문입니다: " + (sector == null ? null : sector.getTitle()));
+        }
+        for (int i = 0; i < index; i++) {
+            if (Objects.equals(sector.getTitle(), formSectors.get(i).getTitle())) {
+                throw invalid("같은 부문이 여러 번 있습니다: " + sector.getTitle());
+            }
+        }
+        if (sector.getSubSectors() == null) return;
+        int checked = 0;
+        for (int i = 0, n = sector.getSubSectors().size(); i < n; i++) {
+            CompetitionForm.SubSector subSector = sector.getSubSectors().get(i);
+            if (subSector == null || !rule.subSectors().contains(subSector.getName())) {
+                throw invalid("템플릿에 없는 체급입니다: " + sector.getTitle() + " "
+                        + (subSector == null ? null : subSector.getName()));
+            }
+            if (subSector.isChecked()) checked++;
+        }
+        if (checked > 1 && !rule.multi()) {
+            throw invalid("체급을 하나만 선택할 수 있는 부문입니다: " + sector.getTitle());
+        }
+    }
+
+    private void validateAnswer(List<CompetitionForm.Answer> answers, int index) {
+        CompetitionForm.Answer answer = answers.get(index);
+        QuestionRule rule = answer == null ? null : questions.get(answer.getQuestion());
+        if (rule == null) {
+            throw invalid("템플릿에 없는 질문입니다: " + (answer == null ? null : answer.getQuestion()));
+        }
+        for (int i = 0; i < index; i++) {
+            if (answers.get(i) != null && Objects.equals(answer.getQuestion(), answers.get(i).getQuestion())) {
+                throw invalid("같은 질문에 여러 번 답했습니다: " + answer.getQuestion());
+            }
+        }
+        if (rule.type() != CompetitionTemplate.Type.SINGLE && rule.type() != CompetitionTemplate.Type.MULTI) return;
+        List<CompetitionForm.Opt> options = answer.getOptions();
+        if (options == null) return;
+        if (rule.type() == CompetitionTemplate.Type.SINGLE && options.size() > 1) {
+            throw invalid("하나만 선택할 수 있는 질문입니다: " + answer.getQuestion());
+        }
+        for (int i = 0, n = options.size(); i < n; i++) {
+            CompetitionForm.Opt opt = options.get(i);
+            if (opt == null || !rule.options().contains(opt.getOpt())) {
+                throw invalid("질문에 없는 선택지입니다: " + answer.getQuestion() + " " + (opt == null ? null : opt.getOpt()));
+            }
+        }
+    }
+
+    private static InvalidValueException invalid(String message) {
+        return new InvalidValueException(ErrorCode.INVALID_JOIN_FORM, message);
+    }
+}
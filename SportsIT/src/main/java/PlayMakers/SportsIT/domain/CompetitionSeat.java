@@ -0,0 +1,38 @@
+package PlayMakers.SportsIT.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 대회별, 참가 종류(선수/관람객)별 좌석
+ * 참가 신청 시 taken < capacity 인 경우에만 taken을 1 증가시키는 UPDATE 한 문장으로 좌석을 예약하여,
+ * 동시에 신청이 몰려도 정원을 넘지 않는다. (CompetitionSeatService)
+ * capacity가 null이면 정원 제한이 없다.
+ */
+@Entity
+@Table(name = "competition_seat")
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+public class CompetitionSeat {
+    @EmbeddedId
+    private CompetitionSeatId id;
+
+    private Integer capacity;
+
+    @Column(nullable = false)
+    private int taken;
+
+    @Embeddable
+    @AllArgsConstructor @NoArgsConstructor
+    @Getter @Setter
+    @EqualsAndHashCode
+    public static class CompetitionSeatId implements Serializable {
+        private Long competitionId;
+        @Enumerated(EnumType.STRING)
+        @Column(length = 20)
+        private JoinCompetition.joinType joinType;
+    }
+}
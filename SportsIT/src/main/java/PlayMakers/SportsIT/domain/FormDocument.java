@@ -0,0 +1,13 @@
+package PlayMakers.SportsIT.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * 대회 참가 신청서 (CompetitionForm JSON)
+ * 참가 신청(join_competition.form_id)과 같은 DB에 두어 참가 신청 처리 중 Firestore를 거치지 않는다.
+ */
+@Entity
+@Table(name = "form_document")
+public class FormDocument extends JsonDocument {
+}
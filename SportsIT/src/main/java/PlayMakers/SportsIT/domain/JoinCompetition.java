@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_join_competition_uid_created", columnList = "uid, createdDate, competition_id"))
 @Getter @Setter
 @AllArgsConstructor @NoArgsConstructor
 @Builder
@@ -0,0 +1,26 @@
+package PlayMakers.SportsIT.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * JSON 문서 테이블 (document.store=jdbc 일 때 사용, JdbcDocumentStore)
+ * id는 Firestore 문서 id와 같은 형식이며, 문서 전체를 body에 JSON으로 저장한다.
+ */
+@MappedSuperclass
+@Getter
+public abstract class JsonDocument {
+    @Id
+    @Column(length = 40)
+    private String id;
+
+    @Column(nullable = false, columnDefinition = "json")
+    private String body;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedDate;
+}
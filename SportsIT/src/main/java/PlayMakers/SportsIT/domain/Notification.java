@@ -4,9 +4,14 @@ import PlayMakers.SportsIT.enums.NotificationTitle;
 import PlayMakers.SportsIT.enums.NotificationType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.checkerframework.checker.units.qual.C;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_notification_receiver_type_id", columnList = "receiver_uid, notification_type, id"),
+        @Index(name = "idx_notification_updated_date_id", columnList = "updatedDate, id") // 실시간 알림 조회 (NotificationStreamService)
+})
 @Getter @Setter
 @AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
@@ -23,6 +28,10 @@ public class Notification extends BaseEntity{
     @Column(nullable = false)
     @Builder.Default
     private boolean checked = false;
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    @Builder.Default
+    private int coalescedCount = 1; // 합쳐진 알림 수 (NotificationCoalescer)
 
     @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, targetEntity = Member.class, optional = false)
     @JoinColumn(name = "receiver_uid")
@@ -34,10 +43,20 @@ public class Notification extends BaseEntity{
 
 
     @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type")
     private NotificationType notificationType;
 
     public void read() {
         this.checked = true;
     }
 
+    /**
+     * 같은 알림을 새로 만들지 않고 이 알림에 합친다.
+     */
+    public void coalesce(Member sender, String message) {
+        this.coalescedCount++;
+        this.sender = sender;
+        this.message = message;
+    }
+
 }
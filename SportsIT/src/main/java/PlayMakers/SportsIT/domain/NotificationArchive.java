@@ -0,0 +1,44 @@
+package PlayMakers.SportsIT.domain;
+
+import PlayMakers.SportsIT.enums.NotificationTitle;
+import PlayMakers.SportsIT.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 알림
+ * 확인한 지 오래된 알림을 notification 테이블에서 옮겨 둔다. (NotificationArchiver)
+ * 회원 연관관계 없이 uid만 저장하며, id는 원래 알림 id를 그대로 사용한다.
+ */
+@Entity
+@Table(name = "notification_archive",
+        indexes = @Index(name = "idx_notification_archive_receiver_id", columnList = "receiver_uid, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationArchive {
+    @Id
+    private Long id;
+    @Column(name = "receiver_uid", nullable = false)
+    private Long receiverUid;
+    @Column(name = "sender_uid")
+    private Long senderUid;
+    @Column(nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    private NotificationTitle title;
+    @Column(nullable = false, length = 100)
+    private String link;
+    @Column(nullable = false, length = 80)
+    private String message;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type")
+    private NotificationType notificationType;
+    @Column(nullable = false)
+    private int coalescedCount;
+    private LocalDateTime createdDate;
+    @Column(nullable = false)
+    private LocalDateTime archivedDate;
+}
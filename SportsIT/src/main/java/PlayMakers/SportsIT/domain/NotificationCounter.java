@@ -0,0 +1,35 @@
+package PlayMakers.SportsIT.domain;
+
+import PlayMakers.SportsIT.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * 회원별, 알림 종류별 확인하지 않은 알림 수
+ * 알림 저장/확인 시 증감하며, 실제 알림 수와 어긋나면 NotificationCounterReconciler가 주기적으로 바로잡는다.
+ */
+@Entity
+@Table(name = "notification_counter")
+@Getter
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+public class NotificationCounter {
+    @EmbeddedId
+    private NotificationCounterId id;
+
+    @Column(nullable = false)
+    private long unreadCount;
+
+    @Embeddable
+    @AllArgsConstructor @NoArgsConstructor
+    @Getter @Setter
+    @EqualsAndHashCode
+    public static class NotificationCounterId implements Serializable {
+        private Long memberUid;
+        @Enumerated(EnumType.STRING)
+        @Column(length = 20)
+        private NotificationType notificationType;
+    }
+}
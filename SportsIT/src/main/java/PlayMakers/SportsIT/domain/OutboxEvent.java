@@ -0,0 +1,64 @@
+package PlayMakers.SportsIT.domain;
+
+import PlayMakers.SportsIT.enums.OutboxEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 (Transactional Outbox)
+ * 회원가입, 대회 참가, 대회 상태 변경, 대회 결과 등록처럼 알림이 필요한 변경이 일어나면
+ * 변경과 같은 트랜잭션에서 이 테이블에 이벤트를 저장하고, OutboxDispatcher가 별도로 꺼내 알림을 발송한다.
+ */
+@Entity
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_event_status_id", columnList = "status, id"))
+@Getter
+@AllArgsConstructor @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Builder
+public class OutboxEvent extends BaseEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    private OutboxEventType eventType;
+
+    @Column(nullable = false)
+    private Long aggregateId; // 대회 아이디 또는 회원 uid (eventType.aggregateType)
+
+    private String payload; // JSON
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Builder.Default
+    private int attempts = 0;
+
+    private String lastError;
+
+    private LocalDateTime dispatchedAt;
+
+    public enum Status {
+        PENDING,
+        DISPATCHED,
+        FAILED // 최대 재시도 횟수 초과
+    }
+
+    public String getOrderingKey() {
+        return eventType.getAggregateType() + ":" + aggregateId;
+    }
+
+    public void dispatched(LocalDateTime now) {
+        this.status = Status.DISPATCHED;
+        this.dispatchedAt = now;
+    }
+
+    public void failed(String error, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= 255 ? error : error.substring(0, 255);
+        if (attempts >= maxAttempts) this.status = Status.FAILED;
+    }
+}
@@ -0,0 +1,91 @@
+package PlayMakers.SportsIT.domain;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 템플릿의 참가비 표 (CompetitionTemplate 한 버전을 미리 변환해 둔 것)
+ * 부문 제목으로 부문 번호를 찾고, 부문별 참가비(cost)와 추가 체급 참가비(expandCost)를 long 배열로 가진다.
+ * 만든 뒤에는 바뀌지 않으므로 여러 요청이 함께 사용할 수 있다.
+ *
+ * 참가비 = 체급을 하나 이상 선택한 부문마다 cost + (선택한 체급 수 - 1) * expandCost
+ * 부문이 64개 이하이면 계산 중에 객체를 만들지 않는다.
+ */
+public final class PricingTable {
+    private static final long NO_PRICE = -1L;
+
+    private final Map<String, Integer> slots;
+    private final long[] costs;
+    private final long[] expandCosts;
+
+    private PricingTable(Map<String, Integer> slots, long[] costs, long[] expandCosts) {
+        this.slots = slots;
+        this.costs = costs;
+        this.expandCosts = expandCosts;
+    }
+
+    public static PricingTable of(CompetitionTemplate template) {
+        List<CompetitionTemplate.Sector> sectors = template.getSectors() == null ? List.of() : template.getSectors();
+        Map<String, Integer> slots = new HashMap<>(sectors.size() * 2);
+        long[] costs = new long[sectors.size()];
+        long[] expandCosts = new long[sectors.size()];
+        for (CompetitionTemplate.Sector sector : sectors) {
+            // 같은 제목의 부문이 여러 개면 마지막 부문의 금액을 사용한다.
+            int slot = slots.computeIfAbsent(sector.getTitle(), title -> slots.size());
+            costs[slot] = sector.getCost() == null ? NO_PRICE : sector.getCost();
+            expandCosts[slot] = sector.getExpandCost() == null ? NO_PRICE : sector.getExpandCost();
+        }
+        return new PricingTable(slots, costs, expandCosts);
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    /**
+     * 신청서에서 선택한 체급의 참가비 합계 (VAT, 수수료, 보험료 제외)
+     * 같은 부문이 신청서에 여러 번 나오면 한 부문으로 보고 계산한다.
+     * @throws IllegalArgumentException 템플릿에 없는 부문이나 금액이 정해지지 않은 부문을 선택한 경우
+     */
+    public long calculate(List<CompetitionForm.Sector> sectors) {
+        long amount = 0L;
+        long selected = 0L; // 체급을 선택한 부문 번호 (0~63)
+        long[] selectedOver64 = slots.size() > 64 ? new long[(slots.size() - 64 + 63) >>> 6] : null;
+        for (int i = 0, n = sectors.size(); i < n; i++) {
+            CompetitionForm.Sector sector = sectors.get(i);
+            int checked = countChecked(sector.getSubSectors());
+            if (checked == 0) continue;
+
+            Integer slot = slots.get(sector.getTitle());
+            if (slot == null) {
+                throw new IllegalArgumentException("선택한 부문이 템플릿에 존재하지 않습니다: " + sector.getTitle());
+            }
+            boolean first;
+            if (slot < 64) {
+                first = (selected & (1L << slot)) == 0;
+                selected |= 1L << slot;
+            } else {
+                int word = (slot - 64) >>> 6;
+                first = (selectedOver64[word] & (1L << slot)) == 0;
+                selectedOver64[word] |= 1L << slot;
+            }
+            long cost = costs[slot];
+            long expandCost = expandCosts[slot];
+            if ((first && cost == NO_PRICE) || ((checked > 1 || !first) && expandCost == NO_PRICE)) {
+                throw new IllegalArgumentException("참가비가 정해지지 않은 부문입니다: " + sector.getTitle());
+            }
+            amount += first ? cost + (checked - 1) * expandCost : checked * expandCost;
+        }
+        return amount;
+    }
+
+    private static int countChecked(List<CompetitionForm.SubSector> subSectors) {
+        if (subSectors == null) return 0;
+        int checked = 0;
+        for (int i = 0, n = subSectors.size(); i < n; i++) {
+            if (subSectors.get(i).isChecked()) checked++;
+        }
+        return checked;
+    }
+}
@@ -0,0 +1,35 @@
+package PlayMakers.SportsIT.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 작업 임대(lease)
+ * 여러 서버 중 임대를 가진 서버(owner)만 만료 시각(expiresAt)까지 해당 작업을 실행한다.
+ * 임대 주인이 바뀔 때마다 fencingToken이 1씩 증가하며, 작업 실행 시 토큰이 그대로인지 확인하여
+ * 임대가 만료된 뒤 늦게 실행된 이전 주인의 작업을 막는다.
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@AllArgsConstructor @NoArgsConstructor
+@Builder
+@Getter
+public class SchedulerLease {
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private Long fencingToken;
+}
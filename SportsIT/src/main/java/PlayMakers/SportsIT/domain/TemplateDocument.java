@@ -0,0 +1,12 @@
+package PlayMakers.SportsIT.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * 대회 신청 템플릿 (CompetitionTemplate JSON)
+ */
+@Entity
+@Table(name = "template_document")
+public class TemplateDocument extends JsonDocument {
+}
@@ -0,0 +1,96 @@
+package PlayMakers.SportsIT.dto;
+
+import PlayMakers.SportsIT.exceptions.ErrorCode;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 대회 목록 커서 (Keyset Pagination)
+ * 마지막으로 조회한 대회의 정렬 키 값과 competitionId를 담아 다음 페이지의 시작 위치를 나타낸다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로 전달되며, 내부 형식은 "정렬키|값|competitionId" 이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CompetitionCursor {
+    private static final String DELIMITER = "|";
+
+    private final SortKey sortKey;
+    private final LocalDateTime createdDate; // sortKey == CREATED_DATE 일 때 사용
+    private final Integer count; // sortKey == VIEW_COUNT, SCRAP_COUNT 일 때 사용 (RELEVANCE 일 때는 순위)
+    private final Long competitionId;
+
+    @Getter
+    public enum SortKey {
+        CREATED_DATE("createdDate"),
+        VIEW_COUNT("viewCount"),
+        SCRAP_COUNT("scrapCount"),
+        RELEVANCE("relevance"); // 검색 관련도 순, 값은 순위
+
+        private final String property;
+
+        SortKey(String property) {
+            this.property = property;
+        }
+
+        public static SortKey fromProperty(String property) {
+            return Arrays.stream(values())
+                    .filter(key -> key.property.equals(property))
+                    .findFirst()
+                    .orElse(CREATED_DATE);
+        }
+    }
+
+    public static CompetitionCursor of(SortKey sortKey, Long competitionId, LocalDateTime createdDate, Integer viewCount, Integer scrapCount) {
+        return switch (sortKey) {
+            case CREATED_DATE -> new CompetitionCursor(sortKey, createdDate, null, competitionId);
+            case VIEW_COUNT -> new CompetitionCursor(sortKey, null, viewCount, competitionId);
+            case SCRAP_COUNT -> new CompetitionCursor(sortKey, null, scrapCount, competitionId);
+            case RELEVANCE -> throw new IllegalArgumentException("관련도 순 커서는 ofRank로 생성해야 합니다.");
+        };
+    }
+
+    public static CompetitionCursor ofRank(int rank, Long competitionId) {
+        return new CompetitionCursor(SortKey.RELEVANCE, null, rank, competitionId);
+    }
+
+    public String encode() {
+        String value = sortKey == SortKey.CREATED_DATE ? createdDate.toString() : String.valueOf(count);
+        String raw = sortKey.getProperty() + DELIMITER + value + DELIMITER + competitionId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열을 해석한다.
+     * @param cursor encode()로 생성된 문자열, null 또는 빈 문자열이면 null 반환 (첫 페이지)
+     * @return CompetitionCursor
+     * @throws InvalidValueException 커서 형식이 잘못된 경우
+     */
+    public static CompetitionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = raw.split("\\" + DELIMITER);
+            if (tokens.length != 3) throw new IllegalArgumentException(raw);
+
+            SortKey sortKey = Arrays.stream(SortKey.values())
+                    .filter(key -> key.getProperty().equals(tokens[0]))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(tokens[0]));
+            Long competitionId = Long.parseLong(tokens[2]);
+            if (sortKey == SortKey.CREATED_DATE) {
+                return new CompetitionCursor(sortKey, LocalDateTime.parse(tokens[1]), null, competitionId);
+            }
+            return new CompetitionCursor(sortKey, null, Integer.parseInt(tokens[1]), competitionId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다: " + cursor);
+        }
+    }
+}
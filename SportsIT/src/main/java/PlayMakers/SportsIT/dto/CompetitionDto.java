@@ -2,6 +2,7 @@ package PlayMakers.SportsIT.dto;
 
 import PlayMakers.SportsIT.domain.*;
 import PlayMakers.SportsIT.enums.CompetitionType;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -115,6 +116,110 @@ public class CompetitionDto {
         private SportCategory sportCategory;
         private List<Poster> posters;
         private LocalDateTime startDate;
+        // 대회 목록 조회(Projection)에서만 채우는 필드, 값이 없으면(빌더로 만든 응답) 응답에 포함하지 않는다.
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String posterUrl; // 대표 포스터 URL
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private CompetitionState state;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private CompetitionType competitionType;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private LocalDateTime endDate;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private LocalDateTime recruitingStart;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private LocalDateTime recruitingEnd;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer viewCount;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer scrapCount;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Integer totalPrize;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String location;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private LocalDateTime createdDate;
+
+        /**
+         * 대회 목록 조회용 생성자 (QueryDSL Projections.constructor)
+         * 엔티티를 거치지 않고 목록에 필요한 컬럼만 조회한다.
+         */
+        public Summary(Long competitionId, String name, Long hostUid, String hostName, SportCategory sportCategory,
+                       String posterUrl, CompetitionState state, CompetitionType competitionType,
+                       LocalDateTime startDate, LocalDateTime endDate, LocalDateTime recruitingStart, LocalDateTime recruitingEnd,
+                       Integer viewCount, Integer scrapCount, Integer totalPrize, String location, LocalDateTime createdDate) {
+            this.competitionId = competitionId;
+            this.name = name;
+            this.host = hostUid == null ? null : new MemberDto.Summary(hostUid, hostName);
+            this.sportCategory = sportCategory;
+            this.posterUrl = posterUrl;
+            this.state = state;
+            this.competitionType = competitionType;
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.recruitingStart = recruitingStart;
+            this.recruitingEnd = recruitingEnd;
+            this.viewCount = viewCount;
+            this.scrapCount = scrapCount;
+            this.totalPrize = totalPrize;
+            this.location = location;
+            this.createdDate = createdDate;
+        }
+    }
+
+    /**
+     * 대회 상태 전환 일정 DTO
+     * PLANNING -(모집 시작일)-> RECRUITING -(모집 마감일)-> RECRUITING_END -(대회 시작일)-> IN_PROGRESS -(대회 종료일)-> END
+     */
+    @Data
+    @AllArgsConstructor @NoArgsConstructor
+    public static class StateSchedule {
+        private Long competitionId;
+        private CompetitionState state;
+        private LocalDateTime recruitingStart;
+        private LocalDateTime recruitingEnd;
+        private LocalDateTime startDate;
+        private LocalDateTime endDate;
+
+        /**
+         * 다음 대회 상태, 더 이상 전환할 상태가 없으면(END, CANCEL) null
+         */
+        public CompetitionState nextState() {
+            if (state == null) return null;
+            return switch (state) {
+                case PLANNING -> CompetitionState.RECRUITING;
+                case RECRUITING -> CompetitionState.RECRUITING_END;
+                case RECRUITING_END -> CompetitionState.IN_PROGRESS;
+                case IN_PROGRESS -> CompetitionState.END;
+                default -> null;
+            };
+        }
+
+        /**
+         * 다음 상태로 전환되는 시각, 더 이상 전환할 상태가 없으면 null
+         */
+        public LocalDateTime nextTransitionAt() {
+            if (state == null) return null;
+            return switch (state) {
+                case PLANNING -> recruitingStart;
+                case RECRUITING -> recruitingEnd;
+                case RECRUITING_END -> startDate;
+                case IN_PROGRESS -> endDate;
+                default -> null;
+            };
+        }
+    }
+
+    /**
+     * 대회 검색 색인용 DTO (검색 대상 필드만 조회)
+     */
+    @Data
+    @AllArgsConstructor @NoArgsConstructor
+    public static class SearchDocument {
+        private Long competitionId;
+        private String name;
+        private String hostName;
+        private SportCategory sportCategory;
     }
 
     @Builder
@@ -10,8 +10,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @Builder
 public class JoinCountDto {
-    int maxPlayerCount;
-    int maxViewerCount;
+    Integer maxPlayerCount; // null이면 정원 제한 없음
+    Integer maxViewerCount;
     int playerCount;
     int viewerCount;
 
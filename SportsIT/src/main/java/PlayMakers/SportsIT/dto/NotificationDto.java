@@ -0,0 +1,46 @@
+package PlayMakers.SportsIT.dto;
+
+import PlayMakers.SportsIT.enums.NotificationTitle;
+import PlayMakers.SportsIT.enums.NotificationType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+public class NotificationDto {
+
+    /**
+     * 알림 목록/실시간 알림 DTO
+     * 수신자, 발신자 엔티티를 로딩하지 않고 알림 테이블 컬럼만 조회한다.
+     */
+    @Data
+    @AllArgsConstructor @NoArgsConstructor
+    public static class Summary {
+        @Schema(description = "알림 ID", example = "1")
+        private Long id;
+        @JsonIgnore
+        private Long receiverUid;
+        @Schema(description = "알림 제목", example = "END")
+        private NotificationTitle title;
+        @Schema(description = "알림 내용", example = "대회가 종료되었습니다. : 스포츠잇 팔씨름 대회")
+        private String message;
+        @Schema(description = "알림 링크", example = "/competitions/1")
+        private String link;
+        @Schema(description = "알림 종류", example = "COMPETITION")
+        private NotificationType notificationType;
+        @Schema(description = "확인 여부", example = "false")
+        private boolean checked;
+        @Schema(description = "합쳐진 알림 수 (ex. 새 참가자 N명)", example = "1")
+        private int coalescedCount;
+        @Schema(description = "알림 생성일")
+        private LocalDateTime createdDate;
+        @JsonIgnore
+        private LocalDateTime updatedDate; // 저장 또는 마지막으로 합쳐진 시각 (실시간 알림 조회용)
+
+        public Summary(Long id, Long receiverUid, NotificationTitle title, String message, String link,
+                       NotificationType notificationType, boolean checked, int coalescedCount, LocalDateTime createdDate) {
+            this(id, receiverUid, title, message, link, notificationType, checked, coalescedCount, createdDate, createdDate);
+        }
+    }
+}
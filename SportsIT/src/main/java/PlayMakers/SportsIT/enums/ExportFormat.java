@@ -0,0 +1,17 @@
+package PlayMakers.SportsIT.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+    CSV("text/csv;charset=UTF-8", "csv"),
+    JSONL("application/x-ndjson;charset=UTF-8", "jsonl"); // JSON Lines (한 줄에 JSON 객체 하나)
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+}
@@ -0,0 +1,21 @@
+package PlayMakers.SportsIT.enums;
+
+import lombok.Getter;
+
+/**
+ * 아웃박스 이벤트 종류
+ * aggregateType이 같고 aggregateId가 같은 이벤트끼리는 저장된 순서대로 처리된다.
+ */
+@Getter
+public enum OutboxEventType {
+    MEMBER_JOINED("member"),
+    COMPETITION_JOINED("competition"),
+    COMPETITION_STATE_CHANGED("competition"),
+    COMPETITION_RESULT_SAVED("competition");
+
+    private final String aggregateType;
+
+    OutboxEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+}
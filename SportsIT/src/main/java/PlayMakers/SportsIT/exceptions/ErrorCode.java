@@ -35,6 +35,11 @@ public enum ErrorCode {
     COMPETITION_NOT_FOUND(404, "COMPETITION-003", "해당 대회가 존재하지 않습니다."),
     CONVERTING_FAILED(400, "COMPETITION-004", "파일 변환에 실패했습니다."),
     COMPETITION_NOT_AVAILABLE(400, "COMPETITION-005", "대회 참가가 불가능합니다."),
+    INVALID_JOIN_FORM(400, "COMPETITION-006", "참가 신청서가 대회 템플릿과 맞지 않습니다."),
+
+    // QUEUE
+    ADMISSION_REQUIRED(429, "QUEUE-001", "대기열에서 입장 순서를 기다려주세요."),
+    INVALID_QUEUE_TOKEN(400, "QUEUE-002", "잘못된 대기열 토큰입니다."),
     ;
 
     private final int status;
@@ -0,0 +1,44 @@
+package PlayMakers.SportsIT.repository;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * 대회 참가 대기열 저장소
+ * admission.queue.store 설정으로 서버 메모리(memory, 기본값)와 DB(jdbc) 중 하나를 사용한다.
+ * 서버가 여러 대이면 모든 서버가 같은 순번을 보도록 jdbc를 사용해야 한다.
+ */
+public interface AdmissionQueueStore {
+    /**
+     * @param ratePerSecond 초당 입장 인원
+     * @param issued 지금까지 발급한 순번
+     * @param admitted 입장시킨 마지막 순번
+     */
+    record State(int ratePerSecond, long issued, long admitted) {
+    }
+
+    /**
+     * 대기열을 연다. 이미 열려 있으면 초당 입장 인원만 바꾼다.
+     */
+    void open(Long competitionId, int ratePerSecond);
+
+    void close(Long competitionId);
+
+    Optional<State> find(Long competitionId);
+
+    /**
+     * 회원에게 다음 순번을 발급한다. 회원이 이미 순번을 받았으면 그 순번을 돌려준다. (대기열마다 회원당 한 순번)
+     * @return 발급한 순번 (1부터 시작), 대기열이 없으면 OptionalLong.empty()
+     */
+    OptionalLong issue(Long competitionId, Long uid);
+
+    /**
+     * 열려 있는 모든 대기열의 입장 순번을 초당 입장 인원만큼 올린다. (1초마다 호출)
+     */
+    void advance();
+
+    /**
+     * 여러 서버가 같은 대기열을 공유하는지 (true이면 advance()는 스케줄러 임대를 가진 서버만 호출해야 한다.)
+     */
+    boolean isShared();
+}
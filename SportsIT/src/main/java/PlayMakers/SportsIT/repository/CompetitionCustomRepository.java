@@ -1,15 +1,38 @@
 package PlayMakers.SportsIT.repository;
 
 import PlayMakers.SportsIT.domain.Competition;
+import PlayMakers.SportsIT.domain.CompetitionState;
+import PlayMakers.SportsIT.dto.CompetitionCursor;
+import PlayMakers.SportsIT.dto.CompetitionDto;
+import PlayMakers.SportsIT.dto.JoinCompetitionDto;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CompetitionCustomRepository {
     Slice<Competition> findCompetitionBySlice(String keyword, List<String> filterType, Pageable pageable);
-    // member가 참가한 대회 목록 조회
-
-    Slice<Competition> findCompetitionsBySliceWithIdsAndUid(List<Long> competitionIds, Long uid, Pageable pageable);
+    Slice<Competition> findCompetitionBySlice(List<Long> competitionIds, List<String> filterType, Pageable pageable);
+    // 커서 기반 대회 요약 목록 조회 (cursor가 null이면 pageable의 offset 사용, now는 recruitingEnd 필터의 기준 시각)
+    CursorSlice<CompetitionDto.Summary> findCompetitionSummaryByCursor(String keyword, List<String> filterType, CompetitionCursor cursor, Pageable pageable, LocalDateTime now);
+    CursorSlice<CompetitionDto.Summary> findCompetitionSummaryByCursor(List<Long> competitionIds, List<String> filterType, CompetitionCursor cursor, Pageable pageable, LocalDateTime now);
+    // 검색 관련도 순 대회 요약 목록 조회 (rankedIds 순서 유지)
+    CursorSlice<CompetitionDto.Summary> findCompetitionSummaryByRank(List<Long> rankedIds, List<String> filterType, CompetitionCursor cursor, Pageable pageable, LocalDateTime now);
+    // 상태 전환 시각이 지난 대회 아이디 조회 (SELECT ... FOR UPDATE)
+    List<Long> findCompetitionIdsToTransition(CompetitionState from, LocalDateTime now);
+    // 대회 상태 일괄 변경 (현재 상태가 from인 대회만 변경)
+    long updateStates(List<Long> competitionIds, CompetitionState from, CompetitionState to);
+    // 대회 하나의 상태 전환 (현재 상태가 from이고 전환 시각이 now보다 전인 경우에만 변경, 변경된 행 수 반환)
+    long updateState(Long competitionId, CompetitionState from, CompetitionState to, LocalDateTime now);
+    // 대회 상태 전환 일정 조회 (competitionIds가 null이면 종료/중단되지 않은 대회 전체)
+    List<CompetitionDto.StateSchedule> findStateSchedules(List<Long> competitionIds);
+    // 검색 색인용 대회 정보 조회 (competitionIds가 null이면 전체)
+    List<CompetitionDto.SearchDocument> findSearchDocuments(List<Long> competitionIds);
+    // since 이후 생성/수정된 대회 아이디 조회 (검색 색인 반영용, idx_competition_updated_date 사용)
+    List<Long> findCompetitionIdsUpdatedSince(LocalDateTime since);
+    // member가 참가한 대회 목록 조회 (참가 신청일 최신순 커서, cursor가 null이면 pageable의 offset 사용)
+    CursorSlice<JoinCompetitionDto.UserJoinResponse> findJoinedCompetitionSummaryByCursor(Long uid, CompetitionCursor cursor, Pageable pageable);
     Slice<Competition> findCompetitionsBySliceWithHostUid(Long hostUid, Pageable pageable);
 }
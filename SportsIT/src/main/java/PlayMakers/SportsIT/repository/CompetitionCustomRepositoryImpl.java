@@ -1,40 +1,68 @@
 package PlayMakers.SportsIT.repository;
 
 import PlayMakers.SportsIT.domain.*;
+import PlayMakers.SportsIT.dto.CompetitionCursor;
+import PlayMakers.SportsIT.dto.CompetitionDto;
+import PlayMakers.SportsIT.dto.JoinCompetitionDto;
 import PlayMakers.SportsIT.enums.CompetitionType;
+import PlayMakers.SportsIT.exceptions.ErrorCode;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 import static PlayMakers.SportsIT.domain.QCompetition.competition;
 
 @Slf4j
 @RequiredArgsConstructor
 public class CompetitionCustomRepositoryImpl implements CompetitionCustomRepository {
+    private static final int RANK_CHUNK_LIMIT = 500; // 관련도 순 조회에서 한 번에 IN 절에 넣는 최대 아이디 수
+    private static final int RANK_REFILL_ROUNDS = 5; // 관련도 순 조회에서 필터로 걸러진 만큼 다시 조회하는 최대 횟수
     private final JPAQueryFactory jpaQueryFactory;
 
     public Slice<Competition> findCompetitionBySlice(String keyword, List<String> filterType, Pageable pageable) {
+        return findCompetitionBySlice(containsKeyword(keyword), filterType, pageable);
+    }
+
+    /**
+     * 검색 색인으로 찾은 대회 아이디 목록 안에서 대회 목록 조회
+     * @param competitionIds 검색어에 해당하는 대회 아이디 목록
+     */
+    @Override
+    public Slice<Competition> findCompetitionBySlice(List<Long> competitionIds, List<String> filterType, Pageable pageable) {
+        if (competitionIds.isEmpty()) return new SliceImpl<>(new ArrayList<>(), pageable, false);
+        return findCompetitionBySlice(competition.competitionId.in(competitionIds), filterType, pageable);
+    }
+
+    private Slice<Competition> findCompetitionBySlice(BooleanExpression keywordCondition, List<String> filterType, Pageable pageable) {
         QCompetition competition = QCompetition.competition;
 
         OrderSpecifier orderSpecifier = getOrderSpecifier(pageable, competition);
 
         List<Competition> competitions = jpaQueryFactory.selectFrom(competition)
                 .where(
-                        containsKeyword(keyword),
-                        filteredBy(filterType)
+                        keywordCondition,
+                        filteredBy(filterType, LocalDateTime.now())
                 )
-                .offset(pageable.getOffset()*pageable.getPageNumber())
+                .offset(pageable.getOffset())
                 .limit(pageable.getPageSize()+1)
                 .orderBy(
                         orderSpecifier,
@@ -48,34 +76,284 @@ public class CompetitionCustomRepositoryImpl implements CompetitionCustomReposit
     }
 
     /**
-     * 유저가 참가한 대회 목록 조회
-     * @param competitionIds 대회 아이디 리스트
-     * @param pageable 페이지 정보
-     * @return 유저가 참가한 대회 목록
+     * 커서 기반 대회 목록 조회 (Keyset Pagination)
+     * 정렬 키와 competitionId로 정렬한 뒤, 커서 이후의 대회만 조회하므로 페이지 깊이와 관계없이 일정한 비용으로 조회된다.
+     * @param keyword 검색어
+     * @param filterType 필터 조건
+     * @param cursor 이전 페이지의 nextCursor, null이면 pageable의 offset부터 조회
+     * @param pageable 페이지 크기 및 정렬 정보 (createdDate, viewCount, scrapCount)
+     * @param now 모집 마감 임박(recruitingEnd) 필터의 기준 시각
+     * @return 대회 목록과 nextCursor
+     */
+    @Override
+    public CursorSlice<CompetitionDto.Summary> findCompetitionSummaryByCursor(String keyword, List<String> filterType, CompetitionCursor cursor, Pageable pageable, LocalDateTime now) {
+        return findCompetitionSummaryByCursor(containsKeyword(keyword), filterType, cursor, pageable, now);
+    }
+
+    /**
+     * 검색 색인으로 찾은 대회 아이디 목록 안에서 커서 기반 대회 목록 조회
+     * @param competitionIds 검색어에 해당하는 대회 아이디 목록
+     */
+    @Override
+    public CursorSlice<CompetitionDto.Summary> findCompetitionSummaryByCursor(List<Long> competitionIds, List<String> filterType, CompetitionCursor cursor, Pageable pageable, LocalDateTime now) {
+        if (competitionIds.isEmpty()) return new CursorSlice<>(new ArrayList<>(), pageable, false, null);
+        return findCompetitionSummaryByCursor(competition.competitionId.in(competitionIds), filterType, cursor, pageable, now);
+    }
+
+    /**
+     * 검색 관련도 순 대회 목록 조회
+     * 관련도 순으로 정렬된 아이디 목록을 앞에서부터 페이지 크기 + 1개(다음 페이지 확인용)씩 잘라서 조회하고, 필터 조건은 조회 조건으로 함께 건다.
+     * 걸러져서 페이지가 덜 찼으면 다음 아이디들로 다시 조회하되, 최대 RANK_REFILL_ROUNDS번까지만 조회한다. (offset을 건너뛰는 조회는 제외)
+     * 따라서 IN 절에는 한 번에 최대 RANK_CHUNK_LIMIT개의 아이디만 들어간다.
+     * 커서에는 마지막으로 확인한 대회의 순위(rankedIds 안의 위치)가 담긴다.
+     * 조회 횟수 제한에 걸리면 페이지가 덜 찬 채로 hasNext = true를 반환하고, 다음 요청은 확인한 위치 다음부터 이어서 조회한다.
+     * @param rankedIds 관련도 순으로 정렬된 대회 아이디 목록
+     * @param filterType 필터 조건
+     * @param cursor 이전 페이지의 nextCursor, null이면 pageable의 offset부터 조회 (offset은 필터를 통과한 대회 기준)
+     * @param pageable 페이지 크기
+     * @param now 모집 마감 임박(recruitingEnd) 필터의 기준 시각
+     * @return 관련도 순 대회 목록과 nextCursor
+     */
+    @Override
+    public CursorSlice<CompetitionDto.Summary> findCompetitionSummaryByRank(List<Long> rankedIds, List<String> filterType, CompetitionCursor cursor, Pageable pageable, LocalDateTime now) {
+        if (cursor != null && (cursor.getSortKey() != CompetitionCursor.SortKey.RELEVANCE || cursor.getCount() < 0)) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "커서의 정렬 기준이 요청한 정렬 기준과 다릅니다.");
+        }
+        int size = pageable.getPageSize();
+        int position = cursor != null ? cursor.getCount() + 1 : 0; // 다음에 확인할 순위
+        long skip = cursor != null ? 0 : pageable.getOffset(); // offset 방식에서 건너뛸 대회 수
+
+        QMember host = new QMember("host");
+        List<CompetitionDto.Summary> competitions = new ArrayList<>();
+        int lastRank = -1; // 마지막으로 반환한 대회의 순위
+        boolean hasNext = false;
+        int rounds = 0;
+        while (position < rankedIds.size() && !hasNext) {
+            // offset만큼 건너뛰는 동안의 조회는 횟수에 포함하지 않는다. (건너뛴 만큼 커서를 옮길 수 없으므로)
+            if (skip == 0 && rounds++ == RANK_REFILL_ROUNDS) break;
+            int chunkSize = (int) Math.min(RANK_CHUNK_LIMIT, size + 1 - competitions.size() + skip);
+            List<Long> chunk = rankedIds.subList(position, Math.min(position + chunkSize, rankedIds.size()));
+            Map<Long, CompetitionDto.Summary> found = new HashMap<>();
+            for (CompetitionDto.Summary summary : jpaQueryFactory.select(summaryOf(host))
+                    .from(competition)
+                    .leftJoin(competition.host, host)
+                    .where(competition.competitionId.in(chunk), filteredBy(filterType, now))
+                    .fetch()) {
+                found.put(summary.getCompetitionId(), summary);
+            }
+            for (Long id : chunk) {
+                CompetitionDto.Summary summary = found.get(id);
+                if (summary != null) {
+                    if (skip > 0) {
+                        skip--;
+                    } else if (competitions.size() < size) {
+                        competitions.add(summary);
+                        lastRank = position;
+                    } else {
+                        hasNext = true; // 다음 페이지 확인용으로 조회한 대회
+                        break;
+                    }
+                }
+                position++;
+            }
+        }
+        if (!hasNext && position < rankedIds.size()) {
+            // 조회 횟수 제한에 걸림: 확인한 위치까지 커서를 옮긴다.
+            hasNext = true;
+            lastRank = position - 1;
+        }
+        if (lastRank < 0) return new CursorSlice<>(competitions, pageable, false, null);
+
+        String nextCursor = CompetitionCursor.ofRank(lastRank, rankedIds.get(lastRank)).encode();
+        return new CursorSlice<>(competitions, pageable, hasNext, nextCursor);
+    }
+
+    /**
+     * 상태 전환 시각이 지난 대회 아이디 조회
+     * 조회한 대회는 트랜잭션이 끝날 때까지 잠겨(SELECT ... FOR UPDATE), 이어지는 updateStates가 정확히 이 대회들만 변경한다.
+     * @param from 현재 상태 (PLANNING ~ IN_PROGRESS)
+     * @param now 기준 시각
+     */
+    @Override
+    public List<Long> findCompetitionIdsToTransition(CompetitionState from, LocalDateTime now) {
+        return jpaQueryFactory.select(competition.competitionId)
+                .from(competition)
+                .where(competition.state.eq(from), transitionDeadlineOf(from).lt(now))
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch();
+    }
+
+    /**
+     * 대회 상태 일괄 변경
+     * @return 변경된 대회 수
+     */
+    @Override
+    public long updateStates(List<Long> competitionIds, CompetitionState from, CompetitionState to) {
+        if (competitionIds.isEmpty()) return 0;
+        return jpaQueryFactory.update(competition)
+                .set(competition.state, to)
+                .where(competition.competitionId.in(competitionIds), competition.state.eq(from))
+                .execute();
+    }
+
+    /**
+     * 대회 하나의 상태 전환
+     * 현재 상태가 from이고 전환 시각이 지난 경우에만 변경한다. (findCompetitionIdsToTransition과 같은 조건)
+     * 다른 서버에서 일정이 바뀌어 이 서버의 예약이 오래된 경우에도 바뀐 전환 시각 전에는 변경되지 않는다.
+     * @return 변경된 대회 수 (0 또는 1)
+     */
+    @Override
+    public long updateState(Long competitionId, CompetitionState from, CompetitionState to, LocalDateTime now) {
+        return jpaQueryFactory.update(competition)
+                .set(competition.state, to)
+                .where(competition.competitionId.eq(competitionId), competition.state.eq(from), transitionDeadlineOf(from).lt(now))
+                .execute();
+    }
+
+    /**
+     * 현재 상태에서 다음 상태로 전환되는 시각 컬럼
+     */
+    private static DateTimePath<LocalDateTime> transitionDeadlineOf(CompetitionState from) {
+        return switch (from) {
+            case PLANNING -> competition.recruitingStart;
+            case RECRUITING -> competition.recruitingEnd;
+            case RECRUITING_END -> competition.startDate;
+            case IN_PROGRESS -> competition.endDate;
+            default -> throw new IllegalArgumentException("상태 전환 대상이 아닌 대회 상태입니다: " + from);
+        };
+    }
+
+    /**
+     * 대회 상태 전환 일정 조회
+     * @param competitionIds 조회할 대회 아이디 목록, null이면 상태 전환이 남은 대회(PLANNING ~ IN_PROGRESS) 전체
+     */
+    @Override
+    public List<CompetitionDto.StateSchedule> findStateSchedules(List<Long> competitionIds) {
+        return jpaQueryFactory
+                .select(Projections.constructor(CompetitionDto.StateSchedule.class,
+                        competition.competitionId,
+                        competition.state,
+                        competition.recruitingStart,
+                        competition.recruitingEnd,
+                        competition.startDate,
+                        competition.endDate))
+                .from(competition)
+                .where(competitionIds == null
+                        ? competition.state.in(CompetitionState.PLANNING, CompetitionState.RECRUITING, CompetitionState.RECRUITING_END, CompetitionState.IN_PROGRESS)
+                        : competition.competitionId.in(competitionIds))
+                .fetch();
+    }
+
+    /**
+     * 검색 색인용 대회 정보 조회
+     * @param competitionIds 조회할 대회 아이디 목록, null이면 전체 조회
+     */
+    @Override
+    public List<CompetitionDto.SearchDocument> findSearchDocuments(List<Long> competitionIds) {
+        QMember host = new QMember("host");
+        return jpaQueryFactory
+                .select(Projections.constructor(CompetitionDto.SearchDocument.class,
+                        competition.competitionId,
+                        competition.name,
+                        host.name,
+                        competition.category))
+                .from(competition)
+                .leftJoin(competition.host, host)
+                .where(competitionIds == null ? null : competition.competitionId.in(competitionIds))
+                .fetch();
+    }
+
+    /**
+     * since 이후 생성/수정된 대회 아이디 조회 (검색 색인 반영용)
      */
     @Override
-    public Slice<Competition> findCompetitionsBySliceWithIdsAndUid(List<Long> competitionIds, Long uid, Pageable pageable) {
+    public List<Long> findCompetitionIdsUpdatedSince(LocalDateTime since) {
+        return jpaQueryFactory.select(competition.competitionId)
+                .from(competition)
+                .where(competition.updatedDate.goe(since))
+                .fetch();
+    }
+
+    private CursorSlice<CompetitionDto.Summary> findCompetitionSummaryByCursor(BooleanExpression keywordCondition, List<String> filterType, CompetitionCursor cursor, Pageable pageable, LocalDateTime now) {
         QCompetition competition = QCompetition.competition;
-        QJoinCompetition joinCompetition = QJoinCompetition.joinCompetition;
+        QMember host = new QMember("host");
 
-        OrderSpecifier<LocalDateTime> orderByCreatedAt = joinCompetition.createdDate.desc();
+        Sort.Order order = getSortOrder(pageable);
+        CompetitionCursor.SortKey sortKey = CompetitionCursor.SortKey.fromProperty(order.getProperty());
+        Order direction = order.isAscending() ? Order.ASC : Order.DESC;
 
-        List<Competition> competitions = jpaQueryFactory
-                .selectFrom(competition)
-                .join(joinCompetition).on(competition.competitionId.eq(joinCompetition.competition.competitionId))
-                .where(joinCompetition.member.uid.eq(uid)
-                        .and(joinCompetition.competition.competitionId.in(competitionIds)))
+        JPAQuery<CompetitionDto.Summary> query = jpaQueryFactory.select(summaryOf(host))
+                .from(competition)
+                .leftJoin(competition.host, host)
+                .where(
+                        keywordCondition,
+                        filteredBy(filterType, now),
+                        afterCursor(cursor, sortKey, direction)
+                )
                 .orderBy(
-                        orderByCreatedAt,
-                        competition.startDate.desc()
+                        orderBy(direction, getSortPath(sortKey)),
+                        new OrderSpecifier<>(direction, competition.competitionId)
                 )
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .limit(pageable.getPageSize()+1);
+        if (cursor == null) query.offset(pageable.getOffset());
 
+        List<CompetitionDto.Summary> competitions = query.fetch();
         boolean hasNext = removeOneIfHasNext(pageable, competitions);
 
-        return new SliceImpl<>(competitions, pageable, hasNext);
+        String nextCursor = null;
+        if (!competitions.isEmpty()) {
+            CompetitionDto.Summary last = competitions.get(competitions.size()-1);
+            nextCursor = CompetitionCursor.of(sortKey, last.getCompetitionId(), last.getCreatedDate(), last.getViewCount(), last.getScrapCount()).encode();
+        }
+        return new CursorSlice<>(competitions, pageable, hasNext, nextCursor);
+    }
+
+    /**
+     * 유저가 참가한 대회 목록 조회 (참가 신청일 최신순, Keyset Pagination)
+     * 참가 신청, 대회, 주최자를 한 번에 조인하고 대표 포스터는 서브쿼리로 조회하여, 참가 신청 수와 관계없이 한 페이지만 조회한다.
+     * @param uid 회원 uid
+     * @param cursor 이전 페이지의 nextCursor (참가 신청일, competitionId), null이면 pageable의 offset부터 조회
+     * @param pageable 페이지 크기
+     * @return 참가한 대회 목록과 nextCursor
+     */
+    @Override
+    public CursorSlice<JoinCompetitionDto.UserJoinResponse> findJoinedCompetitionSummaryByCursor(Long uid, CompetitionCursor cursor, Pageable pageable) {
+        if (cursor != null && cursor.getSortKey() != CompetitionCursor.SortKey.CREATED_DATE) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "커서의 정렬 기준이 요청한 정렬 기준과 다릅니다.");
+        }
+        QJoinCompetition joinCompetition = QJoinCompetition.joinCompetition;
+        QMember host = new QMember("host");
+
+        JPAQuery<JoinCompetitionDto.UserJoinResponse> query = jpaQueryFactory
+                .select(Projections.constructor(JoinCompetitionDto.UserJoinResponse.class,
+                        summaryOf(host),
+                        joinCompetition.joinType,
+                        joinCompetition.createdDate))
+                .from(joinCompetition)
+                .join(joinCompetition.competition, competition)
+                .leftJoin(competition.host, host)
+                .where(
+                        joinCompetition.id.uid.eq(uid),
+                        cursor == null ? null : joinCompetition.createdDate.lt(cursor.getCreatedDate())
+                                .or(joinCompetition.createdDate.eq(cursor.getCreatedDate())
+                                        .and(joinCompetition.id.competitionId.lt(cursor.getCompetitionId())))
+                )
+                .orderBy(
+                        joinCompetition.createdDate.desc(),
+                        joinCompetition.id.competitionId.desc()
+                )
+                .limit(pageable.getPageSize()+1);
+        if (cursor == null) query.offset(pageable.getOffset());
+
+        List<JoinCompetitionDto.UserJoinResponse> joins = query.fetch();
+        boolean hasNext = removeOneIfHasNext(pageable, joins);
+
+        String nextCursor = null;
+        if (!joins.isEmpty()) {
+            JoinCompetitionDto.UserJoinResponse last = joins.get(joins.size()-1);
+            nextCursor = CompetitionCursor.of(CompetitionCursor.SortKey.CREATED_DATE, last.getCompetition().getCompetitionId(), last.getJoinDate(), null, null).encode();
+        }
+        return new CursorSlice<>(joins, pageable, hasNext, nextCursor);
     }
 
     /**
@@ -122,6 +400,78 @@ public class CompetitionCustomRepositoryImpl implements CompetitionCustomReposit
         return orderSpecifier;
     }
 
+    /**
+     * 대회 목록 조회용 Projection
+     * 대표 포스터는 포스터 URL 중 가장 앞선 값을 서브쿼리로 조회한다. (포스터에는 순서 컬럼이 없음)
+     */
+    private static ConstructorExpression<CompetitionDto.Summary> summaryOf(QMember host) {
+        QPoster poster = QPoster.poster;
+        return Projections.constructor(CompetitionDto.Summary.class,
+                competition.competitionId,
+                competition.name,
+                host.uid,
+                host.name,
+                competition.category,
+                JPAExpressions.select(poster.posterUrl.min())
+                        .from(poster)
+                        .where(poster.competition.competitionId.eq(competition.competitionId)),
+                competition.state,
+                competition.competitionType,
+                competition.startDate,
+                competition.endDate,
+                competition.recruitingStart,
+                competition.recruitingEnd,
+                competition.viewCount,
+                competition.scrapCount,
+                competition.totalPrize,
+                competition.location,
+                competition.createdDate);
+    }
+
+    private static Sort.Order getSortOrder(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (order.getProperty().equals("viewCount") || order.getProperty().equals("scrapCount")) return order;
+        }
+        Sort.Order createdDateOrder = pageable.getSort().getOrderFor("createdDate");
+        return createdDateOrder != null ? createdDateOrder : Sort.Order.desc("createdDate");
+    }
+
+    private static <T extends Comparable> OrderSpecifier<T> orderBy(Order direction, ComparableExpressionBase<T> path) {
+        return new OrderSpecifier<>(direction, path);
+    }
+
+    private static ComparableExpressionBase<?> getSortPath(CompetitionCursor.SortKey sortKey) {
+        return switch (sortKey) {
+            case CREATED_DATE -> competition.createdDate;
+            case VIEW_COUNT -> competition.viewCount;
+            case SCRAP_COUNT -> competition.scrapCount;
+            case RELEVANCE -> throw new IllegalArgumentException("관련도 순 정렬은 findCompetitionSummaryByRank를 사용해야 합니다.");
+        };
+    }
+
+    /**
+     * 커서 이후의 대회를 찾는 조건 (sortKey < value OR (sortKey = value AND competitionId < id), 오름차순이면 >)
+     */
+    private static BooleanExpression afterCursor(CompetitionCursor cursor, CompetitionCursor.SortKey sortKey, Order direction) {
+        if (cursor == null) return null;
+        if (cursor.getSortKey() != sortKey) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "커서의 정렬 기준이 요청한 정렬 기준과 다릅니다.");
+        }
+        boolean desc = direction == Order.DESC;
+        BooleanExpression tieBreaker = desc
+                ? competition.competitionId.lt(cursor.getCompetitionId())
+                : competition.competitionId.gt(cursor.getCompetitionId());
+        return switch (sortKey) {
+            case CREATED_DATE -> (desc ? competition.createdDate.lt(cursor.getCreatedDate()) : competition.createdDate.gt(cursor.getCreatedDate()))
+                    .or(competition.createdDate.eq(cursor.getCreatedDate()).and(tieBreaker));
+            case VIEW_COUNT -> (desc ? competition.viewCount.lt(cursor.getCount()) : competition.viewCount.gt(cursor.getCount()))
+                    .or(competition.viewCount.eq(cursor.getCount()).and(tieBreaker));
+            case SCRAP_COUNT -> (desc ? competition.scrapCount.lt(cursor.getCount()) : competition.scrapCount.gt(cursor.getCount()))
+                    .or(competition.scrapCount.eq(cursor.getCount()).and(tieBreaker));
+            case RELEVANCE -> throw new IllegalArgumentException("관련도 순 정렬은 findCompetitionSummaryByRank를 사용해야 합니다.");
+        };
+    }
+
     private static List<SportCategory> categoriesContainKeyword(String keyword) {
         List<SportCategory> sportCategoriesContainsKeyword = new ArrayList<>();
         if(keyword != null) {
@@ -137,7 +487,7 @@ public class CompetitionCustomRepositoryImpl implements CompetitionCustomReposit
         return sportCategoriesContainsKeyword;
     }
 
-    private static boolean removeOneIfHasNext(Pageable pageable, List<Competition> competitions) {
+    private static boolean removeOneIfHasNext(Pageable pageable, List<?> competitions) {
         boolean hasNext = competitions.size() == pageable.getPageSize() + 1;
         if(hasNext) {
             competitions.remove(competitions.size()-1);
@@ -154,7 +504,7 @@ public class CompetitionCustomRepositoryImpl implements CompetitionCustomReposit
                 .or(competition.category.in(foundCategories))
                 : null;
     }
-    private BooleanBuilder filteredBy(List<String> filterType) {
+    private BooleanBuilder filteredBy(List<String> filterType, LocalDateTime now) {
         // CompetitionState : PLANNING, RECRUITING, RECRUITING_END, IN_PROGRESS, END
         // recruitingEnd : 7일 이내
         // totalPrize : 100,000원 이상
@@ -170,7 +520,7 @@ public class CompetitionCustomRepositoryImpl implements CompetitionCustomReposit
         if(filterType.contains("IN_PROGRESS")) builder.or(competition.state.eq(CompetitionState.IN_PROGRESS));
         if(filterType.contains("END")) builder.or(competition.state.eq(CompetitionState.END));
 
-        if(filterType.contains("recruitingEnd")) builder.and(competition.recruitingEnd.between(LocalDateTime.now(), LocalDateTime.now().plusDays(7)));
+        if(filterType.contains("recruitingEnd")) builder.and(competition.recruitingEnd.between(now, now.plusDays(7)));
         if(filterType.contains("totalPrize")) builder.and(competition.totalPrize.goe(100000));
         if(filterType.contains("recommend")) builder.and(competition.competitionType.in(CompetitionType.PREMIUM, CompetitionType.VIP));
         return builder;
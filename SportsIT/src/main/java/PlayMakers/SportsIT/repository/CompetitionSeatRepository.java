@@ -0,0 +1,105 @@
+package PlayMakers.SportsIT.repository;
+
+import PlayMakers.SportsIT.domain.JoinCompetition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 대회 좌석 테이블(competition_seat) 조회/갱신
+ * 예약과 취소는 조건부 UPDATE 한 문장이므로 좌석 행을 미리 읽거나 잠그지 않는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class CompetitionSeatRepository {
+    private static final String RESERVE_SQL =
+            "UPDATE competition_seat SET taken = taken + 1 "
+                    + "WHERE competition_id = ? AND join_type = ? AND (capacity IS NULL OR taken < capacity)";
+    private static final String RELEASE_SQL =
+            "UPDATE competition_seat SET taken = taken - 1 WHERE competition_id = ? AND join_type = ? AND taken > 0";
+    private static final String INITIALIZE_SQL =
+            "INSERT INTO competition_seat (competition_id, join_type, capacity, taken) "
+                    + "SELECT ?, ?, ?, COUNT(*) FROM join_competition WHERE competition_id = ? AND join_type = ? AND uid <> ?";
+    private static final String SELECT_SQL =
+            "SELECT capacity, taken FROM competition_seat WHERE competition_id = ? AND join_type = ?";
+    private static final String SELECT_BY_COMPETITION_SQL =
+            "SELECT join_type, capacity, taken FROM competition_seat WHERE competition_id = ?";
+    private static final String UPDATE_CAPACITY_SQL =
+            "UPDATE competition_seat SET capacity = ? WHERE competition_id = ? AND join_type = ?";
+    private static final String DELETE_SQL =
+            "DELETE FROM competition_seat WHERE competition_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Key(Long competitionId, JoinCompetition.joinType joinType) {
+    }
+
+    /**
+     * @param capacity 정원, 제한이 없으면 null
+     * @param taken 예약된 좌석 수
+     */
+    public record Seat(Integer capacity, int taken) {
+        public boolean isFull() {
+            return capacity != null && taken >= capacity;
+        }
+    }
+
+    /**
+     * 좌석을 하나 예약한다.
+     * @return 예약에 성공하면 true, 정원이 찼거나 좌석 행이 없으면 false
+     */
+    public boolean reserve(Key key) {
+        return jdbcTemplate.update(RESERVE_SQL, key.competitionId(), key.joinType().name()) > 0;
+    }
+
+    /**
+     * 예약된 좌석을 하나 취소한다. (0 미만으로 내려가지 않음)
+     */
+    public boolean release(Key key) {
+        return jdbcTemplate.update(RELEASE_SQL, key.competitionId(), key.joinType().name()) > 0;
+    }
+
+    /**
+     * 좌석 행이 없는 대회(좌석 도입 전에 생성된 대회)의 좌석 행을 참가 신청 테이블을 한 번 세어 만든다.
+     * @param excludeUid 같은 트랜잭션에서 이미 저장한 참가 신청의 회원 uid (이 신청은 이어서 reserve로 센다), 없으면 null
+     */
+    public void initialize(Key key, Integer capacity, Long excludeUid) {
+        try {
+            jdbcTemplate.update(INITIALIZE_SQL, key.competitionId(), key.joinType().name(), capacity,
+                    key.competitionId(), key.joinType().name(), excludeUid == null ? 0L : excludeUid);
+        } catch (DuplicateKeyException e) {
+            // 그 사이 다른 요청에서 생성됨
+        }
+    }
+
+    public Optional<Seat> find(Key key) {
+        return jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new Seat(rs.getObject("capacity", Integer.class), rs.getInt("taken")),
+                key.competitionId(), key.joinType().name()).stream().findFirst();
+    }
+
+    /**
+     * @return 참가 종류 -> 좌석 (좌석 행이 있는 종류만)
+     */
+    public Map<JoinCompetition.joinType, Seat> findByCompetitionId(Long competitionId) {
+        Map<JoinCompetition.joinType, Seat> seats = new EnumMap<>(JoinCompetition.joinType.class);
+        jdbcTemplate.query(SELECT_BY_COMPETITION_SQL, rs -> {
+            seats.put(JoinCompetition.joinType.valueOf(rs.getString("join_type")),
+                    new Seat(rs.getObject("capacity", Integer.class), rs.getInt("taken")));
+        }, competitionId);
+        return seats;
+    }
+
+    public void updateCapacity(Key key, Integer capacity) {
+        jdbcTemplate.update(UPDATE_CAPACITY_SQL, capacity, key.competitionId(), key.joinType().name());
+    }
+
+    public void deleteByCompetitionId(Long competitionId) {
+        jdbcTemplate.update(DELETE_SQL, competitionId);
+    }
+}
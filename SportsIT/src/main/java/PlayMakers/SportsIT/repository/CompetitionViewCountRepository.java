@@ -0,0 +1,27 @@
+package PlayMakers.SportsIT.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Repository
+public class CompetitionViewCountRepository {
+    private static final String ADD_VIEW_COUNT_SQL = "UPDATE competition SET view_count = view_count + ? WHERE competition_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대회별 조회수 증가분을 한 번의 batch로 반영
+     * @param deltas competitionId -> 조회수 증가분
+     */
+    public void addViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((competitionId, delta) -> args.add(new Object[]{delta, competitionId}));
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, args);
+    }
+}
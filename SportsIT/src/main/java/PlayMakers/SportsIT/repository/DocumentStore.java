@@ -0,0 +1,59 @@
+package PlayMakers.SportsIT.repository;
+
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 대회 신청 템플릿, 참가 신청서 저장소
+ * 문서(템플릿, 신청서)를 id 기준으로 저장하며, 저장소는 document.store 설정으로 고른다. (DocumentStoreConfig)
+ *  - firestore: Firestore 컬렉션 (기본값)
+ *  - jdbc: DB 테이블의 JSON 컬럼
+ *  - memory: 서버 메모리 (테스트, 로컬 개발용)
+ * 모든 메서드는 저장소 응답을 기다리지 않고 CompletableFuture를 반환한다.
+ */
+public interface DocumentStore<T> {
+    /**
+     * 새 문서를 저장한다.
+     * @return 생성된 문서 id (Firestore 자동 id와 같은 형식이므로 저장소를 옮겨도 그대로 사용한다.)
+     */
+    CompletableFuture<String> save(T document);
+
+    /**
+     * 문서를 저장한다. 없으면 만들고 있으면 덮어쓴다.
+     */
+    CompletableFuture<Void> update(String id, T document);
+
+    /**
+     * 문서가 없을 때만 저장한다. (이관용)
+     * @return 저장했으면 true, 이미 있으면 false
+     */
+    CompletableFuture<Boolean> createIfAbsent(String id, T document);
+
+    /**
+     * @return 문서, 없으면 null
+     */
+    CompletableFuture<T> find(String id);
+
+    CompletableFuture<Void> delete(String id);
+
+    /**
+     * afterId 다음 문서 id를 id 순으로 limit개 조회한다. (이관용)
+     * @param afterId null이면 처음부터
+     */
+    CompletableFuture<List<String>> findIds(String afterId, int limit);
+
+    String AUTO_ID_CHARS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Firestore 자동 id와 같은 형식의 id (영문 대소문자, 숫자 20자)
+     */
+    static String newId() {
+        StringBuilder id = new StringBuilder(20);
+        for (int i = 0; i < 20; i++) {
+            id.append(AUTO_ID_CHARS.charAt(RANDOM.nextInt(AUTO_ID_CHARS.length())));
+        }
+        return id.toString();
+    }
+}
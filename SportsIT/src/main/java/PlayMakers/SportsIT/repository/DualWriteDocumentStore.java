@@ -0,0 +1,74 @@
+package PlayMakers.SportsIT.repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 저장소 이관용 이중 쓰기 저장소
+ * 조회는 primary에서만 하고, 쓰기는 같은 id로 두 저장소에 동시에 요청한다.
+ * (앞 저장소의 응답 스레드에서 다음 저장소를 호출하지 않도록 id를 미리 만든다.)
+ * 요청 결과는 primary를 따르며, secondary 쓰기가 실패하면 로그만 남긴다. (빠진 문서는 DocumentStoreBackfill로 다시 복사)
+ */
+@Slf4j
+public class DualWriteDocumentStore<T> implements DocumentStore<T> {
+    private final String name;
+    private final DocumentStore<T> primary;
+    private final DocumentStore<T> secondary;
+
+    public DualWriteDocumentStore(String name, DocumentStore<T> primary, DocumentStore<T> secondary) {
+        this.name = name;
+        this.primary = primary;
+        this.secondary = secondary;
+    }
+
+    public DocumentStore<T> getPrimary() {
+        return primary;
+    }
+
+    public DocumentStore<T> getSecondary() {
+        return secondary;
+    }
+
+    @Override
+    public CompletableFuture<String> save(T document) {
+        String id = DocumentStore.newId();
+        return update(id, document).thenApply(result -> id);
+    }
+
+    @Override
+    public CompletableFuture<Void> update(String id, T document) {
+        CompletableFuture<Void> mirrored = mirror("수정", id, secondary.update(id, document));
+        return primary.update(id, document).thenCombine(mirrored, (result, ignored) -> null);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createIfAbsent(String id, T document) {
+        CompletableFuture<Void> mirrored = mirror("생성", id, secondary.createIfAbsent(id, document).thenApply(created -> null));
+        return primary.createIfAbsent(id, document).thenCombine(mirrored, (created, ignored) -> created);
+    }
+
+    @Override
+    public CompletableFuture<T> find(String id) {
+        return primary.find(id);
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String id) {
+        CompletableFuture<Void> mirrored = mirror("삭제", id, secondary.delete(id));
+        return primary.delete(id).thenCombine(mirrored, (result, ignored) -> null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> findIds(String afterId, int limit) {
+        return primary.findIds(afterId, limit);
+    }
+
+    private CompletableFuture<Void> mirror(String action, String id, CompletableFuture<Void> write) {
+        return write.handle((result, e) -> {
+            if (e != null) log.error("{} 이중 쓰기 실패 ({}): {}", name, action, id, e);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package PlayMakers.SportsIT.repository;
+
+import com.google.cloud.firestore.*;
+import com.google.firebase.cloud.FirestoreClient;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static PlayMakers.SportsIT.utils.firestore.FirestoreFutures.toCompletableFuture;
+
+/**
+ * Firestore 컬렉션 저장소
+ */
+@Slf4j
+public class FirestoreDocumentStore<T> implements DocumentStore<T> {
+    private final String collection;
+    private final Class<T> type;
+
+    public FirestoreDocumentStore(String collection, Class<T> type) {
+        this.collection = collection;
+        this.type = type;
+    }
+
+    private CollectionReference collection() {
+        return FirestoreClient.getFirestore().collection(collection);
+    }
+
+    @Override
+    public CompletableFuture<String> save(T document) {
+        return toCompletableFuture(collection().add(document)) // 새 document id 자동 생성
+                .thenApply(newRef -> {
+                    log.info("새 {} 생성: {}", collection, newRef.getId());
+                    return newRef.getId();
+                });
+    }
+
+    @Override
+    public CompletableFuture<Void> update(String id, T document) {
+        return toCompletableFuture(collection().document(id).set(document))
+                .thenAccept(result -> log.info("{} 수정: {}", collection, id));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createIfAbsent(String id, T document) {
+        DocumentReference ref = collection().document(id);
+        return toCompletableFuture(ref.get()).thenCompose(snapshot -> snapshot.exists()
+                ? CompletableFuture.completedFuture(false)
+                : toCompletableFuture(ref.create(document)).thenApply(result -> true));
+    }
+
+    @Override
+    public CompletableFuture<T> find(String id) {
+        return toCompletableFuture(collection().document(id).get())
+                .thenApply(snapshot -> snapshot.toObject(type));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String id) {
+        return toCompletableFuture(collection().document(id).delete())
+                .thenAccept(result -> log.info("{} 삭제: {}", collection, id));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> findIds(String afterId, int limit) {
+        Query query = collection().orderBy(FieldPath.documentId()).select(FieldPath.documentId()).limit(limit);
+        if (afterId != null) query = query.startAfter(afterId);
+        return toCompletableFuture(query.get())
+                .thenApply(snapshot -> snapshot.getDocuments().stream().map(DocumentSnapshot::getId).toList());
+    }
+}
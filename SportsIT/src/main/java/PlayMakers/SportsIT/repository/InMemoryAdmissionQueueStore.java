@@ -0,0 +1,70 @@
+package PlayMakers.SportsIT.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버 메모리 대기열 (서버 한 대일 때)
+ * 서버가 재시작되면 대기열이 사라지므로 다시 열어야 한다.
+ */
+@Repository
+@ConditionalOnProperty(name = "admission.queue.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryAdmissionQueueStore implements AdmissionQueueStore {
+    private final Map<Long, Queue> queues = new ConcurrentHashMap<>();
+
+    private static class Queue {
+        private volatile int ratePerSecond;
+        private final AtomicLong issued = new AtomicLong();
+        private volatile long admitted; // advance()에서만 변경
+        private final Map<Long, Long> tickets = new ConcurrentHashMap<>(); // 회원 uid -> 발급한 순번
+
+        private Queue(int ratePerSecond) {
+            this.ratePerSecond = ratePerSecond;
+        }
+    }
+
+    @Override
+    public void open(Long competitionId, int ratePerSecond) {
+        queues.compute(competitionId, (id, queue) -> {
+            if (queue == null) return new Queue(ratePerSecond);
+            queue.ratePerSecond = ratePerSecond;
+            return queue;
+        });
+    }
+
+    @Override
+    public void close(Long competitionId) {
+        queues.remove(competitionId);
+    }
+
+    @Override
+    public Optional<State> find(Long competitionId) {
+        Queue queue = queues.get(competitionId);
+        if (queue == null) return Optional.empty();
+        return Optional.of(new State(queue.ratePerSecond, queue.issued.get(), queue.admitted));
+    }
+
+    @Override
+    public OptionalLong issue(Long competitionId, Long uid) {
+        Queue queue = queues.get(competitionId);
+        return queue == null ? OptionalLong.empty() : OptionalLong.of(queue.tickets.computeIfAbsent(uid, key -> queue.issued.incrementAndGet()));
+    }
+
+    @Override
+    public synchronized void advance() {
+        for (Queue queue : queues.values()) {
+            queue.admitted = Math.min(queue.issued.get(), queue.admitted + queue.ratePerSecond);
+        }
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+}
@@ -0,0 +1,64 @@
+package PlayMakers.SportsIT.repository;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 서버 메모리 저장소 (테스트, 로컬 개발용)
+ * 다른 저장소와 같이 조회할 때마다 새 객체를 반환하도록 문서를 복사해서 보관한다.
+ */
+public class InMemoryDocumentStore<T> implements DocumentStore<T> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final ConcurrentSkipListMap<String, T> documents = new ConcurrentSkipListMap<>();
+    private final Class<T> type;
+
+    public InMemoryDocumentStore(Class<T> type) {
+        this.type = type;
+    }
+
+    @Override
+    public CompletableFuture<String> save(T document) {
+        String id = DocumentStore.newId();
+        documents.put(id, copy(document));
+        return CompletableFuture.completedFuture(id);
+    }
+
+    @Override
+    public CompletableFuture<Void> update(String id, T document) {
+        documents.put(id, copy(document));
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createIfAbsent(String id, T document) {
+        return CompletableFuture.completedFuture(documents.putIfAbsent(id, copy(document)) == null);
+    }
+
+    @Override
+    public CompletableFuture<T> find(String id) {
+        T document = documents.get(id);
+        return CompletableFuture.completedFuture(document == null ? null : copy(document));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String id) {
+        documents.remove(id);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> findIds(String afterId, int limit) {
+        var ids = afterId == null ? documents.keySet() : documents.tailMap(afterId, false).keySet();
+        return CompletableFuture.completedFuture(ids.stream().limit(limit).toList());
+    }
+
+    private T copy(T document) {
+        return OBJECT_MAPPER.convertValue(document, type);
+    }
+}
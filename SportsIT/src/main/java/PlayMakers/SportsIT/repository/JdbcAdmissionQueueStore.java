@@ -0,0 +1,105 @@
+package PlayMakers.SportsIT.repository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * DB 대기열 (서버 여러 대일 때, admission_queue 테이블)
+ * 순번 발급은 대기열 행의 조건 없는 UPDATE 한 문장과 같은 트랜잭션의 조회로 처리한다.
+ * 회원이 받은 순번은 admission_ticket 테이블에 (대회, 회원)마다 한 행으로 저장하여, 다시 들어오면 같은 순번을 돌려준다.
+ */
+@RequiredArgsConstructor
+@Repository
+@ConditionalOnProperty(name = "admission.queue.store", havingValue = "jdbc")
+public class JdbcAdmissionQueueStore implements AdmissionQueueStore {
+    private static final String UPDATE_RATE_SQL =
+            "UPDATE admission_queue SET rate_per_second = ? WHERE competition_id = ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO admission_queue (competition_id, rate_per_second, issued, admitted) VALUES (?, ?, 0, 0)";
+    private static final String DELETE_SQL =
+            "DELETE FROM admission_queue WHERE competition_id = ?";
+    private static final String DELETE_TICKETS_SQL =
+            "DELETE FROM admission_ticket WHERE competition_id = ?";
+    private static final String SELECT_TICKET_SQL =
+            "SELECT sequence FROM admission_ticket WHERE competition_id = ? AND uid = ?";
+    private static final String INSERT_TICKET_SQL =
+            "INSERT INTO admission_ticket (competition_id, uid, sequence) VALUES (?, ?, ?)";
+    private static final String SELECT_SQL =
+            "SELECT rate_per_second, issued, admitted FROM admission_queue WHERE competition_id = ?";
+    private static final String ISSUE_SQL =
+            "UPDATE admission_queue SET issued = issued + 1 WHERE competition_id = ?";
+    private static final String SELECT_ISSUED_SQL =
+            "SELECT issued FROM admission_queue WHERE competition_id = ?";
+    private static final String ADVANCE_SQL =
+            "UPDATE admission_queue SET admitted = LEAST(issued, admitted + rate_per_second) WHERE admitted < issued";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void open(Long competitionId, int ratePerSecond) {
+        if (jdbcTemplate.update(UPDATE_RATE_SQL, ratePerSecond, competitionId) > 0) return;
+        try {
+            jdbcTemplate.update(INSERT_SQL, competitionId, ratePerSecond);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(UPDATE_RATE_SQL, ratePerSecond, competitionId); // 그 사이 다른 서버에서 열림
+        }
+    }
+
+    @Override
+    @Transactional
+    public void close(Long competitionId) {
+        jdbcTemplate.update(DELETE_SQL, competitionId);
+        jdbcTemplate.update(DELETE_TICKETS_SQL, competitionId);
+    }
+
+    @Override
+    public Optional<State> find(Long competitionId) {
+        return jdbcTemplate.query(SELECT_SQL,
+                (rs, rowNum) -> new State(rs.getInt("rate_per_second"), rs.getLong("issued"), rs.getLong("admitted")),
+                competitionId).stream().findFirst();
+    }
+
+    /**
+     * UPDATE로 잠근 행을 같은 트랜잭션에서 다시 읽으므로 다른 서버와 같은 순번을 받지 않는다.
+     * 같은 회원이 동시에 들어오면 (대회, 회원) 기본 키 중복으로 먼저 저장된 순번을 돌려준다. (이때 발급한 순번 하나는 비게 됨)
+     */
+    @Override
+    @Transactional
+    public OptionalLong issue(Long competitionId, Long uid) {
+        OptionalLong ticket = findTicket(competitionId, uid);
+        if (ticket.isPresent()) return ticket;
+
+        if (jdbcTemplate.update(ISSUE_SQL, competitionId) == 0) return OptionalLong.empty();
+        Long issued = jdbcTemplate.queryForObject(SELECT_ISSUED_SQL, Long.class, competitionId);
+        if (issued == null) return OptionalLong.empty();
+        try {
+            jdbcTemplate.update(INSERT_TICKET_SQL, competitionId, uid, issued);
+            return OptionalLong.of(issued);
+        } catch (DuplicateKeyException e) {
+            return findTicket(competitionId, uid); // 그 사이 다른 서버에서 발급됨
+        }
+    }
+
+    private OptionalLong findTicket(Long competitionId, Long uid) {
+        List<Long> sequences = jdbcTemplate.queryForList(SELECT_TICKET_SQL, Long.class, competitionId, uid);
+        return sequences.isEmpty() ? OptionalLong.empty() : OptionalLong.of(sequences.get(0));
+    }
+
+    @Override
+    public void advance() {
+        jdbcTemplate.update(ADVANCE_SQL);
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+}
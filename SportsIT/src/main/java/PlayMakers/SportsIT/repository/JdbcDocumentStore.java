@@ -0,0 +1,124 @@
+package PlayMakers.SportsIT.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * DB 테이블 저장소 (문서 전체를 JSON 컬럼 body에 저장, TemplateDocument, FormDocument)
+ * 참가 신청과 같은 DB에 있으므로 Firestore를 거치지 않고 조회한다.
+ * 조회는 요청 스레드에서 바로 실행하고, 완료된 CompletableFuture를 반환한다.
+ */
+@Slf4j
+public class JdbcDocumentStore<T> implements DocumentStore<T> {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final Class<T> type;
+
+    public JdbcDocumentStore(JdbcTemplate jdbcTemplate, String table, Class<T> type) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.type = type;
+    }
+
+    @Override
+    public CompletableFuture<String> save(T document) {
+        return supply(() -> {
+            String id = DocumentStore.newId();
+            jdbcTemplate.update("INSERT INTO " + table + " (id, body, updated_date) VALUES (?, ?, CURRENT_TIMESTAMP)", id, toJson(document));
+            log.info("새 {} 생성: {}", table, id);
+            return id;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> update(String id, T document) {
+        return supply(() -> {
+            String body = toJson(document);
+            if (jdbcTemplate.update("UPDATE " + table + " SET body = ?, updated_date = CURRENT_TIMESTAMP WHERE id = ?", body, id) == 0
+                    && !insert(id, body)) {
+                // 동시에 다른 요청이 먼저 만든 경우
+                jdbcTemplate.update("UPDATE " + table + " SET body = ?, updated_date = CURRENT_TIMESTAMP WHERE id = ?", body, id);
+            }
+            log.info("{} 수정: {}", table, id);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> createIfAbsent(String id, T document) {
+        return supply(() -> insert(id, toJson(document)));
+    }
+
+    @Override
+    public CompletableFuture<T> find(String id) {
+        return supply(() -> jdbcTemplate.query("SELECT body FROM " + table + " WHERE id = ?",
+                        (rs, rowNum) -> rs.getString("body"), id)
+                .stream().findFirst().map(this::fromJson).orElse(null));
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String id) {
+        return supply(() -> {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE id = ?", id);
+            log.info("{} 삭제: {}", table, id);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> findIds(String afterId, int limit) {
+        return supply(() -> afterId == null
+                ? jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id LIMIT ?", String.class, limit)
+                : jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE id > ? ORDER BY id LIMIT ?", String.class, afterId, limit));
+    }
+
+    private boolean insert(String id, String body) {
+        try {
+            jdbcTemplate.update("INSERT INTO " + table + " (id, body, updated_date) VALUES (?, ?, CURRENT_TIMESTAMP)", id, body);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private String toJson(T document) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("문서를 JSON으로 변환할 수 없습니다: " + table, e);
+        }
+    }
+
+    private T fromJson(String body) {
+        try {
+            JsonNode node = OBJECT_MAPPER.readTree(body);
+            // JSON 타입에 문자열 파라미터를 그대로 저장하는 DB(H2)는 문서를 JSON 문자열로 한 번 더 감싸서 돌려준다.
+            return node.isTextual() ? OBJECT_MAPPER.readValue(node.textValue(), type) : OBJECT_MAPPER.treeToValue(node, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 문서를 읽을 수 없습니다: " + table, e);
+        }
+    }
+
+    private interface Call<R> {
+        R call();
+    }
+
+    private static <R> CompletableFuture<R> supply(Call<R> call) {
+        try {
+            return CompletableFuture.completedFuture(call.call());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package PlayMakers.SportsIT.repository;
 
 import PlayMakers.SportsIT.domain.JoinCompetition;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +19,8 @@ public interface JoinCompetitionRepository extends JpaRepository<JoinCompetition
     void deleteByIdUid(Long uid);
     int countByIdCompetitionId(Long competitionId);
     int countByIdCompetitionIdAndJoinType(Long competitionId, JoinCompetition.joinType type);
+
+    // 알림 수신자 조회용 (Member를 로딩하지 않고 uid만 조회)
+    @Query("SELECT j.id.uid FROM JoinCompetition j WHERE j.id.competitionId = :competitionId")
+    List<Long> findUidsByCompetitionId(@Param("competitionId") Long competitionId);
 }
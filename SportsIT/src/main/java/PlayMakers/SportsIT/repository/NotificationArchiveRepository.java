@@ -0,0 +1,60 @@
+package PlayMakers.SportsIT.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 알림 보관
+ * 알림 id 구간 단위로 확인한 오래된 알림을 notification_archive로 복사하고 notification에서 삭제한다.
+ * 조건은 모두 PK(id) 구간 안에서만 확인하므로 한 번에 잠기는 행은 구간 크기를 넘지 않는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class NotificationArchiveRepository {
+    private static final String ARCHIVABLE = "FROM notification WHERE id >= ? AND id < ? AND checked = true AND created_date < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 구간의 시작 위치로 쓸 알림
+     * @param createdDate 알림 생성 시각, 알림 id는 저장 순서이므로 이 시각이 보관 기준보다 늦으면 이후 알림은 보관 대상이 아니다.
+     */
+    public record Head(Long id, LocalDateTime createdDate) {
+    }
+
+    /**
+     * fromId 이상인 첫 번째 알림 (PK 순서로 한 행만 조회)
+     */
+    public Optional<Head> findHead(long fromId) {
+        return jdbcTemplate.query("SELECT id, created_date FROM notification WHERE id >= ? ORDER BY id LIMIT 1",
+                (rs, rowNum) -> {
+                    Timestamp createdDate = rs.getTimestamp("created_date");
+                    return new Head(rs.getLong("id"), createdDate == null ? null : createdDate.toLocalDateTime());
+                }, fromId).stream().findFirst();
+    }
+
+    /**
+     * [fromId, toId) 구간에서 cutoff 이전에 생성되어 확인한 알림을 보관 테이블로 복사한다.
+     * @return 복사된 알림 수
+     */
+    public int copyToArchive(long fromId, long toId, LocalDateTime cutoff, LocalDateTime now) {
+        return jdbcTemplate.update("INSERT INTO notification_archive "
+                        + "(id, receiver_uid, sender_uid, title, link, message, notification_type, coalesced_count, created_date, archived_date) "
+                        + "SELECT id, receiver_uid, sender_uid, title, link, message, notification_type, coalesced_count, created_date, ? "
+                        + ARCHIVABLE,
+                Timestamp.valueOf(now), fromId, toId, Timestamp.valueOf(cutoff));
+    }
+
+    /**
+     * [fromId, toId) 구간에서 cutoff 이전에 생성되어 확인한 알림을 삭제한다.
+     * @return 삭제된 알림 수
+     */
+    public int deleteArchivable(long fromId, long toId, LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE " + ARCHIVABLE, fromId, toId, Timestamp.valueOf(cutoff));
+    }
+}
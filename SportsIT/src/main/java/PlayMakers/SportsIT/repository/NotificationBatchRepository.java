@@ -0,0 +1,56 @@
+package PlayMakers.SportsIT.repository;
+
+import PlayMakers.SportsIT.enums.NotificationTitle;
+import PlayMakers.SportsIT.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 알림 일괄 저장
+ * 알림 id가 IDENTITY 전략이라 JPA로는 INSERT가 batch로 묶이지 않으므로,
+ * 같은 내용의 알림을 여러 수신자에게 보낼 때는 여러 행을 한 번에 넣는 INSERT 문을 직접 실행한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class NotificationBatchRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (title, link, message, checked, coalesced_count, receiver_uid, sender_uid, notification_type, created_date, updated_date) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, false, 1, ?, ?, ?, ?, ?)";
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 수신자마다 같은 내용의 알림을 저장한다. (INSERT 한 번에 최대 500행)
+     * @return 저장된 알림 수
+     */
+    public int insertAll(List<Long> receiverIds, NotificationTitle title, String message, String link,
+                         Long senderUid, NotificationType notificationType, LocalDateTime now) {
+        Timestamp createdDate = Timestamp.valueOf(now);
+        int inserted = 0;
+        for (int from = 0; from < receiverIds.size(); from += ROWS_PER_STATEMENT) {
+            List<Long> chunk = receiverIds.subList(from, Math.min(from + ROWS_PER_STATEMENT, receiverIds.size()));
+            List<Object> args = new ArrayList<>(chunk.size() * 8);
+            for (Long receiverId : chunk) {
+                args.add(title.name());
+                args.add(link);
+                args.add(message);
+                args.add(receiverId);
+                args.add(senderUid);
+                args.add(notificationType == null ? null : notificationType.name());
+                args.add(createdDate);
+                args.add(createdDate);
+            }
+            String sql = INSERT_SQL + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER));
+            inserted += jdbcTemplate.update(sql, args.toArray());
+        }
+        return inserted;
+    }
+}
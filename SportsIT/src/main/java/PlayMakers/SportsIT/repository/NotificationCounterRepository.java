@@ -0,0 +1,104 @@
+package PlayMakers.SportsIT.repository;
+
+import PlayMakers.SportsIT.enums.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+/**
+ * 확인하지 않은 알림 수 테이블(notification_counter) 조회/갱신
+ */
+@RequiredArgsConstructor
+@Repository
+public class NotificationCounterRepository {
+    private static final String ADD_SQL =
+            "INSERT INTO notification_counter (member_uid, notification_type, unread_count) VALUES (?, ?, GREATEST(?, 0)) "
+                    + "ON DUPLICATE KEY UPDATE unread_count = GREATEST(unread_count + ?, 0)";
+    private static final String SELECT_BY_MEMBER_SQL =
+            "SELECT notification_type, unread_count FROM notification_counter WHERE member_uid = ?";
+    private static final String SELECT_RANGE_SQL =
+            "SELECT member_uid, notification_type, unread_count FROM notification_counter WHERE member_uid > ? AND member_uid <= ?";
+    // (receiver_uid, notification_type, id) 인덱스로 범위 안의 알림만 센다.
+    private static final String COUNT_UNREAD_RANGE_SQL =
+            "SELECT receiver_uid, notification_type, COUNT(*) AS unread_count FROM notification "
+                    + "WHERE receiver_uid > ? AND receiver_uid <= ? AND checked = false AND notification_type IS NOT NULL "
+                    + "GROUP BY receiver_uid, notification_type";
+    private static final String NTH_RECEIVER_SQL =
+            "SELECT receiver_uid FROM notification WHERE receiver_uid > ? GROUP BY receiver_uid ORDER BY receiver_uid LIMIT 1 OFFSET ?";
+    private static final String UNREAD_SUBQUERY =
+            "(SELECT COUNT(*) FROM notification WHERE receiver_uid = ? AND notification_type = ? AND checked = false)";
+    private static final String RECOUNT_UPDATE_SQL =
+            "UPDATE notification_counter SET unread_count = " + UNREAD_SUBQUERY + " WHERE member_uid = ? AND notification_type = ?";
+    private static final String RECOUNT_INSERT_SQL =
+            "INSERT INTO notification_counter (member_uid, notification_type, unread_count) VALUES (?, ?, " + UNREAD_SUBQUERY + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Key(Long memberUid, NotificationType notificationType) {
+    }
+
+    /**
+     * 회원들의 확인하지 않은 알림 수를 delta만큼 증감한다. (0 미만으로 내려가지 않음)
+     */
+    public void add(Collection<Long> memberUids, NotificationType notificationType, long delta) {
+        List<Object[]> args = new ArrayList<>(memberUids.size());
+        for (Long memberUid : memberUids) {
+            args.add(new Object[]{memberUid, notificationType.name(), delta, delta});
+        }
+        jdbcTemplate.batchUpdate(ADD_SQL, args);
+    }
+
+    public Map<NotificationType, Long> findByMemberUid(Long memberUid) {
+        Map<NotificationType, Long> counts = new EnumMap<>(NotificationType.class);
+        jdbcTemplate.query(SELECT_BY_MEMBER_SQL, rs -> {
+            counts.put(NotificationType.valueOf(rs.getString("notification_type")), rs.getLong("unread_count"));
+        }, memberUid);
+        return counts;
+    }
+
+    /**
+     * 회원 uid가 (fromUid, toUid] 범위인 카운터
+     */
+    public Map<Key, Long> findByMemberUidRange(long fromUid, long toUid) {
+        return queryCounts(SELECT_RANGE_SQL, "member_uid", fromUid, toUid);
+    }
+
+    /**
+     * notification 테이블에서 직접 센 확인하지 않은 알림 수 (받는 회원 uid가 (fromUid, toUid] 범위인 알림)
+     */
+    public Map<Key, Long> countUnreadNotifications(long fromUid, long toUid) {
+        return queryCounts(COUNT_UNREAD_RANGE_SQL, "receiver_uid", fromUid, toUid);
+    }
+
+    /**
+     * afterUid보다 큰 알림 받는 회원 uid 중 n번째 uid, n명보다 적으면 null
+     */
+    public Long findNthReceiverUid(long afterUid, int n) {
+        List<Long> uids = jdbcTemplate.queryForList(NTH_RECEIVER_SQL, Long.class, afterUid, n - 1);
+        return uids.isEmpty() ? null : uids.get(0);
+    }
+
+    /**
+     * notification 테이블을 다시 세어 카운터 하나를 바로잡는다. (UPDATE 한 문장으로 세고 저장하므로 중간에 바뀐 값을 덮어쓰지 않음)
+     */
+    public void recount(Long memberUid, NotificationType notificationType) {
+        String type = notificationType.name();
+        if (jdbcTemplate.update(RECOUNT_UPDATE_SQL, memberUid, type, memberUid, type) > 0) return;
+        try {
+            jdbcTemplate.update(RECOUNT_INSERT_SQL, memberUid, type, memberUid, type);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(RECOUNT_UPDATE_SQL, memberUid, type, memberUid, type); // 그 사이 다른 곳에서 생성됨
+        }
+    }
+
+    private Map<Key, Long> queryCounts(String sql, String uidColumn, Object... args) {
+        Map<Key, Long> counts = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(new Key(rs.getLong(uidColumn), NotificationType.valueOf(rs.getString("notification_type"))), rs.getLong("unread_count"));
+        }, args);
+        return counts;
+    }
+}
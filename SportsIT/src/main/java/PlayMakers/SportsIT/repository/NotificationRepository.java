@@ -2,15 +2,61 @@ package PlayMakers.SportsIT.repository;
 
 import PlayMakers.SportsIT.domain.Member;
 import PlayMakers.SportsIT.domain.Notification;
+import PlayMakers.SportsIT.dto.NotificationDto;
+import PlayMakers.SportsIT.enums.NotificationTitle;
 import PlayMakers.SportsIT.enums.NotificationType;
-import org.springframework.data.domain.Page;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long>{
 
-    Page<Notification> findByReceiverAndNotificationType(Member member, NotificationType type, Pageable pageable);
     int countByReceiverAndChecked(Member member, boolean checked);
+
+    // 확인하지 않은 알림일 때만 확인 처리 (동시에 확인해도 한 번만 1을 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.checked = true WHERE n.id = :id AND n.receiver.uid = :receiverUid AND n.checked = false")
+    int markChecked(@Param("id") Long id, @Param("receiverUid") Long receiverUid);
+
+    // 알림 종류만 조회 (알림 확인 후 카운터 감소용)
+    @Query("SELECT n.notificationType FROM Notification n WHERE n.id = :id")
+    NotificationType findNotificationTypeById(@Param("id") Long id);
+
+    // 실시간 알림 발송용: since 이후 저장되거나 합쳐진 모든 회원의 확인하지 않은 알림 ((updatedDate, id) keyset 조회, idx_notification_updated_date_id 사용)
+    @Query("SELECT new PlayMakers.SportsIT.dto.NotificationDto$Summary(n.id, n.receiver.uid, n.title, n.message, n.link, n.notificationType, n.checked, n.coalescedCount, n.createdDate, n.updatedDate) "
+            + "FROM Notification n WHERE n.updatedDate >= :since AND (n.updatedDate > :since OR n.id > :afterId) AND n.checked = false "
+            + "ORDER BY n.updatedDate ASC, n.id ASC")
+    List<NotificationDto.Summary> findSummariesUpdatedAfter(@Param("since") LocalDateTime since, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 실시간 알림 재연결용: afterId 이후 저장된 회원의 알림
+    @Query("SELECT new PlayMakers.SportsIT.dto.NotificationDto$Summary(n.id, n.receiver.uid, n.title, n.message, n.link, n.notificationType, n.checked, n.coalescedCount, n.createdDate, n.updatedDate) "
+            + "FROM Notification n WHERE n.receiver.uid = :receiverUid AND n.id > :afterId ORDER BY n.id ASC")
+    List<NotificationDto.Summary> findSummariesByReceiverAfter(@Param("receiverUid") Long receiverUid, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 알림 목록 (최신순 keyset 조회, idx_notification_receiver_type_id 사용)
+    @Query("SELECT new PlayMakers.SportsIT.dto.NotificationDto$Summary(n.id, n.receiver.uid, n.title, n.message, n.link, n.notificationType, n.checked, n.coalescedCount, n.createdDate) "
+            + "FROM Notification n WHERE n.receiver.uid = :receiverUid AND n.notificationType = :type AND n.id < :beforeId ORDER BY n.id DESC")
+    List<NotificationDto.Summary> findSummariesByReceiverBefore(@Param("receiverUid") Long receiverUid, @Param("type") NotificationType type,
+                                                                @Param("beforeId") Long beforeId, Pageable pageable);
+
+    // upToId 이하의 확인하지 않은 알림을 한 번에 확인 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.checked = true "
+            + "WHERE n.receiver.uid = :receiverUid AND n.notificationType = :type AND n.id <= :upToId AND n.checked = false")
+    int markAllChecked(@Param("receiverUid") Long receiverUid, @Param("type") NotificationType type, @Param("upToId") Long upToId);
+
+    // 합칠 알림: 같은 수신자, 제목, 링크의 확인하지 않은 최근 알림
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Notification> findFirstByReceiver_UidAndTitleAndLinkAndCheckedFalseAndCreatedDateGreaterThanEqualOrderByIdDesc(
+            Long receiverUid, NotificationTitle title, String link, LocalDateTime since);
 }
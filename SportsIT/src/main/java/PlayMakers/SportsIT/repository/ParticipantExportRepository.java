@@ -0,0 +1,60 @@
+package PlayMakers.SportsIT.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 대회 참가자 명단 내보내기용 조회
+ * 참가자 엔티티(회원, 대회)를 로딩하지 않고 명단에 필요한 컬럼만 조회하며,
+ * 조회한 행은 목록에 모으지 않고 한 행씩 넘겨 명단 크기와 관계없이 메모리 사용량이 일정하다.
+ *
+ * fetchSize 기본값(Integer.MIN_VALUE)은 MySQL Connector/J가 결과를 한 행씩 스트리밍하도록 하는 값이다.
+ */
+@Repository
+public class ParticipantExportRepository {
+    private static final String SELECT_SQL = "SELECT p.uid, m.name, m.phone, p.sector_title, p.sub_sector_name "
+            + "FROM participant p JOIN member m ON m.uid = p.uid WHERE p.competition_id = ?";
+    private static final String ORDER_BY = " ORDER BY p.sector_title, p.sub_sector_name, p.uid";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ParticipantExportRepository(JdbcTemplate jdbcTemplate,
+                                       @Value("${participant.export.fetch-size:-2147483648}") int fetchSize) {
+        // 명단 조회에만 fetchSize를 적용하기 위해 JdbcTemplate을 따로 만든다. (같은 DataSource, 트랜잭션 공유)
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public record Row(Long uid, String userName, String phone, String sectorTitle, String subSectorName) {
+    }
+
+    /**
+     * 대회 참가자를 종목, 세부 종목, uid 순으로 한 행씩 읽는다.
+     * @param sectorTitle 종목, null이면 전체
+     * @param subSectorName 세부 종목, null이면 전체
+     * @param action 행마다 호출, 호출이 끝날 때까지 커넥션을 사용하므로 다른 DB 작업을 하지 않아야 한다.
+     */
+    public void forEach(Long competitionId, String sectorTitle, String subSectorName, Consumer<Row> action) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(competitionId);
+        if (sectorTitle != null) {
+            sql.append(" AND p.sector_title = ?");
+            args.add(sectorTitle);
+        }
+        if (subSectorName != null) {
+            sql.append(" AND p.sub_sector_name = ?");
+            args.add(subSectorName);
+        }
+        sql.append(ORDER_BY);
+        jdbcTemplate.query(sql.toString(), rs -> {
+            action.accept(new Row(rs.getLong("uid"), rs.getString("name"), rs.getString("phone"),
+                    rs.getString("sector_title"), rs.getString("sub_sector_name")));
+        }, args.toArray());
+    }
+}
@@ -0,0 +1,86 @@
+package PlayMakers.SportsIT.repository;
+
+import PlayMakers.SportsIT.domain.SchedulerLease;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 스케줄러 임대 테이블(scheduler_lease) 조회/갱신
+ * 임대 획득, 연장, 만료된 임대 인수는 모두 조건부 UPDATE/INSERT 한 번으로 수행하여 여러 서버가 동시에 시도해도 한 서버만 성공한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class SchedulerLeaseRepository {
+    private static final String SELECT_SQL =
+            "SELECT lease_name, owner, expires_at, fencing_token FROM scheduler_lease WHERE lease_name = ?";
+    private static final String RENEW_SQL =
+            "UPDATE scheduler_lease SET expires_at = ? WHERE lease_name = ? AND owner = ? AND expires_at > ?";
+    private static final String TAKE_OVER_SQL =
+            "UPDATE scheduler_lease SET owner = ?, expires_at = ?, fencing_token = fencing_token + 1 WHERE lease_name = ? AND expires_at <= ?";
+    private static final String INSERT_SQL =
+            "INSERT INTO scheduler_lease (lease_name, owner, expires_at, fencing_token) VALUES (?, ?, ?, 1)";
+    private static final String RELEASE_SQL =
+            "UPDATE scheduler_lease SET expires_at = ? WHERE lease_name = ? AND owner = ? AND fencing_token = ?";
+    private static final String LOCK_IF_HELD_SQL =
+            "SELECT lease_name FROM scheduler_lease WHERE lease_name = ? AND owner = ? AND fencing_token = ? AND expires_at > ? FOR UPDATE";
+
+    private static final RowMapper<SchedulerLease> LEASE_ROW_MAPPER = (rs, rowNum) -> SchedulerLease.builder()
+            .name(rs.getString("lease_name"))
+            .owner(rs.getString("owner"))
+            .expiresAt(rs.getTimestamp("expires_at").toLocalDateTime())
+            .fencingToken(rs.getLong("fencing_token"))
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 임대를 획득하거나 연장한다.
+     * 1. 내가 가진 임대가 아직 유효하면 만료 시각만 연장 (토큰 유지)
+     * 2. 임대가 만료되었으면 주인과 관계없이 인수 (토큰 증가)
+     * 3. 임대가 없으면 새로 생성 (토큰 1)
+     * @return 획득한 임대, 다른 서버가 유효한 임대를 가지고 있으면 Optional.empty()
+     */
+    public Optional<SchedulerLease> tryAcquire(String name, String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        boolean acquired = jdbcTemplate.update(RENEW_SQL, expiresAt, name, owner, now) > 0
+                || jdbcTemplate.update(TAKE_OVER_SQL, owner, expiresAt, name, now) > 0
+                || insert(name, owner, expiresAt);
+        if (!acquired) return Optional.empty();
+        return find(name).filter(lease -> lease.getOwner().equals(owner));
+    }
+
+    public Optional<SchedulerLease> find(String name) {
+        List<SchedulerLease> leases = jdbcTemplate.query(SELECT_SQL, LEASE_ROW_MAPPER, name);
+        return leases.stream().findFirst();
+    }
+
+    /**
+     * 임대를 바로 만료시켜 다른 서버가 기다리지 않고 인수할 수 있도록 한다.
+     */
+    public boolean release(SchedulerLease lease, LocalDateTime now) {
+        return jdbcTemplate.update(RELEASE_SQL, now, lease.getName(), lease.getOwner(), lease.getFencingToken()) > 0;
+    }
+
+    /**
+     * 임대가 아직 유효한지(주인과 토큰이 그대로이고 만료되지 않았는지) 확인하고, 유효하면 임대 행을 잠근다.
+     * 트랜잭션 안에서 호출하면 트랜잭션이 끝날 때까지 다른 서버가 임대를 인수할 수 없다. (fencing)
+     */
+    public boolean lockIfHeld(SchedulerLease lease, LocalDateTime now) {
+        return !jdbcTemplate.queryForList(LOCK_IF_HELD_SQL, String.class,
+                lease.getName(), lease.getOwner(), lease.getFencingToken(), now).isEmpty();
+    }
+
+    private boolean insert(String name, String owner, LocalDateTime expiresAt) {
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, owner, expiresAt) > 0;
+        } catch (DuplicateKeyException e) {
+            return false; // 다른 서버가 먼저 생성함
+        }
+    }
+}
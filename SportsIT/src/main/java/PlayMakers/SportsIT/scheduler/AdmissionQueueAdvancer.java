@@ -0,0 +1,35 @@
+package PlayMakers.SportsIT.scheduler;
+
+import PlayMakers.SportsIT.service.AdmissionQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 대회 참가 대기열 입장
+ * 1초마다 열려 있는 대기열의 입장 순번을 초당 입장 인원만큼 올린다.
+ * DB 대기열(여러 서버가 공유)이면 스케줄러 임대를 가진 서버만 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AdmissionQueueAdvancer {
+    static final String ADVANCE_LEASE = "admission-queue-advance";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(10);
+
+    private final AdmissionQueueService admissionQueueService;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+
+    @Scheduled(fixedRate = 1000)
+    public void advance() {
+        if (admissionQueueService.isShared() && schedulerLeaseManager.tryAcquire(ADVANCE_LEASE, LEASE_TTL).isEmpty()) return;
+        try {
+            admissionQueueService.advance();
+        } catch (RuntimeException e) {
+            log.error("대회 참가 대기열 입장 실패", e);
+        }
+    }
+}
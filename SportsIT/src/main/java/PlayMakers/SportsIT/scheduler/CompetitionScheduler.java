@@ -1,70 +1,57 @@
 package PlayMakers.SportsIT.scheduler;
 
-import PlayMakers.SportsIT.domain.Competition;
 import PlayMakers.SportsIT.domain.CompetitionState;
-import PlayMakers.SportsIT.repository.CompetitionRepository;
-import PlayMakers.SportsIT.service.CompetitionService;
-import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
+import PlayMakers.SportsIT.domain.SchedulerLease;
+import PlayMakers.SportsIT.service.CompetitionListCache;
+import PlayMakers.SportsIT.service.CompetitionStateService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
 @Component
 public class CompetitionScheduler {
-    private final CompetitionRepository competitionRepository;
+    static final String STATE_SWEEP_LEASE = "competition-state-sweep";
 
-    public CompetitionScheduler(CompetitionRepository competitionRepository) {
-        this.competitionRepository = competitionRepository;
+    private final CompetitionStateService competitionStateService;
+    private final CompetitionListCache competitionListCache;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+
+    public CompetitionScheduler(CompetitionStateService competitionStateService, CompetitionListCache competitionListCache,
+                                SchedulerLeaseManager schedulerLeaseManager) {
+        this.competitionStateService = competitionStateService;
+        this.competitionListCache = competitionListCache;
+        this.schedulerLeaseManager = schedulerLeaseManager;
     }
 
+    /**
+     * 대회 상태 전환은 CompetitionStateTransitionEngine이 전환 시각에 맞춰 수행한다.
+     * 이 작업은 엔진이 놓친 전환(서버 재시작 중, DB 직접 수정 등)을 보완하기 위해 긴 주기로 실행된다.
+     * 전환 시각이 지난 대회를 상태별 UPDATE로 일괄 전환한다. (CompetitionStateService.updateStatesByTime)
+     * 서버가 여러 대이면 스케줄러 임대를 가진 서버만 실행한다. (SchedulerLeaseManager)
+     */
     @Async
-    @Scheduled(fixedDelay = 1000 * 60) // 1분마다
+    @Scheduled(fixedDelay = 1000 * 60 * 10) // 10분마다
     public void updateCompetitionState() {
-        log.info("실시간 대회 상태 조회() start");
-        LocalDateTime now = LocalDateTime.now();
-        List<CompetitionState> targetStates = List.of(CompetitionState.PLANNING, CompetitionState.RECRUITING, CompetitionState.RECRUITING_END, CompetitionState.IN_PROGRESS);
-        List<Competition> competitions = competitionRepository.findAllByStateIn(targetStates);
-
-        for (Competition competition : competitions) {
-            updateStateByTime(competition, now);
+        Optional<SchedulerLease> lease = schedulerLeaseManager.tryAcquire(STATE_SWEEP_LEASE);
+        if (lease.isEmpty()) {
+            log.debug("다른 서버가 대회 상태 조회를 실행 중입니다.");
+            return;
         }
-    }
 
-    @Transactional
-    public Competition updateStateByTime(Competition competition, LocalDateTime now) {
+        log.info("실시간 대회 상태 조회() start");
+        Map<CompetitionState, List<Long>> changed = competitionStateService.updateStatesByTime(LocalDateTime.now(), lease.get());
 
-        boolean isChanged = false;
-        if (competition.getState() == CompetitionState.PLANNING && competition.getRecruitingEnd().isBefore(now)) {
-            competition.setState(CompetitionState.RECRUITING);
-            isChanged = true;
-        }
-        if (competition.getState() == CompetitionState.RECRUITING && competition.getRecruitingEnd().isBefore(now)) {
-            competition.setState(CompetitionState.RECRUITING_END);
-            isChanged = true;
-        }
-        if (competition.getState() == CompetitionState.RECRUITING_END && competition.getStartDate().isBefore(now)) {
-            competition.setState(CompetitionState.IN_PROGRESS);
-            isChanged = true;
-        }
-        if (competition.getState() == CompetitionState.IN_PROGRESS && competition.getEndDate().isBefore(now)) {
-            competition.setState(CompetitionState.END);
-            isChanged = true;
-        }
-        if (isChanged) {
-            log.info("대회 상태 변경: {}", competition.getName());
-            return competitionRepository.save(competition);
+        // 대회 상태가 바뀌면 상태 필터가 걸린 대회 목록 캐시도 무효화
+        if (!changed.isEmpty()) {
+            log.info("대회 상태 변경: {}", changed);
+            competitionListCache.invalidateAll();
         }
-        return null;
     }
 }
@@ -0,0 +1,129 @@
+package PlayMakers.SportsIT.scheduler;
+
+import PlayMakers.SportsIT.domain.CompetitionState;
+import PlayMakers.SportsIT.dto.CompetitionDto;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.service.CompetitionListCache;
+import PlayMakers.SportsIT.service.CompetitionStateService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대회 상태 전환 엔진
+ * 대회마다 다음 상태 전환 시각(모집 시작일, 모집 마감일, 대회 시작일, 대회 종료일)에 작업을 하나씩 예약하고,
+ * 시각이 되면 해당 대회의 상태만 전환한다. 예약 작업은 ScheduledThreadPoolExecutor의 지연 큐(전환 시각 기준 우선순위 큐)에 보관된다.
+ *
+ * 애플리케이션 시작 시 DB에서 상태 전환이 남은 대회를 모두 예약하고, 대회 생성/수정/삭제 시 CompetitionSynchronizer가 다시 예약한다.
+ * 상태 전환은 "현재 상태가 예상한 상태이고 DB의 전환 시각이 지났을 때만" 변경하는 UPDATE로 수행하므로, 여러 서버에서 동시에 실행되어도 한 번만 전환된다.
+ * 다른 서버에서 일정이 수정되어 이 서버의 예약이 오래된 경우에는 전환하지 않고, DB의 일정으로 다시 예약한다.
+ * 놓친 전환은 CompetitionScheduler의 주기적인 조회가 보완한다.
+ */
+@Slf4j
+@Component
+public class CompetitionStateTransitionEngine {
+    private final CompetitionRepository competitionRepository;
+    private final CompetitionStateService competitionStateService;
+    private final CompetitionListCache competitionListCache;
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final Map<Long, ScheduledFuture<?>> scheduledTransitions = new ConcurrentHashMap<>();
+
+    public CompetitionStateTransitionEngine(CompetitionRepository competitionRepository,
+                                            CompetitionStateService competitionStateService,
+                                            CompetitionListCache competitionListCache) {
+        this.competitionRepository = competitionRepository;
+        this.competitionStateService = competitionStateService;
+        this.competitionListCache = competitionListCache;
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "competition-state-transition");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true); // 취소된 예약은 큐에서 바로 제거
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            List<CompetitionDto.StateSchedule> schedules = competitionRepository.findStateSchedules(null);
+            schedules.forEach(this::schedule);
+            log.info("대회 상태 전환 예약 완료: {}개", scheduledTransitions.size());
+        } catch (RuntimeException e) {
+            log.error("대회 상태 전환 예약 실패, 주기적인 상태 조회만 사용합니다.", e);
+        }
+    }
+
+    /**
+     * DB의 대회 일정을 다시 조회하여 다음 상태 전환을 예약한다. (대회 생성/수정 시)
+     */
+    public void reschedule(Long competitionId) {
+        List<CompetitionDto.StateSchedule> schedules = competitionRepository.findStateSchedules(List.of(competitionId));
+        if (schedules.isEmpty()) {
+            cancel(competitionId);
+            return;
+        }
+        schedule(schedules.get(0));
+    }
+
+    /**
+     * 예약된 상태 전환을 취소한다. (대회 삭제 시)
+     */
+    public void cancel(Long competitionId) {
+        ScheduledFuture<?> future = scheduledTransitions.remove(competitionId);
+        if (future != null) future.cancel(false);
+    }
+
+    public int getScheduledCount() {
+        return scheduledTransitions.size();
+    }
+
+    private void schedule(CompetitionDto.StateSchedule schedule) {
+        Long competitionId = schedule.getCompetitionId();
+        CompetitionState from = schedule.getState();
+        CompetitionState to = schedule.nextState();
+        LocalDateTime transitionAt = schedule.nextTransitionAt();
+        if (to == null || transitionAt == null) {
+            cancel(competitionId);
+            return;
+        }
+
+        long delay = Math.max(Duration.between(LocalDateTime.now(), transitionAt).toMillis(), 0);
+        CompletableFuture<ScheduledFuture<?>> self = new CompletableFuture<>();
+        ScheduledFuture<?> future = executor.schedule(() -> transition(competitionId, from, to, self.join()), delay, TimeUnit.MILLISECONDS);
+        self.complete(future);
+        ScheduledFuture<?> previous = scheduledTransitions.put(competitionId, future);
+        if (previous != null && previous != future) previous.cancel(false);
+    }
+
+    private void transition(Long competitionId, CompetitionState from, CompetitionState to, ScheduledFuture<?> self) {
+        try {
+            if (!competitionStateService.updateState(competitionId, from, to, LocalDateTime.now()).isEmpty()) {
+                competitionListCache.invalidateAll();
+            }
+            // 다음 상태 전환 예약 (이미 지난 시각이면 바로 실행됨, 일정이 늦춰졌으면 바뀐 시각으로 예약됨)
+            reschedule(competitionId);
+        } catch (RuntimeException e) {
+            // 그 사이 reschedule로 새 예약이 등록되었으면 남겨 둔다.
+            scheduledTransitions.remove(competitionId, self);
+            log.error("대회 상태 변경 실패: {} {} -> {}", competitionId, from, to, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
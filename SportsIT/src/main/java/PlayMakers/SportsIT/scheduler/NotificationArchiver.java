@@ -0,0 +1,109 @@
+package PlayMakers.SportsIT.scheduler;
+
+import PlayMakers.SportsIT.repository.NotificationArchiveRepository;
+import PlayMakers.SportsIT.service.NotificationArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 오래된 알림 보관
+ * 확인한 지 오래된(생성 후 retention-days가 지난) 알림을 notification_archive로 옮겨(policy=DELETE이면 삭제)
+ * 알림 목록과 확인하지 않은 알림 수 조회가 보는 notification 테이블을 작게 유지한다.
+ *
+ * 가장 오래된 알림부터 알림 id 구간(chunk-size) 단위로 한 트랜잭션씩 처리하여 긴 잠금을 잡지 않으며,
+ * 구간의 첫 알림이 보관 기준 시각 이후에 생성되었으면 멈춘다. (알림 id는 저장 순서)
+ * 확인하지 않은 알림은 기간이 지나도 남겨 두므로 확인하지 않은 알림 수 카운터는 바뀌지 않는다.
+ * 서버가 여러 대이면 스케줄러 임대를 가진 서버만 실행하고, 임대 기간의 절반이 지나면 다음 실행으로 넘긴다.
+ */
+@Slf4j
+@Component
+public class NotificationArchiver {
+    static final String ARCHIVE_LEASE = "notification-archive";
+    private static final Duration LEASE_TTL = Duration.ofHours(1);
+
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final NotificationArchiveService notificationArchiveService;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final Duration retention;
+    private final int chunkSize;
+    private final NotificationArchiveService.Policy policy;
+
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    public NotificationArchiver(NotificationArchiveRepository notificationArchiveRepository,
+                                NotificationArchiveService notificationArchiveService,
+                                SchedulerLeaseManager schedulerLeaseManager,
+                                @Value("${notification.archive.retention-days:30}") long retentionDays,
+                                @Value("${notification.archive.chunk-size:1000}") int chunkSize,
+                                @Value("${notification.archive.policy:ARCHIVE}") NotificationArchiveService.Policy policy) {
+        this.notificationArchiveRepository = notificationArchiveRepository;
+        this.notificationArchiveService = notificationArchiveService;
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.retention = Duration.ofDays(retentionDays);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.policy = policy;
+    }
+
+    @Scheduled(cron = "${notification.archive.cron:0 30 4 * * *}") // 기본 매일 오전 4시 30분
+    public void archiveDaily() {
+        if (schedulerLeaseManager.tryAcquire(ARCHIVE_LEASE, LEASE_TTL).isEmpty()) return;
+        try {
+            archive(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("알림 보관 실패", e);
+        }
+    }
+
+    /**
+     * @return 옮겨진(policy=DELETE이면 삭제된) 알림 수
+     */
+    public int archive(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(retention);
+        long deadline = System.nanoTime() + LEASE_TTL.toNanos() / 2;
+        long startedAt = System.currentTimeMillis();
+        int moved = 0;
+        int chunks = 0;
+        long fromId = 0;
+        while (System.nanoTime() < deadline) {
+            Optional<NotificationArchiveRepository.Head> head = notificationArchiveRepository.findHead(fromId);
+            if (head.isEmpty()) break;
+            if (head.get().createdDate() == null) {
+                // 생성일이 없는 이전 알림은 건너뛴다. (멈추면 매번 id 0부터 다시 시작하므로 보관이 더 진행되지 않음)
+                fromId = head.get().id() + 1;
+                continue;
+            }
+            if (!head.get().createdDate().isBefore(cutoff)) break;
+
+            long toId = head.get().id() + chunkSize;
+            moved += notificationArchiveService.archiveRange(head.get().id(), toId, cutoff, policy, now);
+            chunks++;
+            fromId = toId;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("startedAt", now);
+        result.put("policy", policy);
+        result.put("cutoff", cutoff);
+        result.put("moved", moved);
+        result.put("chunks", chunks);
+        result.put("elapsedMillis", System.currentTimeMillis() - startedAt);
+        lastRun = result;
+        log.info("알림 보관: {}개 {} ({}개 구간, {}ms)", moved, policy, chunks, result.get("elapsedMillis"));
+        return moved;
+    }
+
+    /**
+     * 마지막 실행 결과 (실행한 적 없으면 빈 값)
+     */
+    public Map<String, Object> lastRun() {
+        return lastRun;
+    }
+}
@@ -0,0 +1,42 @@
+package PlayMakers.SportsIT.scheduler;
+
+import PlayMakers.SportsIT.service.NotificationCounterService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 확인하지 않은 알림 수 카운터 보정
+ * 알림 직접 삭제, 실패한 증감 등으로 카운터가 실제 알림 수와 어긋나는 경우를 주기적으로 바로잡는다.
+ * 서버가 여러 대이면 스케줄러 임대를 가진 서버만 실행한다. (임대 기간은 실행 주기의 2배)
+ */
+@Slf4j
+@Component
+public class NotificationCounterReconciler {
+    static final String RECONCILE_LEASE = "notification-counter-reconcile";
+
+    private final NotificationCounterService notificationCounterService;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final Duration leaseTtl;
+
+    public NotificationCounterReconciler(NotificationCounterService notificationCounterService,
+                                         SchedulerLeaseManager schedulerLeaseManager,
+                                         @Value("${notification.counter.reconcile-interval-ms:3600000}") long intervalMillis) {
+        this.notificationCounterService = notificationCounterService;
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.leaseTtl = Duration.ofMillis(intervalMillis * 2);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.counter.reconcile-interval-ms:3600000}") // 기본 1시간마다
+    public void reconcile() {
+        if (schedulerLeaseManager.tryAcquire(RECONCILE_LEASE, leaseTtl).isEmpty()) return;
+        try {
+            notificationCounterService.reconcile();
+        } catch (RuntimeException e) {
+            log.error("확인하지 않은 알림 수 보정 실패", e);
+        }
+    }
+}
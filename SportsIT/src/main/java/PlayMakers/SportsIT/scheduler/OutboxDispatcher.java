@@ -0,0 +1,97 @@
+package PlayMakers.SportsIT.scheduler;
+
+import PlayMakers.SportsIT.domain.OutboxEvent;
+import PlayMakers.SportsIT.repository.OutboxEventRepository;
+import PlayMakers.SportsIT.service.OutboxEventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 이벤트 발송기
+ * 대기 중인 아웃박스 이벤트를 저장된 순서대로 일정 개수씩 꺼내 알림으로 발송한다.
+ *
+ * - 이벤트 하나씩 별도 트랜잭션으로 처리하며, 처리 완료 표시가 커밋되기 전에 실패하면 다음 주기에 다시 처리한다. (at-least-once)
+ * - 같은 대회(회원)의 이벤트는 순서대로 처리한다. 앞 이벤트가 실패하면 같은 대회의 뒤 이벤트는 이번 주기에 처리하지 않는다.
+ * - 서버가 여러 대이면 스케줄러 임대를 가진 서버 한 대만 발송한다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+    static final String DISPATCH_LEASE = "outbox-dispatch";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventHandler outboxEventHandler;
+    private final SchedulerLeaseManager schedulerLeaseManager;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration leaseTtl;
+
+    private final AtomicLong dispatchedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private volatile long lastLagMillis = 0; // 마지막으로 발송한 이벤트의 저장 ~ 발송 지연 시간
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            OutboxEventHandler outboxEventHandler,
+                            SchedulerLeaseManager schedulerLeaseManager,
+                            @Value("${outbox.batch-size:100}") int batchSize,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.lease-ttl-seconds:30}") long leaseTtlSeconds) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventHandler = outboxEventHandler;
+        this.schedulerLeaseManager = schedulerLeaseManager;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        if (schedulerLeaseManager.tryAcquire(DISPATCH_LEASE, leaseTtl).isEmpty()) return;
+
+        List<OutboxEvent> events = outboxEventRepository.findByStatusOrderByIdAsc(OutboxEvent.Status.PENDING, PageRequest.of(0, batchSize));
+        if (events.isEmpty()) return;
+
+        Set<String> blockedKeys = new HashSet<>();
+        int dispatched = 0;
+        for (OutboxEvent event : events) {
+            if (blockedKeys.contains(event.getOrderingKey())) continue;
+            try {
+                outboxEventHandler.handle(event.getId());
+                dispatched++;
+                lastLagMillis = Duration.between(event.getCreatedDate(), LocalDateTime.now()).toMillis();
+            } catch (RuntimeException e) {
+                blockedKeys.add(event.getOrderingKey());
+                OutboxEvent.Status status = outboxEventHandler.markFailed(event.getId(), e.getMessage(), maxAttempts);
+                if (status == OutboxEvent.Status.FAILED) failedCount.incrementAndGet();
+                log.error("아웃박스 이벤트 발송 실패: {} {} ({})", event.getId(), event.getEventType(), status, e);
+            }
+        }
+        dispatchedCount.addAndGet(dispatched);
+        log.info("아웃박스 이벤트 발송: {}/{}개, 지연 {}ms", dispatched, events.size(), lastLagMillis);
+    }
+
+    /**
+     * 발송 지표
+     * pending: 대기 중인 이벤트 수, oldestPendingAgeMillis: 가장 오래 대기 중인 이벤트의 대기 시간,
+     * lastLagMillis: 마지막으로 발송한 이벤트의 지연 시간, dispatchedCount/failedCount: 이 서버에서 발송/최종 실패한 이벤트 수
+     */
+    public Map<String, Object> stats() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pending", outboxEventRepository.countByStatus(OutboxEvent.Status.PENDING));
+        result.put("oldestPendingAgeMillis", outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxEvent.Status.PENDING)
+                .map(event -> Duration.between(event.getCreatedDate(), LocalDateTime.now()).toMillis())
+                .orElse(0L));
+        result.put("lastLagMillis", lastLagMillis);
+        result.put("dispatchedCount", dispatchedCount.get());
+        result.put("failedCount", failedCount.get());
+        return result;
+    }
+}
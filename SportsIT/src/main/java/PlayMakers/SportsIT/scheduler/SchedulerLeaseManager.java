@@ -0,0 +1,93 @@
+package PlayMakers.SportsIT.scheduler;
+
+import PlayMakers.SportsIT.domain.SchedulerLease;
+import PlayMakers.SportsIT.repository.SchedulerLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄러 리더 선출
+ * 서버가 여러 대일 때 주기 작업마다 임대(scheduler_lease)를 가진 서버 한 대만 작업을 실행한다.
+ * 리더는 작업을 실행할 때마다 임대를 연장하며, 리더가 종료되거나 응답이 없어 임대가 만료되면 다음 작업 주기에 다른 서버가 임대를 인수한다.
+ * 임대 기간은 작업 주기보다 길어야 리더가 유지된다. (scheduler.lease.ttl-seconds)
+ */
+@Slf4j
+@Component
+public class SchedulerLeaseManager {
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final Duration ttl;
+    private final String owner;
+    private final Map<String, SchedulerLease> heldLeases = new ConcurrentHashMap<>();
+
+    public SchedulerLeaseManager(SchedulerLeaseRepository schedulerLeaseRepository,
+                                 @Value("${scheduler.lease.ttl-seconds:900}") long ttlSeconds) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.owner = hostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 작업 임대를 획득하거나 연장한다.
+     * @param name 작업 이름
+     * @return 획득한 임대, 다른 서버가 리더이면 Optional.empty()
+     */
+    public Optional<SchedulerLease> tryAcquire(String name) {
+        return tryAcquire(name, ttl);
+    }
+
+    /**
+     * 작업 주기가 짧아 기본 임대 기간 대신 짧은 임대 기간을 쓰는 경우
+     * @param ttl 임대 기간 (작업 주기보다 길어야 함)
+     */
+    public Optional<SchedulerLease> tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<SchedulerLease> lease = schedulerLeaseRepository.tryAcquire(name, owner, now, now.plus(ttl));
+        SchedulerLease previous = lease.isPresent() ? heldLeases.put(name, lease.get()) : heldLeases.remove(name);
+
+        if (lease.isPresent() && (previous == null || !previous.getFencingToken().equals(lease.get().getFencingToken()))) {
+            log.info("스케줄러 리더 선출: {} {} (token {})", name, owner, lease.get().getFencingToken());
+        } else if (lease.isEmpty() && previous != null) {
+            log.info("스케줄러 리더 상실: {} {}", name, owner);
+        }
+        return lease;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    /**
+     * 서버 종료 시 가진 임대를 반납하여 다른 서버가 바로 인수할 수 있도록 한다.
+     */
+    @PreDestroy
+    public void releaseAll() {
+        LocalDateTime now = LocalDateTime.now();
+        heldLeases.values().forEach(lease -> {
+            try {
+                schedulerLeaseRepository.release(lease, now);
+            } catch (RuntimeException e) {
+                log.warn("스케줄러 임대 반납 실패: {}", lease.getName(), e);
+            }
+        });
+        heldLeases.clear();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
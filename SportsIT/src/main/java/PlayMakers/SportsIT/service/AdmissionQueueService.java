@@ -0,0 +1,186 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.exceptions.ErrorCode;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+import PlayMakers.SportsIT.exceptions.RequestDeniedException;
+import PlayMakers.SportsIT.repository.AdmissionQueueStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 대회 참가 대기열 (가상 대기실)
+ * 인기 대회의 모집이 시작될 때 참가 요청이 한꺼번에 몰리지 않도록, 주최자가 연 대기열에서 순번을 받은 회원만
+ * 초당 정해진 인원씩 참가 화면(/join/format, /join)에 들어갈 수 있게 한다. 대기열을 열지 않은 대회는 그대로 참가할 수 있다.
+ *
+ * 대기열 토큰(순번)과 입장 토큰(만료 시각)은 서버 비밀키로 서명하므로, 입장 확인은 서명과 만료 시각만 검사하며 DB를 조회하지 않는다.
+ * 대기열 상태는 서버마다 짧게(state-cache-millis) 캐시하므로 순서 조회가 몰려도 저장소에는 대회당 초당 한 번 정도만 간다.
+ */
+@Slf4j
+@Service
+public class AdmissionQueueService {
+    private static final String QUEUE_TOKEN = "q";
+    private static final String ADMISSION_TOKEN = "a";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final AdmissionQueueStore admissionQueueStore;
+    private final SecretKeySpec signingKey;
+    private final Duration admissionTtl;
+    private final Cache<Long, Optional<AdmissionQueueStore.State>> states;
+
+    public AdmissionQueueService(AdmissionQueueStore admissionQueueStore,
+                                 @Value("${admission.queue.secret:${jwt.secret}}") String secret,
+                                 @Value("${admission.queue.admission-ttl-seconds:600}") long admissionTtlSeconds,
+                                 @Value("${admission.queue.state-cache-millis:1000}") long stateCacheMillis) {
+        this.admissionQueueStore = admissionQueueStore;
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.admissionTtl = Duration.ofSeconds(admissionTtlSeconds);
+        this.states = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(stateCacheMillis))
+                .build();
+    }
+
+    /**
+     * 대기열 순서
+     * @param queueToken 대기열 토큰 (순서 조회에 사용)
+     * @param position 앞에 남은 인원, 0이면 입장
+     * @param admissionToken 입장 토큰 (입장한 경우에만, 참가 요청의 X-Admission-Token 헤더에 넣는다.)
+     */
+    public record Ticket(String queueToken, long position, String admissionToken) {
+    }
+
+    /**
+     * 대기열을 연다. 이미 열려 있으면 초당 입장 인원만 바꾼다.
+     */
+    public void open(Long competitionId, int ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "초당 입장 인원은 1명 이상이어야 합니다.");
+        }
+        admissionQueueStore.open(competitionId, ratePerSecond);
+        states.invalidate(competitionId);
+        log.info("대회 참가 대기열 열림: {} (초당 {}명)", competitionId, ratePerSecond);
+    }
+
+    public void close(Long competitionId) {
+        admissionQueueStore.close(competitionId);
+        states.invalidate(competitionId);
+        log.info("대회 참가 대기열 닫힘: {}", competitionId);
+    }
+
+    public boolean isEnabled(Long competitionId) {
+        return state(competitionId).isPresent();
+    }
+
+    /**
+     * 대기열에 들어가 순번을 받는다. 대기열이 없는 대회는 바로 입장 토큰을 받는다.
+     * 이미 대기열에 들어온 회원은 새 순번을 받지 않고 처음 받은 순번의 순서를 다시 받는다.
+     */
+    public Ticket enter(Long competitionId, Long uid) {
+        var issued = admissionQueueStore.issue(competitionId, uid);
+        if (issued.isEmpty()) return new Ticket(null, 0, admissionToken(competitionId, uid));
+        String queueToken = sign(QUEUE_TOKEN, competitionId, uid, issued.getAsLong());
+        return ticket(competitionId, uid, queueToken, issued.getAsLong());
+    }
+
+    /**
+     * 대기열 순서를 조회한다.
+     * @throws InvalidValueException 다른 대회나 회원의 토큰이거나 서명이 맞지 않는 경우
+     */
+    public Ticket status(Long competitionId, Long uid, String queueToken) {
+        long sequence = verify(queueToken, QUEUE_TOKEN, competitionId, uid)
+                .orElseThrow(() -> new InvalidValueException(ErrorCode.INVALID_QUEUE_TOKEN, "잘못된 대기열 토큰입니다."));
+        return ticket(competitionId, uid, queueToken, sequence);
+    }
+
+    /**
+     * 대기열이 열린 대회이면 입장 토큰을 확인한다. (서명과 만료 시각만 확인)
+     * @throws RequestDeniedException 입장 토큰이 없거나, 잘못되었거나, 만료된 경우
+     */
+    public void checkAdmitted(Long competitionId, Long uid, String admissionToken) {
+        if (!isEnabled(competitionId)) return;
+        Optional<Long> expiresAt = verify(admissionToken, ADMISSION_TOKEN, competitionId, uid);
+        if (expiresAt.isEmpty() || expiresAt.get() < Instant.now().getEpochSecond()) {
+            throw new RequestDeniedException(ErrorCode.ADMISSION_REQUIRED, "대기열에서 입장 순서를 기다려주세요.");
+        }
+    }
+
+    /**
+     * 열려 있는 모든 대기열의 입장 순번을 올린다. (AdmissionQueueAdvancer가 1초마다 호출)
+     */
+    public void advance() {
+        admissionQueueStore.advance();
+        states.invalidateAll();
+    }
+
+    public boolean isShared() {
+        return admissionQueueStore.isShared();
+    }
+
+    private Ticket ticket(Long competitionId, Long uid, String queueToken, long sequence) {
+        Optional<AdmissionQueueStore.State> state = state(competitionId);
+        long position = state.map(s -> Math.max(sequence - s.admitted(), 0)).orElse(0L); // 대기열이 닫혔으면 입장
+        return new Ticket(queueToken, position, position == 0 ? admissionToken(competitionId, uid) : null);
+    }
+
+    private Optional<AdmissionQueueStore.State> state(Long competitionId) {
+        return states.get(competitionId, admissionQueueStore::find);
+    }
+
+    private String admissionToken(Long competitionId, Long uid) {
+        return sign(ADMISSION_TOKEN, competitionId, uid, Instant.now().plus(admissionTtl).getEpochSecond());
+    }
+
+    /**
+     * 토큰 = Base64(종류:대회 ID:회원 uid:값).Base64(HMAC-SHA256 서명)
+     */
+    private String sign(String type, Long competitionId, Long uid, long value) {
+        String payload = type + ":" + competitionId + ":" + uid + ":" + value;
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "." + encoder.encodeToString(hmac(payload));
+    }
+
+    /**
+     * @return 서명이 맞고 종류, 대회, 회원이 같으면 토큰의 값 (대기열 토큰은 순번, 입장 토큰은 만료 시각)
+     */
+    private Optional<Long> verify(String token, String type, Long competitionId, Long uid) {
+        if (token == null || token.isBlank()) return Optional.empty();
+        try {
+            String[] parts = token.trim().split("\\.");
+            if (parts.length != 2) return Optional.empty();
+            String payload = new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8);
+            if (!MessageDigest.isEqual(hmac(payload), Base64.getUrlDecoder().decode(parts[1]))) return Optional.empty();
+
+            String[] fields = payload.split(":");
+            if (fields.length != 4 || !fields[0].equals(type)
+                    || !fields[1].equals(String.valueOf(competitionId)) || !fields[2].equals(String.valueOf(uid))) {
+                return Optional.empty();
+            }
+            return Optional.of(Long.parseLong(fields[3]));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] hmac(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(signingKey);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("대기열 토큰 서명 실패", e);
+        }
+    }
+}
@@ -1,24 +1,42 @@
 package PlayMakers.SportsIT.service;
 
 import PlayMakers.SportsIT.domain.CompetitionForm;
-import PlayMakers.SportsIT.repository.CompetitionFormRepository;
+import PlayMakers.SportsIT.repository.DocumentStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CompetitionFormService {
-    private final CompetitionFormRepository competitionFormRepository;
+    private final DocumentStore<CompetitionForm> formStore;
     public String createForm(CompetitionForm form) throws Exception{
-        return competitionFormRepository.saveForm(form);
+        return formStore.save(form).get();
     }
     public CompetitionForm getForm(String formId) throws Exception{
-        return competitionFormRepository.findForm(formId);
+        return formStore.find(formId).get();
     }
     public void deleteForm(String formId) throws Exception{
-        competitionFormRepository.deleteForm(formId);
+        formStore.delete(formId).get();
+    }
+
+    public CompletableFuture<String> createFormAsync(CompetitionForm form) {
+        return formStore.save(form);
+    }
+    public CompletableFuture<CompetitionForm> getFormAsync(String formId) {
+        return formStore.find(formId);
+    }
+    /**
+     * 신청서 삭제 (완료를 기다리지 않음, 실패하면 로그만 남긴다)
+     */
+    public CompletableFuture<Void> deleteFormAsync(String formId) {
+        return formStore.delete(formId)
+                .whenComplete((result, e) -> {
+                    if (e != null) log.error("form 삭제 실패: {}", formId, e);
+                });
     }
 
 }
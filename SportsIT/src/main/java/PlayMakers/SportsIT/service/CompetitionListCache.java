@@ -0,0 +1,107 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.dto.CompetitionDto;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 대회 목록 조회 결과 캐시
+ * 같은 검색어, 필터, 정렬, 페이지 조합의 목록 조회 결과를 일정 시간(TTL) 동안 재사용한다.
+ * 캐시 크기는 저장된 대회 수(가중치) 기준으로 제한된다.
+ *
+ * 대회 생성/수정/삭제, 스케줄러의 대회 상태 변경 시 invalidateAll()로 전체 무효화한다.
+ * 무효화 시 세대(generation)를 올려, 무효화 직전에 조회 중이던 결과가 캐시에 남더라도 이후 요청에서 사용되지 않도록 한다.
+ * 모집 마감 임박(recruitingEnd)처럼 현재 시각 기준 필터는 현재 시각을 구간(bucket) 단위로 잘라 같은 구간의 요청끼리 캐시를 공유한다.
+ */
+@Slf4j
+@Component
+public class CompetitionListCache {
+    private static final List<String> TIME_RELATIVE_FILTERS = List.of("recruitingEnd");
+
+    private final Cache<Key, CursorSlice<CompetitionDto.Summary>> cache;
+    private final Duration timeBucket;
+    private final AtomicLong generation = new AtomicLong();
+
+    public CompetitionListCache(@Value("${competition.list-cache.max-weight:5000}") long maxWeight,
+                                @Value("${competition.list-cache.ttl-seconds:30}") long ttlSeconds,
+                                @Value("${competition.list-cache.time-bucket-seconds:60}") long timeBucketSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Key key, CursorSlice<CompetitionDto.Summary> slice) -> slice.getNumberOfElements() + 1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.timeBucket = Duration.ofSeconds(timeBucketSeconds);
+    }
+
+    /**
+     * 정규화된 목록 조회 조건
+     * @param timeBucket 현재 시각 기준 필터가 있을 때만 현재 시각이 속한 구간의 시작 시각, 없으면 null
+     */
+    public record Key(long generation, String keyword, List<String> filters, String orderBy,
+                      String cursor, int page, int size, LocalDateTime timeBucket) {
+    }
+
+    public Key key(String keyword, List<String> filteringConditions, String orderBy, String cursor, int page, int size, LocalDateTime now) {
+        String normalizedKeyword = keyword == null || keyword.isBlank() ? null : keyword.strip().toLowerCase(Locale.ROOT);
+        List<String> filters = filteringConditions == null ? List.of() : filteringConditions.stream().distinct().sorted().toList();
+        String normalizedOrderBy = orderBy == null || orderBy.isEmpty() ? "createdDate" : orderBy;
+        boolean timeRelative = filters.stream().anyMatch(TIME_RELATIVE_FILTERS::contains);
+        String normalizedCursor = cursor == null || cursor.isBlank() ? null : cursor;
+        return new Key(generation.get(), normalizedKeyword, filters, normalizedOrderBy,
+                normalizedCursor, normalizedCursor == null ? page : 0, size, timeRelative ? now : null);
+    }
+
+    /**
+     * 현재 시각이 속한 구간의 시작 시각
+     * 현재 시각 기준 필터는 이 시각을 기준으로 조회해야 같은 구간의 요청끼리 결과가 같다.
+     */
+    public LocalDateTime bucketedNow() {
+        LocalDateTime now = LocalDateTime.now();
+        long bucketSeconds = Math.max(timeBucket.toSeconds(), 1);
+        long secondsOfDay = now.toLocalTime().toSecondOfDay();
+        return now.truncatedTo(ChronoUnit.DAYS).plusSeconds(secondsOfDay - secondsOfDay % bucketSeconds);
+    }
+
+    public CursorSlice<CompetitionDto.Summary> get(Key key, Supplier<CursorSlice<CompetitionDto.Summary>> loader) {
+        return cache.get(key, k -> loader.get());
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+        log.info("대회 목록 캐시 무효화");
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("estimatedSize", cache.estimatedSize());
+        result.put("generation", generation.get());
+        return result;
+    }
+
+    @Scheduled(fixedDelay = 1000 * 60 * 10) // 10분마다
+    public void logStats() {
+        CacheStats stats = cache.stats();
+        log.info("대회 목록 캐시 통계: hit {}, miss {}, hitRate {}, eviction {}, size {}",
+                stats.hitCount(), stats.missCount(), String.format("%.3f", stats.hitRate()), stats.evictionCount(), cache.estimatedSize());
+    }
+}
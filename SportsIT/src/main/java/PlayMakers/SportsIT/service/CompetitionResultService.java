@@ -14,8 +14,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -26,8 +28,10 @@ public class CompetitionResultService {
     private final CompetitionResultRepository competitionResultRepository;
     private final CompetitionRepository competitionRepository;
     private final MemberRepository memberRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     public String createCompetitionResult(List<CompetitionResultDto> dtos) {
+        Set<Long> competitionIds = new LinkedHashSet<>();
         for(CompetitionResultDto dto : dtos){
             Competition competition = competitionRepository.findByCompetitionId(dto.getCompetitionId());
             Optional<Member> member = memberRepository.findById(dto.getUid());
@@ -41,7 +45,10 @@ public class CompetitionResultService {
                     .member(member.get())
                     .build();
             competitionResultRepository.save(competitionResult);
+            competitionIds.add(competition.getCompetitionId());
         }
+        // 대회별로 한 번만 결과 등록 알림
+        competitionIds.forEach(outboxEventPublisher::competitionResultSaved);
         return "Success";
     }
 }
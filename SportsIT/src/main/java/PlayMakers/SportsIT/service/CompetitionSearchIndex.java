@@ -0,0 +1,283 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.dto.CompetitionDto;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 대회 검색용 역색인 (In-memory Inverted Index)
+ * 대회 이름, 주최자 이름, 종목 한글명을 글자 단위 unigram/bigram으로 색인하여
+ * LIKE '%검색어%' 전체 스캔 없이 검색어에 해당하는 대회 아이디를 찾는다.
+ * 결과는 BM25로 점수를 매겨 관련도 순으로 반환하며, 기존 LIKE 검색과 결과가 같도록 부분 문자열 포함 여부를 다시 확인한다.
+ *
+ * 애플리케이션 시작 시 DB에서 전체 색인을 생성하고, 이후에는 대회 생성/수정/삭제 시 CompetitionSynchronizer가 갱신한다.
+ * 색인 생성이 끝나기 전(isReady() == false)에는 search()가 빈 값을 반환하므로 호출 측은 기존 LIKE 검색을 사용해야 한다.
+ *
+ * CompetitionSynchronizer는 요청을 처리한 서버의 색인만 갱신하므로, 다른 서버에서 변경된 대회는 주기적으로 반영한다.
+ * - refresh(): 마지막 반영 이후 updatedDate가 바뀐 대회를 다시 색인한다. (기본 1분마다, 다른 서버의 생성/수정은 최대 약 1분 늦게 검색됨)
+ * - rebuild(): 매일 전체 색인을 다시 생성하여, 다른 서버에서 삭제된 대회와 updatedDate가 바뀌지 않는 변경(주최자 이름 등)을 반영한다.
+ *   삭제된 대회가 그 전까지 색인에 남아 있어도 검색 결과는 DB에서 다시 조회하므로 응답에는 나오지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CompetitionSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(5);
+
+    private final CompetitionRepository competitionRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>(); // gram -> (competitionId -> 출현 횟수)
+    private Map<Long, Document> documents = new HashMap<>();
+    private long totalLength = 0;
+
+    private volatile boolean ready = false;
+    private volatile boolean rebuilding = false;
+    private volatile LocalDateTime lastSyncedAt; // 마지막으로 DB의 변경을 반영한 시각 (조회 시작 기준)
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private record Document(String name, String hostName, String categoryName, Map<String, Integer> termFrequencies, int length) {
+        boolean contains(String keyword) {
+            return name.contains(keyword) || hostName.contains(keyword) || categoryName.contains(keyword);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * DB에서 전체 색인을 다시 생성한다. (애플리케이션 시작 시, 기본 매일 오전 5시)
+     * 생성 중에 변경된 대회는 새 색인으로 교체한 뒤 다시 반영한다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${competition.search.rebuild-cron:0 0 5 * * *}")
+    public void rebuild() {
+        log.info("대회 검색 색인 생성 시작");
+        rebuilding = true;
+        changedDuringRebuild.clear();
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            Map<String, Map<Long, Integer>> newPostings = new HashMap<>();
+            Map<Long, Document> newDocuments = new HashMap<>();
+            long newTotalLength = 0;
+            for (CompetitionDto.SearchDocument searchDocument : competitionRepository.findSearchDocuments(null)) {
+                Document document = toDocument(searchDocument);
+                addPostings(newPostings, searchDocument.getCompetitionId(), document);
+                newDocuments.put(searchDocument.getCompetitionId(), document);
+                newTotalLength += document.length();
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings = newPostings;
+                documents = newDocuments;
+                totalLength = newTotalLength;
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!changedDuringRebuild.isEmpty()) {
+                index(new ArrayList<>(changedDuringRebuild));
+                changedDuringRebuild.clear();
+            }
+            lastSyncedAt = startedAt;
+            ready = true;
+            log.info("대회 검색 색인 생성 완료: 대회 {}개, 색인어 {}개", newDocuments.size(), newPostings.size());
+        } catch (RuntimeException e) {
+            rebuilding = false;
+            log.error("대회 검색 색인 생성 실패, 기존 LIKE 검색을 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 마지막 반영 이후 다른 서버에서 생성/수정된 대회를 다시 색인한다.
+     * 수정 시각(updatedDate)은 커밋보다 먼저 기록되므로, REFRESH_OVERLAP만큼 이전부터 겹쳐서 조회한다. (이미 반영한 대회를 다시 색인해도 결과는 같음)
+     */
+    @Scheduled(fixedDelayString = "${competition.search.refresh-interval-ms:60000}")
+    public void refresh() {
+        LocalDateTime since = lastSyncedAt;
+        if (!ready || since == null) return;
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<Long> competitionIds = competitionRepository.findCompetitionIdsUpdatedSince(since.minus(REFRESH_OVERLAP));
+            if (!competitionIds.isEmpty()) index(competitionIds);
+            lastSyncedAt = startedAt;
+            log.debug("대회 검색 색인 반영: {}개", competitionIds.size());
+        } catch (RuntimeException e) {
+            log.warn("대회 검색 색인 반영 실패", e);
+        }
+    }
+
+    /**
+     * 대회를 색인에 추가하거나 갱신한다. (DB에 커밋된 값을 다시 조회하여 반영)
+     */
+    public void index(Long competitionId) {
+        index(List.of(competitionId));
+    }
+
+    private void index(List<Long> competitionIds) {
+        if (rebuilding) changedDuringRebuild.addAll(competitionIds);
+        List<CompetitionDto.SearchDocument> searchDocuments = competitionRepository.findSearchDocuments(competitionIds);
+
+        lock.writeLock().lock();
+        try {
+            competitionIds.forEach(this::removeDocument);
+            for (CompetitionDto.SearchDocument searchDocument : searchDocuments) {
+                Document document = toDocument(searchDocument);
+                addPostings(postings, searchDocument.getCompetitionId(), document);
+                documents.put(searchDocument.getCompetitionId(), document);
+                totalLength += document.length();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대회를 색인에서 제거한다.
+     */
+    public void remove(Long competitionId) {
+        if (rebuilding) changedDuringRebuild.add(competitionId);
+        lock.writeLock().lock();
+        try {
+            removeDocument(competitionId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어에 해당하는 대회 아이디를 관련도(BM25) 순으로 반환한다.
+     * @param keyword 검색어
+     * @return 관련도 순 대회 아이디 목록, 색인을 사용할 수 없으면(색인 생성 전, 빈 검색어) Optional.empty()
+     */
+    public Optional<List<Long>> search(String keyword) {
+        if (!ready || keyword == null || keyword.isBlank()) return Optional.empty();
+        String normalized = normalize(keyword);
+        List<String> terms = queryTerms(normalized);
+        if (terms.isEmpty()) return Optional.empty();
+
+        lock.readLock().lock();
+        try {
+            Map<String, Map<Long, Integer>> termPostings = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) return Optional.of(List.of());
+                termPostings.put(term, posting);
+            }
+            Map<Long, Integer> smallest = Collections.min(termPostings.values(), Comparator.comparingInt(Map::size));
+
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 1 : (double) totalLength / documentCount;
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long competitionId : smallest.keySet()) {
+                if (!termPostings.values().stream().allMatch(posting -> posting.containsKey(competitionId))) continue;
+                Document document = documents.get(competitionId);
+                if (!document.contains(normalized)) continue;
+                scores.put(competitionId, score(termPostings, document, documentCount, averageLength));
+            }
+
+            List<Long> rankedIds = new ArrayList<>(scores.keySet());
+            rankedIds.sort((a, b) -> {
+                int compared = Double.compare(scores.get(b), scores.get(a));
+                return compared != 0 ? compared : Long.compare(b, a);
+            });
+            return Optional.of(rankedIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * BM25 점수 = Σ IDF(t) * tf * (k1 + 1) / (tf + k1 * (1 - b + b * 문서 길이 / 평균 문서 길이))
+     */
+    private static double score(Map<String, Map<Long, Integer>> termPostings, Document document, int documentCount, double averageLength) {
+        double score = 0;
+        for (Map.Entry<String, Map<Long, Integer>> entry : termPostings.entrySet()) {
+            int frequency = document.termFrequencies().getOrDefault(entry.getKey(), 0);
+            int documentFrequency = entry.getValue().size();
+            double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+            score += idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * document.length() / averageLength));
+        }
+        return score;
+    }
+
+    private void removeDocument(Long competitionId) {
+        Document removed = documents.remove(competitionId);
+        if (removed == null) return;
+        totalLength -= removed.length();
+        for (String term : removed.termFrequencies().keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) continue;
+            posting.remove(competitionId);
+            if (posting.isEmpty()) postings.remove(term);
+        }
+    }
+
+    private static void addPostings(Map<String, Map<Long, Integer>> target, Long competitionId, Document document) {
+        document.termFrequencies().forEach((term, frequency) ->
+                target.computeIfAbsent(term, key -> new HashMap<>()).put(competitionId, frequency));
+    }
+
+    private static Document toDocument(CompetitionDto.SearchDocument searchDocument) {
+        String name = normalize(searchDocument.getName());
+        String hostName = normalize(searchDocument.getHostName());
+        String categoryName = searchDocument.getSportCategory() == null ? "" : normalize(searchDocument.getSportCategory().getCategoryName());
+
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = 0;
+        for (String field : List.of(name, hostName, categoryName)) {
+            for (String term : grams(field)) {
+                termFrequencies.merge(term, 1, Integer::sum);
+                length++;
+            }
+        }
+        return new Document(name, hostName, categoryName, termFrequencies, length);
+    }
+
+    /**
+     * 공백을 제외한 글자 unigram과, 공백을 포함하지 않는 연속된 두 글자 bigram
+     * ex) "팔씨름 대회" -> 팔, 씨, 름, 대, 회, 팔씨, 씨름, 대회
+     */
+    static List<String> grams(String text) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            char current = text.charAt(i);
+            if (Character.isWhitespace(current)) continue;
+            grams.add(String.valueOf(current));
+            if (i + 1 < text.length() && !Character.isWhitespace(text.charAt(i + 1))) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어의 색인어: 두 글자 이상이면 bigram, 한 글자이면 unigram
+     */
+    static List<String> queryTerms(String keyword) {
+        List<String> bigrams = grams(keyword).stream().filter(gram -> gram.length() == 2).toList();
+        if (!bigrams.isEmpty()) return bigrams;
+        return grams(keyword);
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
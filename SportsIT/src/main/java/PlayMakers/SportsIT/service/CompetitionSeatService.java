@@ -0,0 +1,208 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.domain.Competition;
+import PlayMakers.SportsIT.domain.JoinCompetition;
+import PlayMakers.SportsIT.dto.JoinCountDto;
+import PlayMakers.SportsIT.exceptions.EntityNotFoundException;
+import PlayMakers.SportsIT.exceptions.ErrorCode;
+import PlayMakers.SportsIT.exceptions.RequestDeniedException;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.repository.CompetitionSeatRepository;
+import PlayMakers.SportsIT.repository.CompetitionSeatRepository.Key;
+import PlayMakers.SportsIT.repository.CompetitionSeatRepository.Seat;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 대회 좌석 예약과 참가 인원
+ * 참가 신청 수를 COUNT로 세어 정원과 비교하는 대신, 좌석 테이블(competition_seat)의 조건부 UPDATE로 좌석을 예약한다.
+ * 예약은 참가 신청 트랜잭션 안에서 실행되므로 신청이 실패하면 예약도 함께 롤백된다.
+ *
+ * 정원이 찬 것으로 확인된 좌석은 메모리에 짧게(TTL) 기억하여, 마감된 대회의 신청은 DB에 가지 않고 바로 거절한다.
+ * (다른 서버에서 취소되어 생긴 좌석은 TTL이 지나면 다시 예약할 수 있다.)
+ *
+ * 대회별 좌석(정원, 참가 인원)은 참가 인원 조회용으로 메모리에 캐시하며, 이 서버에서 예약/취소하면 커밋 후 캐시 값도 함께 바꾼다.
+ * 캐시에 없으면 좌석 행을 다시 읽고, 좌석 행이 없으면 참가 신청 테이블을 세어 만든다. (다른 서버에서 바뀐 값은 TTL이 지나면 반영된다.)
+ */
+@Slf4j
+@Service
+@Transactional
+public class CompetitionSeatService {
+    private final CompetitionSeatRepository competitionSeatRepository;
+    private final CompetitionRepository competitionRepository;
+    private final Cache<Key, Boolean> knownFull;
+    private final Cache<Long, Map<JoinCompetition.joinType, Seat>> seats;
+
+    public CompetitionSeatService(CompetitionSeatRepository competitionSeatRepository,
+                                  CompetitionRepository competitionRepository,
+                                  @Value("${competition.seat.full-cache-ttl-seconds:5}") long fullCacheTtlSeconds,
+                                  @Value("${competition.seat.count-cache-ttl-seconds:30}") long countCacheTtlSeconds) {
+        this.competitionSeatRepository = competitionSeatRepository;
+        this.competitionRepository = competitionRepository;
+        this.knownFull = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(fullCacheTtlSeconds))
+                .build();
+        this.seats = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(countCacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * 대회 참가 인원과 정원 (join_competition, competition 테이블을 조회하지 않음)
+     * @throws EntityNotFoundException 좌석 행을 만들어야 하는데 대회가 없는 경우
+     */
+    public JoinCountDto getJoinCounts(Long competitionId) {
+        Map<JoinCompetition.joinType, Seat> competitionSeats = getSeats(competitionId);
+        Seat player = competitionSeats.get(JoinCompetition.joinType.PLAYER);
+        Seat viewer = competitionSeats.get(JoinCompetition.joinType.VIEWER);
+        return JoinCountDto.builder()
+                .maxPlayerCount(player.capacity())
+                .playerCount(player.taken())
+                .maxViewerCount(viewer.capacity())
+                .viewerCount(viewer.taken())
+                .build();
+    }
+
+    /**
+     * 메모리에서 정원이 찬 것으로 확인된 좌석인지 확인한다. (DB 조회 없음)
+     */
+    public boolean isKnownFull(Long competitionId, JoinCompetition.joinType type) {
+        return knownFull.getIfPresent(new Key(competitionId, type)) != null;
+    }
+
+    /**
+     * 정원이 찼는지 확인한다. (캐시된 참가 인원 기준, 실제 예약은 reserve에서 다시 확인)
+     */
+    public boolean isFull(Competition competition, JoinCompetition.joinType type) {
+        Key key = new Key(competition.getCompetitionId(), type);
+        if (knownFull.getIfPresent(key) != null) return true;
+        boolean full = getSeats(competition.getCompetitionId()).get(type).isFull();
+        if (full) knownFull.put(key, true);
+        return full;
+    }
+
+    /**
+     * 좌석을 하나 예약한다. 참가 신청 저장 후, 트랜잭션의 마지막에 호출해야 좌석 행 잠금을 가장 짧게 잡는다.
+     * @param uid 참가 신청한 회원 uid
+     * @throws RequestDeniedException 정원이 찬 경우
+     */
+    public void reserve(Competition competition, JoinCompetition.joinType type, Long uid) {
+        Key key = new Key(competition.getCompetitionId(), type);
+        if (knownFull.getIfPresent(key) != null) throw full(type);
+        if (competitionSeatRepository.reserve(key)) {
+            afterCommit(() -> addTaken(key, 1));
+            return;
+        }
+
+        if (competitionSeatRepository.find(key).isEmpty()) {
+            competitionSeatRepository.initialize(key, capacityOf(competition, type), uid);
+            if (competitionSeatRepository.reserve(key)) {
+                afterCommit(() -> seats.invalidate(key.competitionId()));
+                return;
+            }
+        }
+        knownFull.put(key, true);
+        log.info("대회 좌석 마감: {} {}", key.competitionId(), type);
+        throw full(type);
+    }
+
+    /**
+     * 예약된 좌석을 하나 취소한다. (참가 취소, 참가 종류 변경 시)
+     */
+    public void release(Long competitionId, JoinCompetition.joinType type) {
+        Key key = new Key(competitionId, type);
+        boolean released = competitionSeatRepository.release(key);
+        afterCommit(() -> {
+            knownFull.invalidate(key);
+            if (released) addTaken(key, -1);
+        });
+    }
+
+    /**
+     * 대회 정원이 수정되면 좌석 정원도 바꾼다.
+     */
+    public void updateCapacity(Competition competition) {
+        for (JoinCompetition.joinType type : JoinCompetition.joinType.values()) {
+            competitionSeatRepository.updateCapacity(new Key(competition.getCompetitionId(), type), capacityOf(competition, type));
+        }
+        evictAfterCommit(competition.getCompetitionId());
+    }
+
+    public void delete(Long competitionId) {
+        competitionSeatRepository.deleteByCompetitionId(competitionId);
+        evictAfterCommit(competitionId);
+    }
+
+    private Map<JoinCompetition.joinType, Seat> getSeats(Long competitionId) {
+        return seats.get(competitionId, this::loadSeats);
+    }
+
+    /**
+     * 좌석 행을 읽는다. 좌석 행이 없는 종류는 참가 신청 테이블을 한 번 세어 만든다.
+     */
+    private Map<JoinCompetition.joinType, Seat> loadSeats(Long competitionId) {
+        Map<JoinCompetition.joinType, Seat> found = competitionSeatRepository.findByCompetitionId(competitionId);
+        if (found.size() < JoinCompetition.joinType.values().length) {
+            Competition competition = competitionRepository.findById(competitionId).orElseThrow(
+                    () -> new EntityNotFoundException(ErrorCode.COMPETITION_NOT_FOUND, "대회 ID: " + competitionId));
+            for (JoinCompetition.joinType type : JoinCompetition.joinType.values()) {
+                if (found.containsKey(type)) continue;
+                competitionSeatRepository.initialize(new Key(competitionId, type), capacityOf(competition, type), null);
+            }
+            found = competitionSeatRepository.findByCompetitionId(competitionId);
+        }
+        return Collections.unmodifiableMap(found);
+    }
+
+    private void addTaken(Key key, int delta) {
+        seats.asMap().computeIfPresent(key.competitionId(), (competitionId, cached) -> {
+            Map<JoinCompetition.joinType, Seat> updated = new EnumMap<>(cached);
+            updated.computeIfPresent(key.joinType(), (type, seat) -> new Seat(seat.capacity(), Math.max(seat.taken() + delta, 0)));
+            return Collections.unmodifiableMap(updated);
+        });
+    }
+
+    private static Integer capacityOf(Competition competition, JoinCompetition.joinType type) {
+        return type == JoinCompetition.joinType.PLAYER ? competition.getMaxPlayer() : competition.getMaxViewer();
+    }
+
+    private static RequestDeniedException full(JoinCompetition.joinType type) {
+        return new RequestDeniedException(ErrorCode.COMPETITION_NOT_AVAILABLE,
+                type == JoinCompetition.joinType.PLAYER ? "선수 모집이 마감되었습니다." : "대회 참관인 모집이 마감되었습니다.");
+    }
+
+    private void evictAfterCommit(Long competitionId) {
+        afterCommit(() -> {
+            seats.invalidate(competitionId);
+            for (JoinCompetition.joinType type : JoinCompetition.joinType.values()) {
+                knownFull.invalidate(new Key(competitionId, type));
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
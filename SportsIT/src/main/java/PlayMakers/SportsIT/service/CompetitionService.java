@@ -2,6 +2,7 @@ package PlayMakers.SportsIT.service;
 
 import PlayMakers.SportsIT.annotation.MainCompetitionPolicy;
 import PlayMakers.SportsIT.domain.*;
+import PlayMakers.SportsIT.dto.CompetitionCursor;
 import PlayMakers.SportsIT.dto.CompetitionDto;
 import PlayMakers.SportsIT.dto.CompetitionFormDto;
 import PlayMakers.SportsIT.dto.CompetitionResultDto;
@@ -11,13 +12,14 @@ import PlayMakers.SportsIT.exceptions.competition.IllegalMemberTypeException;
 import PlayMakers.SportsIT.repository.CategoryRepository;
 import PlayMakers.SportsIT.repository.CompetitionRepository;
 import PlayMakers.SportsIT.repository.MemberRepository;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -31,6 +33,12 @@ public class CompetitionService {
     private final MemberRepository memberRepository;
     private final @MainCompetitionPolicy CompetitionPolicy competitionPolicy;
     private final CategoryRepository categoryRepository;
+    private final CompetitionSearchIndex competitionSearchIndex;
+    private final CompetitionListCache competitionListCache;
+    private final CompetitionViewCountBuffer competitionViewCountBuffer;
+    private final CompetitionSeatService competitionSeatService;
+
+    private static final String ORDER_BY_RELEVANCE = "relevance";
 
     public Competition create(CompetitionDto dto) {
         log.info("대회 생성 요청: {}", dto);
@@ -80,9 +88,23 @@ public class CompetitionService {
         log.info("대회 조회 요청: {}", competitionId);
         Competition competition = competitionRepository.findById(competitionId).orElseThrow(() -> new PlayMakers.SportsIT.exceptions.EntityNotFoundException(
                 ErrorCode.COMPETITION_NOT_FOUND, "대회 ID: " + competitionId));
-        competition.setViewCount(competition.getViewCount() + 1);
         return competition;
     }
+
+    /**
+     * 대회 상세 조회 (조회수 증가)
+     * 조회수는 CompetitionViewCountBuffer에 모았다가 주기적으로 반영하므로 쓰기 트랜잭션이 필요 없다.
+     * 반환되는 조회수는 DB 값에 아직 반영되지 않은 증가분을 더한 값이다.
+     */
+    @Transactional(readOnly = true)
+    public CompetitionDto.Info getCompetitionDetail(Long competitionId) {
+        Competition competition = findById(competitionId);
+        long pendingViewCount = competitionViewCountBuffer.increase(competitionId);
+
+        CompetitionDto.Info info = CompetitionDto.Info.entityToInfo(competition);
+        info.setViewCount((int) (competition.getViewCount() + pendingViewCount));
+        return info;
+    }
     public List<Competition> findAll(){
         log.info("대회 전체 조회 요청");
         return competitionRepository.findAll();
@@ -103,6 +125,7 @@ public class CompetitionService {
 
         // 수정 사항 적용
         updateCompetition(competition, dto.toAllArgsDto());
+        competitionSeatService.updateCapacity(competition);
 
         return competitionRepository.save(competition);
     }
@@ -110,6 +133,7 @@ public class CompetitionService {
     public void delete(Long competitionId) {
         log.info("CompetitionService.delete() : {}", competitionId);
         // 관계를 맺은 table 삭제
+        competitionSeatService.delete(competitionId);
 
         competitionRepository.deleteById(competitionId);
     }
@@ -122,10 +146,60 @@ public class CompetitionService {
 
         Pageable pageable = getPageableProperties(orderBy, page, size);
 
+        // 검색 색인을 사용할 수 있으면 검색어에 해당하는 대회만 조회, 아니면 LIKE 검색
+        Optional<List<Long>> matchedIds = competitionSearchIndex.search(keyword);
+        if (matchedIds.isPresent()) {
+            return competitionRepository.findCompetitionBySlice(matchedIds.get(), filteringConditions, pageable);
+        }
         Slice<Competition> competitions = competitionRepository.findCompetitionBySlice(keyword, filteringConditions, pageable);
 
         return competitions;
     }
+
+    /**
+     * 커서 기반 대회 목록 조회 (목록에 필요한 컬럼만 Summary로 조회)
+     * cursor가 있으면 cursor 이후의 대회를 조회하고 page는 무시한다. cursor가 없으면 page 기준으로 조회한다.
+     * orderBy가 relevance이면 검색 관련도 순으로 조회한다. (검색어가 없거나 검색 색인을 사용할 수 없으면 등록순)
+     * 조회 결과는 CompetitionListCache에 캐시된다.
+     */
+    public CursorSlice<CompetitionDto.Summary> getCompetitionSliceByCursor(String keyword,
+                                                                List<String> filteringConditions,
+                                                                String orderBy,
+                                                                String cursor,
+                                                                int page, int size) {
+        log.info("대회 목록 커서 조회 요청: {} {}", keyword, cursor);
+
+        CompetitionCursor competitionCursor = CompetitionCursor.decode(cursor);
+        int pageNumber = competitionCursor == null ? page : 0;
+        LocalDateTime now = competitionListCache.bucketedNow();
+
+        CompetitionListCache.Key key = competitionListCache.key(keyword, filteringConditions, orderBy, cursor, pageNumber, size, now);
+        return competitionListCache.get(key,
+                () -> loadCompetitionSlice(keyword, filteringConditions, orderBy, competitionCursor, pageNumber, size, now));
+    }
+
+    private CursorSlice<CompetitionDto.Summary> loadCompetitionSlice(String keyword,
+                                                                     List<String> filteringConditions,
+                                                                     String orderBy,
+                                                                     CompetitionCursor competitionCursor,
+                                                                     int pageNumber, int size,
+                                                                     LocalDateTime now) {
+        Optional<List<Long>> matchedIds = competitionSearchIndex.search(keyword);
+        if (matchedIds.isEmpty()) {
+            Pageable pageable = getPageableProperties(ORDER_BY_RELEVANCE.equals(orderBy) ? null : orderBy, pageNumber, size);
+            return competitionRepository.findCompetitionSummaryByCursor(keyword, filteringConditions, competitionCursor, pageable, now);
+        }
+        if (ORDER_BY_RELEVANCE.equals(orderBy)) {
+            return competitionRepository.findCompetitionSummaryByRank(matchedIds.get(), filteringConditions, competitionCursor, PageRequest.of(pageNumber, size), now);
+        }
+        Pageable pageable = getPageableProperties(orderBy, pageNumber, size);
+        return competitionRepository.findCompetitionSummaryByCursor(matchedIds.get(), filteringConditions, competitionCursor, pageable, now);
+    }
+
+    public Map<String, Object> getCompetitionListCacheStats() {
+        return competitionListCache.stats();
+    }
+
     public Slice<Competition> getCompetitionSliceByHostId(Long hostId,
                                                           int page, int size) {
         log.info("주최자 기준 대회 목록 조회 요청: {}", hostId);
@@ -215,55 +289,18 @@ public class CompetitionService {
     }
 
     public Long calculatePrice(CompetitionTemplate template, CompetitionFormDto formDto) {
-        Long amount = 0L;
-        Map<String, Map> sectorPriceMap = new HashMap<>();
-        for (CompetitionTemplate.Sector sector : template.getSectors()) {
-            Map<String, Long> priceMap = new HashMap<>() {{
-                put("cost", sector.getCost());
-                put("expandCost", sector.getExpandCost());
-            }};
-            sectorPriceMap.put(sector.getTitle(), priceMap);
-        }
-        Map<String, List<Map>> sectorSubSectorMap = new HashMap<>();
-        for (CompetitionForm.Sector sector : formDto.getSectors()) {
-            for (CompetitionForm.SubSector subSector : sector.getSubSectors()) {
-                if(subSector.isChecked()) {
-                    // sectorSubSectorMap에 sector가 없다면 sector.getTitle을 추가
-                    if(!sectorSubSectorMap.containsKey(sector.getTitle())) {
-                        try {
-                            sectorPriceMap.get(sector.getTitle());
-                        } catch (NullPointerException e) {
-                            throw new IllegalArgumentException("선택한 부문이 템플릿에 존재하지 않습니다.");
-                        }
-                        Map<String, Long> priceMap = sectorPriceMap.get(sector.getTitle());
-                        log.info("priceMap: {}", priceMap);
-                        Long cost = priceMap.get("cost");
-                        sectorSubSectorMap.put(sector.getTitle(), new ArrayList<>() {{
-                            add(new HashMap<>() {{
-                                put(subSector.getName(), cost);
-                            }});
-                        }});
-                        amount += cost;
-                    } else {
-                        // sectorSubSectorMap에 sector가 있다면 sector에 subSector 추가
-                        Map<String, Long> priceMap = sectorPriceMap.get(sector.getTitle());
-                        Long cost = priceMap.get("expandCost");
-                        sectorSubSectorMap.get(sector.getTitle()).add(new HashMap<>() {{
-                            put(subSector.getName(), cost);
-                        }});
-                        amount += cost;
-                    }
-
-                }
-            }
-        }
-
-        Long vat = formDto.getVat();
-        Long fee = formDto.getFee();
-        Long insurance = formDto.getInsurance();
-        amount += vat + fee + insurance;
+        if (template == null) throw new IllegalArgumentException("대회 템플릿이 존재하지 않습니다.");
+        return calculatePrice(PricingTable.of(template), formDto);
+    }
 
-        return amount;
+    /**
+     * 결제 금액 계산 (선택한 체급의 참가비 + VAT + 수수료 + 보험료)
+     * @param pricingTable 템플릿의 참가비 표 (CompetitionTemplateService.getPricingTableAsync)
+     */
+    public Long calculatePrice(PricingTable pricingTable, CompetitionFormDto formDto) {
+        if (pricingTable == null) throw new IllegalArgumentException("대회 템플릿이 존재하지 않습니다.");
+        long amount = formDto.getSectors() == null ? 0L : pricingTable.calculate(formDto.getSectors());
+        return amount + formDto.getVat() + formDto.getFee() + formDto.getInsurance();
     }
 
     public Object getCategoriesByCompetition(Long competitionId) {
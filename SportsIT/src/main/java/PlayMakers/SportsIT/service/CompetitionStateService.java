@@ -0,0 +1,81 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.domain.CompetitionState;
+import PlayMakers.SportsIT.domain.SchedulerLease;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.repository.SchedulerLeaseRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대회 상태 전환
+ * 변경된 대회 아이디를 새 상태별로 반환하며, 상태 변경 알림은 같은 트랜잭션에서 아웃박스 이벤트로 저장한다. (OutboxEventPublisher)
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CompetitionStateService {
+    // 상태 전환 순서 (앞 단계에서 전환된 대회가 다음 단계 조건도 만족하면 같은 실행에서 이어서 전환됨)
+    private static final List<CompetitionState[]> TRANSITIONS = List.of(
+            new CompetitionState[]{CompetitionState.PLANNING, CompetitionState.RECRUITING},
+            new CompetitionState[]{CompetitionState.RECRUITING, CompetitionState.RECRUITING_END},
+            new CompetitionState[]{CompetitionState.RECRUITING_END, CompetitionState.IN_PROGRESS},
+            new CompetitionState[]{CompetitionState.IN_PROGRESS, CompetitionState.END}
+    );
+
+    private final CompetitionRepository competitionRepository;
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    /**
+     * 전환 시각이 지난 모든 대회의 상태를 한 트랜잭션에서 일괄 전환한다.
+     * 전환 단계마다 대상 조회 1번, UPDATE 1번만 실행하므로 변경되는 대회 수와 관계없이 DB 왕복 횟수가 일정하다.
+     * 실행 전 스케줄러 임대가 아직 유효한지 확인하고 임대 행을 잠가, 임대가 다른 서버로 넘어간 뒤에는 전환하지 않는다.
+     * @param now 기준 시각
+     * @param lease 작업을 실행하는 서버의 스케줄러 임대
+     * @return 새 상태 -> 변경된 대회 아이디 목록 (변경된 대회가 없는 상태는 제외)
+     */
+    public Map<CompetitionState, List<Long>> updateStatesByTime(LocalDateTime now, SchedulerLease lease) {
+        if (!schedulerLeaseRepository.lockIfHeld(lease, now)) {
+            log.warn("스케줄러 임대가 만료되어 대회 상태 일괄 변경을 건너뜁니다: {} (token {})", lease.getOwner(), lease.getFencingToken());
+            return Map.of();
+        }
+
+        Map<CompetitionState, List<Long>> changed = new LinkedHashMap<>();
+        for (CompetitionState[] transition : TRANSITIONS) {
+            CompetitionState from = transition[0];
+            CompetitionState to = transition[1];
+            List<Long> competitionIds = competitionRepository.findCompetitionIdsToTransition(from, now);
+            if (competitionIds.isEmpty()) continue;
+
+            long updated = competitionRepository.updateStates(competitionIds, from, to);
+            log.info("대회 상태 일괄 변경: {} -> {} {}개", from, to, updated);
+            changed.put(to, competitionIds);
+        }
+        outboxEventPublisher.competitionStateChanged(changed);
+        return changed;
+    }
+
+    /**
+     * 대회 하나의 상태를 전환한다.
+     * 현재 상태가 from이 아니거나(이미 전환됨) 전환 시각이 아직 지나지 않았으면(일정이 늦춰짐) 변경하지 않는다.
+     * @param now 기준 시각
+     * @return 새 상태 -> 변경된 대회 아이디, 변경되지 않았으면 빈 Map
+     */
+    public Map<CompetitionState, List<Long>> updateState(Long competitionId, CompetitionState from, CompetitionState to, LocalDateTime now) {
+        long updated = competitionRepository.updateState(competitionId, from, to, now);
+        if (updated == 0) return Map.of();
+        log.info("대회 상태 변경: {} {} -> {}", competitionId, from, to);
+        Map<CompetitionState, List<Long>> changed = Map.of(to, List.of(competitionId));
+        outboxEventPublisher.competitionStateChanged(changed);
+        return changed;
+    }
+}
@@ -1,31 +1,134 @@
 package PlayMakers.SportsIT.service;
 
+import PlayMakers.SportsIT.domain.CompetitionFormValidator;
 import PlayMakers.SportsIT.domain.CompetitionTemplate;
-import PlayMakers.SportsIT.repository.CompetitionTemplateRepository;
-import lombok.RequiredArgsConstructor;
+import PlayMakers.SportsIT.domain.PricingTable;
+import PlayMakers.SportsIT.repository.DocumentStore;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+/**
+ * 대회 신청 템플릿
+ * 템플릿은 Firestore 등 원격 저장소(DocumentStore)에 저장되며 거의 바뀌지 않으므로, 조회한 템플릿을 templateId 기준으로 메모리에 캐시한다.
+ * 같은 템플릿을 동시에 조회하면 저장소 조회는 한 번만 실행되고 나머지 요청은 그 결과를 기다린다.
+ *
+ * 이 서버에서 수정/삭제하면 저장소 반영을 기다린 뒤 캐시에서 제거한다.
+ * 다른 서버에서 수정한 템플릿은 TTL이 지나면 다시 조회된다.
+ * 캐시된 템플릿은 여러 요청이 함께 사용하므로 수정하면 안 된다.
+ *
+ * 참가비 표(PricingTable)와 신청서 검증기(CompetitionFormValidator)는 캐시된 템플릿 객체마다 한 번만 만든다.
+ * 템플릿이 수정되어 다시 조회되면 새로 만든다.
+ *
+ * *Async 메서드는 저장소 응답을 기다리지 않고 CompletableFuture를 반환한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CompetitionTemplateService {
-    private final CompetitionTemplateRepository competitionTemplateRepository;
+    private final DocumentStore<CompetitionTemplate> templateStore;
+    private final AsyncCache<String, CompetitionTemplate> cache;
+    private final Cache<CompetitionTemplate, PricingTable> pricingTables; // 템플릿 객체 기준 (weakKeys, 동일성 비교)
+    private final Cache<CompetitionTemplate, CompetitionFormValidator> formValidators;
+
+    public CompetitionTemplateService(DocumentStore<CompetitionTemplate> templateStore,
+                                      @Value("${competition.template-cache.max-size:1000}") long maxSize,
+                                      @Value("${competition.template-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.templateStore = templateStore;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        this.pricingTables = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maxSize)
+                .build();
+        this.formValidators = Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maxSize)
+                .build();
+    }
 
     public String saveTemplate(CompetitionTemplate template) throws ExecutionException, InterruptedException {
         log.info("template 생성 요청");
-        return competitionTemplateRepository.saveTemplate(template);
+        return templateStore.save(template).get();
     }
     public void updateTemplate(String templateId, CompetitionTemplate template) throws ExecutionException, InterruptedException {
-        competitionTemplateRepository.updateTemplate(templateId, template);
+        updateTemplateAsync(templateId, template).get();
     }
+    public CompletableFuture<Void> updateTemplateAsync(String templateId, CompetitionTemplate template) {
+        return templateStore.update(templateId, template)
+                .whenComplete((result, e) -> cache.synchronous().invalidate(templateId));
+    }
+
+    /**
+     * 템플릿 조회 (캐시에 없으면 저장소에서 조회)
+     * @return 템플릿, 없으면 null (없는 템플릿과 조회에 실패한 템플릿은 캐시하지 않음)
+     */
     public CompetitionTemplate getTemplate(String templateId) throws ExecutionException, InterruptedException {
-        return competitionTemplateRepository.findTemplate(templateId);
+        return getTemplateAsync(templateId).get();
     }
-    public void deleteTemplate(String templateId) {
-        competitionTemplateRepository.deleteTemplate(templateId);
+    public CompletableFuture<CompetitionTemplate> getTemplateAsync(String templateId) {
+        if (templateId == null) return CompletableFuture.completedFuture(null);
+        return cache.get(templateId, (key, executor) -> templateStore.find(key));
+    }
+
+    /**
+     * 템플릿의 참가비 표 조회
+     * @return 참가비 표, 템플릿이 없으면 null
+     */
+    public CompletableFuture<PricingTable> getPricingTableAsync(String templateId) {
+        return getTemplateAsync(templateId)
+                .thenApply(template -> template == null ? null : pricingTables.get(template, PricingTable::of));
+    }
+
+    /**
+     * 템플릿의 신청서 검증기 조회
+     * @return 신청서 검증기, 템플릿이 없으면 null
+     */
+    public CompletableFuture<CompetitionFormValidator> getFormValidatorAsync(String templateId) {
+        return getTemplateAsync(templateId)
+                .thenApply(template -> template == null ? null : formValidators.get(template, CompetitionFormValidator::of));
+    }
+
+    public void deleteTemplate(String templateId) throws ExecutionException, InterruptedException {
+        deleteTemplateAsync(templateId).get();
+    }
+    public CompletableFuture<Void> deleteTemplateAsync(String templateId) {
+        return templateStore.delete(templateId)
+                .whenComplete((result, e) -> cache.synchronous().invalidate(templateId));
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.synchronous().stats();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", stats.hitRate());
+        result.put("loadFailureCount", stats.loadFailureCount());
+        result.put("averageLoadPenaltyMillis", stats.averageLoadPenalty() / 1_000_000);
+        result.put("evictionCount", stats.evictionCount());
+        result.put("estimatedSize", cache.synchronous().estimatedSize());
+        return result;
+    }
+
+    @Scheduled(fixedDelay = 1000 * 60 * 10) // 10분마다
+    public void logStats() {
+        CacheStats stats = cache.synchronous().stats();
+        log.info("대회 템플릿 캐시 통계: hit {}, miss {}, hitRate {}, 평균 조회 {}ms, size {}",
+                stats.hitCount(), stats.missCount(), String.format("%.3f", stats.hitRate()),
+                String.format("%.1f", stats.averageLoadPenalty() / 1_000_000), cache.synchronous().estimatedSize());
     }
 
 //    public JoinCompetitionTemplate getTemplate2(String templateId) {
@@ -0,0 +1,74 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.repository.CompetitionViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 대회 조회수 쓰기 지연 버퍼 (Write-behind)
+ * 상세 조회마다 competition 행을 UPDATE 하지 않고, 대회별 LongAdder에 증가분을 모아 두었다가
+ * 주기적으로 UPDATE competition SET view_count = view_count + ? 를 batch로 실행한다.
+ * 애플리케이션 종료 시에도 남은 증가분을 반영한다.
+ *
+ * 증가 중인 LongAdder를 잃지 않도록 flush 후에도 항목을 삭제하지 않는다. (대회 수만큼만 유지됨)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CompetitionViewCountBuffer {
+    private final CompetitionViewCountRepository competitionViewCountRepository;
+
+    private final ConcurrentHashMap<Long, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가
+     * @return 아직 DB에 반영되지 않은 조회수 증가분 (이번 조회 포함)
+     */
+    public long increase(Long competitionId) {
+        LongAdder adder = pendingViewCounts.computeIfAbsent(competitionId, id -> new LongAdder());
+        adder.increment();
+        return adder.sum();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분
+     */
+    public long getPending(Long competitionId) {
+        LongAdder adder = pendingViewCounts.get(competitionId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${competition.view-count.flush-interval-ms:10000}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pendingViewCounts.forEach((competitionId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) deltas.put(competitionId, delta);
+        });
+        if (deltas.isEmpty()) return;
+
+        try {
+            competitionViewCountRepository.addViewCounts(deltas);
+            log.info("대회 조회수 반영: 대회 {}개", deltas.size());
+        } catch (RuntimeException e) {
+            // 반영 실패한 증가분은 다음 flush에서 다시 반영
+            deltas.forEach((competitionId, delta) ->
+                    pendingViewCounts.computeIfAbsent(competitionId, id -> new LongAdder()).add(delta));
+            log.error("대회 조회수 반영 실패: 대회 {}개", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 대회 조회수 반영");
+        flush();
+    }
+}
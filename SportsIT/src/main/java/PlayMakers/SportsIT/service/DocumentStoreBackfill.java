@@ -0,0 +1,82 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.domain.CompetitionForm;
+import PlayMakers.SportsIT.domain.CompetitionTemplate;
+import PlayMakers.SportsIT.exceptions.ErrorCode;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+import PlayMakers.SportsIT.repository.DocumentStore;
+import PlayMakers.SportsIT.repository.DualWriteDocumentStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 저장소 이관 (document.store.secondary가 설정된 경우)
+ * primary의 문서를 id 순으로 읽어 secondary에 없는 문서만 복사한다.
+ * 이중 쓰기 중에 바뀐 문서는 이미 secondary에 있으므로 덮어쓰지 않으며, 여러 번 실행해도 결과가 같다.
+ */
+@Slf4j
+@Service
+public class DocumentStoreBackfill {
+    private final DocumentStore<CompetitionTemplate> templateStore;
+    private final DocumentStore<CompetitionForm> formStore;
+    private final int batchSize;
+
+    public DocumentStoreBackfill(DocumentStore<CompetitionTemplate> templateStore,
+                                 DocumentStore<CompetitionForm> formStore,
+                                 @Value("${document.store.backfill.batch-size:200}") int batchSize) {
+        this.templateStore = templateStore;
+        this.formStore = formStore;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @param scanned primary에서 읽은 문서 수
+     * @param copied secondary에 새로 복사한 문서 수
+     * @param failed 복사에 실패한 문서 수
+     */
+    public record Result(String name, long scanned, long copied, long failed) {
+    }
+
+    public List<Result> backfillAll() throws InterruptedException {
+        return List.of(backfill("template", templateStore), backfill("form", formStore));
+    }
+
+    private <T> Result backfill(String name, DocumentStore<T> store) throws InterruptedException {
+        if (!(store instanceof DualWriteDocumentStore<T> dualWrite)) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "document.store.secondary가 설정되지 않아 이관할 저장소가 없습니다.");
+        }
+        DocumentStore<T> source = dualWrite.getPrimary();
+        DocumentStore<T> target = dualWrite.getSecondary();
+        log.info("{} 이관 시작", name);
+
+        long scanned = 0, copied = 0, failed = 0;
+        String afterId = null;
+        while (true) {
+            List<String> ids;
+            try {
+                ids = source.findIds(afterId, batchSize).get();
+            } catch (ExecutionException e) {
+                log.error("{} 이관 중단: {} 이후 문서 id 조회 실패", name, afterId, e.getCause());
+                break;
+            }
+            for (String id : ids) {
+                scanned++;
+                try {
+                    T document = source.find(id).get();
+                    if (document != null && target.createIfAbsent(id, document).get()) copied++;
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.error("{} 이관 실패: {}", name, id, e.getCause());
+                }
+            }
+            if (ids.size() < batchSize) break;
+            afterId = ids.get(ids.size() - 1);
+        }
+        log.info("{} 이관 완료: 조회 {}, 복사 {}, 실패 {}", name, scanned, copied, failed);
+        return new Result(name, scanned, copied, failed);
+    }
+}
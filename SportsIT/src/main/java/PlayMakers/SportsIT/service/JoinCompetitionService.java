@@ -7,6 +7,7 @@ import PlayMakers.SportsIT.exceptions.ErrorCode;
 import PlayMakers.SportsIT.exceptions.RequestDeniedException;
 import PlayMakers.SportsIT.exceptions.UnAuthorizedException;
 import PlayMakers.SportsIT.repository.*;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +27,8 @@ public class JoinCompetitionService {
     final private MemberRepository memberRepository;
     final private JoinCompetitionRepository joinCompetitionRepository;
     final private ParticipantRepository participantRepository;
+    final private OutboxEventPublisher outboxEventPublisher;
+    final private CompetitionSeatService competitionSeatService;
 
     public JoinCompetition join(JoinCompetitionDto dto) {
         log.info("대회 참가 요청: 대회 아이디 {}", dto.getCompetitionId());
@@ -41,18 +44,23 @@ public class JoinCompetitionService {
         // 대회 참가 요청을 보낸 회원이 해당 대회에 참가할 수 있는 회원인지 확인
         checkPlayer(uid);
 
-        // 대회 참가 요청을 받은 대회가 신청 가능한지 확인
-        checkJoinable(competitionId, dto.getType());
-        log.info("test");
+        // 대회 참가 요청을 받은 대회가 신청 가능한지 확인 (정원은 메모리에서 마감으로 확인된 경우만, 실제 확인은 좌석 예약)
+        Competition competition = competitionRepository.findById(competitionId).orElseThrow(
+                () -> new EntityNotFoundException(ErrorCode.COMPETITION_NOT_FOUND, "대회 ID: " + competitionId));
+        checkJoinable(competition, dto.getType(), false);
 
         JoinCompetition join = dto.toEntity();
         join.setMember(memberRepository.findById(dto.getUid()).get());
-        log.info("test");
-        join.setCompetition(competitionRepository.findById(dto.getCompetitionId()).get());
-        log.info("test");
+        join.setCompetition(competition);
         log.info("대회 참가 정보: {}", join);
 
-        return joinCompetitionRepository.save(join);
+        JoinCompetition saved = joinCompetitionRepository.save(join);
+        joinCompetitionRepository.flush(); // 중복 신청 등으로 실패할 INSERT를 좌석 예약 전에 실행
+        outboxEventPublisher.competitionJoined(saved); // 주최자에게 참가 알림
+
+        // 좌석 예약 (좌석 행 잠금을 커밋 직전까지만 잡도록 마지막에 실행, 정원이 찼으면 예외로 참가 신청도 롤백)
+        competitionSeatService.reserve(competition, dto.getType(), uid);
+        return saved;
     }
     public JoinCompetition updateJoinCompetition(JoinCompetitionDto dto){
         log.info("대회 참가 정보 수정 요청: {}", dto);
@@ -63,9 +71,16 @@ public class JoinCompetitionService {
         JoinCompetition target = joinCompetitionRepository.findByIdUidAndIdCompetitionId(dto.getUid(), dto.getCompetitionId())
                 .orElseThrow(() -> new IllegalArgumentException("해당 대회에 참가한 회원이 존재하지 않습니다."));
 
+        JoinCompetition.joinType previousType = target.getJoinType();
         target.update(dto.getType(), dto.getFormId());
+        JoinCompetition saved = joinCompetitionRepository.save(target);
 
-        return joinCompetitionRepository.save(target);
+        // 참가 종류가 바뀌면 이전 종류의 좌석을 취소하고 새 종류의 좌석을 예약
+        if (previousType != null && previousType != dto.getType()) {
+            competitionSeatService.release(dto.getCompetitionId(), previousType);
+            competitionSeatService.reserve(target.getCompetition(), dto.getType(), dto.getUid());
+        }
+        return saved;
     }
     public Optional<JoinCompetition> getJoinCompetition(Long uid, Long competitionId){
         log.info("대회 참가 정보 조회 요청: uid={}, competitionId={}", uid, competitionId);
@@ -100,43 +115,41 @@ public class JoinCompetitionService {
         participantRepository.deleteAll(participated);
 
         joinCompetitionRepository.delete(target);
+        // 참가 종류가 없는 기존 신청은 좌석을 예약하지 않았으므로 취소할 좌석도 없음
+        if (target.getJoinType() != null) {
+            competitionSeatService.release(dto.getCompetitionId(), target.getJoinType());
+        }
 
         return deleted;
     }
 
     public void checkJoinable(Long competitionId, JoinCompetition.joinType type) {
         competitionRepository.findById(competitionId)
-                .ifPresent(competition -> {
-                    String reason = "";
-                    if (!isJoinableToday(competition)) {
-                        reason = "대회 신청 기간이 아닙니다.";
-                    }
-                    else if (isAlreadyFull(competition, type)) {
-                        reason = type.equals(JoinCompetition.joinType.PLAYER) ? "선수 모집이 마감되었습니다." : "대회 참관인 모집이 마감되었습니다.";
-                    }
-                    else {
-                        return;
-                    }
-                    throw new RequestDeniedException(ErrorCode.COMPETITION_NOT_AVAILABLE, reason);
-                });
+                .ifPresent(competition -> checkJoinable(competition, type, true));
     }
 
-    public JoinCountDto countJoinCompetition(Long competitionId){
-        Competition competition = competitionRepository.findByCompetitionId(competitionId);
-        JoinCountDto countResult = JoinCountDto.builder()
-                .maxPlayerCount(competition.getMaxPlayer())
-                .playerCount(countCurrentPlayer(competitionId))
-                .maxViewerCount(competition.getMaxViewer())
-                .viewerCount(countCurrentViewer(competitionId))
-                .build();
-        return countResult;
+    /**
+     * @param checkSeats false이면 정원은 메모리에서 마감으로 확인된 경우만 확인한다. (DB 조회 없음)
+     */
+    private void checkJoinable(Competition competition, JoinCompetition.joinType type, boolean checkSeats) {
+        String reason;
+        if (!isJoinableToday(competition)) {
+            reason = "대회 신청 기간이 아닙니다.";
+        }
+        else if (checkSeats ? isAlreadyFull(competition, type) : competitionSeatService.isKnownFull(competition.getCompetitionId(), type)) {
+            reason = type.equals(JoinCompetition.joinType.PLAYER) ? "선수 모집이 마감되었습니다." : "대회 참관인 모집이 마감되었습니다.";
+        }
+        else {
+            return;
+        }
+        throw new RequestDeniedException(ErrorCode.COMPETITION_NOT_AVAILABLE, reason);
     }
 
-    private int countCurrentPlayer(Long competitionId){
-        return joinCompetitionRepository.countByIdCompetitionIdAndJoinType(competitionId, JoinCompetition.joinType.PLAYER);
-    }
-    private int countCurrentViewer(Long competitionId){
-        return joinCompetitionRepository.countByIdCompetitionIdAndJoinType(competitionId, JoinCompetition.joinType.VIEWER);
+    /**
+     * 대회 참가 인원과 정원 (좌석 카운터에서 조회, CompetitionSeatService)
+     */
+    public JoinCountDto countJoinCompetition(Long competitionId){
+        return competitionSeatService.getJoinCounts(competitionId);
     }
 
     private static boolean isAlreadyStarted(Competition competition) {
@@ -170,7 +183,7 @@ public class JoinCompetitionService {
     }
 
     public boolean isAlreadyFull(Competition competition, JoinCompetition.joinType type) {
-        return joinCompetitionRepository.countByIdCompetitionIdAndJoinType(competition.getCompetitionId(), type) >= competition.getMaxViewer();
+        return competitionSeatService.isFull(competition, type);
     }
 
     public Map<String, String> getJoinCounts(Long competitionId, Member member) throws Exception {
@@ -190,17 +203,18 @@ public class JoinCompetitionService {
         }
 
         String availablePlayer, availableViewer;
-        Integer maxPlayer = competition.getMaxPlayer();
-        Integer maxViewer = competition.getMaxViewer();
+        JoinCountDto counts = competitionSeatService.getJoinCounts(competitionId);
+        Integer maxPlayer = counts.getMaxPlayerCount();
+        Integer maxViewer = counts.getMaxViewerCount();
 
 
         if (maxPlayer != null) {
-            availablePlayer = String.valueOf(maxPlayer - countCurrentPlayer(competitionId));
+            availablePlayer = String.valueOf(maxPlayer - counts.getPlayerCount());
         } else {
             availablePlayer = "참석 가능";
         }
         if (maxViewer != null) {
-            availableViewer = String.valueOf(maxViewer - countCurrentViewer(competitionId));
+            availableViewer = String.valueOf(maxViewer - counts.getViewerCount());
         } else {
             availableViewer = "참석 가능";
         }
@@ -215,24 +229,13 @@ public class JoinCompetitionService {
         return joinCompetitionRepository.findByIdUidAndIdCompetitionId(member.getUid(), competitionId).isPresent();
     }
 
-    public Slice<JoinCompetitionDto.UserJoinResponse> findJoinedCompetitionsByUid(Long uid, Long page, Long size) {
-        List<JoinCompetition> joins = joinCompetitionRepository.findByIdUid(uid);
-        joins.sort(Comparator.comparing(JoinCompetition::getCreatedDate).reversed());
-
-        List<Long> competitionIds = joins.stream().map(join -> join.getId().getCompetitionId()).toList();
-
-        Pageable pageable = PageRequest.of(page.intValue(), size.intValue(), Sort.by("startDate").descending());
-        Slice<Competition> competitions = competitionCustomRepository.findCompetitionsBySliceWithIdsAndUid(competitionIds, uid, pageable);
-
-        List<JoinCompetitionDto.UserJoinResponse> result = new ArrayList<>();
-        for (JoinCompetition join : joins) {
-            result.add(JoinCompetitionDto.UserJoinResponse.builder()
-                    .competition(getCompetitionSummary(join.getCompetition()))
-                    .type(join.getJoinType())
-                    .joinDate(join.getCreatedDate())
-                    .build());
-        }
-        return new SliceImpl<>(result, pageable, competitions.hasNext());
+    /**
+     * 회원이 참가한 대회 목록 (참가 신청일 최신순)
+     * @param cursor 이전 응답의 nextCursor, 없으면 page 번호로 조회
+     */
+    public CursorSlice<JoinCompetitionDto.UserJoinResponse> findJoinedCompetitionsByUid(Long uid, String cursor, Long page, Long size) {
+        Pageable pageable = PageRequest.of(page.intValue(), size.intValue());
+        return competitionCustomRepository.findJoinedCompetitionSummaryByCursor(uid, CompetitionCursor.decode(cursor), pageable);
     }
     public List<Member> getJoinedMembersByCompetition(Competition competition){
         List<JoinCompetition> joinCompetitions = joinCompetitionRepository.findByIdCompetitionId(competition.getCompetitionId());
@@ -242,18 +245,4 @@ public class JoinCompetitionService {
         }
         return members;
     }
-
-    private static CompetitionDto.Summary getCompetitionSummary(Competition competition) {
-        return CompetitionDto.Summary.builder()
-                .competitionId(competition.getCompetitionId())
-                .name(competition.getName())
-                .host(MemberDto.Summary.builder()
-                        .uid(competition.getHost().getUid())
-                        .name(competition.getHost().getName())
-                        .build())
-                .posters(competition.getPosters())
-                .startDate(competition.getStartDate())
-                .sportCategory(competition.getCategory())
-                .build();
-    }
 }
@@ -22,6 +22,7 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final CategoryRepository categoryRepository;
     private final PasswordEncoder passwordEncoder;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     /**
      * 회원 가입
@@ -55,7 +56,9 @@ public class MemberService {
                 .categories(categories)
                 .build();
 
-        return memberRepository.save(member);
+        Member saved = memberRepository.save(member);
+        outboxEventPublisher.memberJoined(saved); // 회원가입 축하 알림
+        return saved;
     }
 
     private void validateDuplicateMember(MemberDto dto) {
@@ -0,0 +1,40 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.repository.NotificationArchiveRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 보관 (구간 하나를 한 트랜잭션으로 처리)
+ * 확인한 알림은 다시 확인하지 않음으로 바뀌지 않고 생성 시각도 바뀌지 않으므로, 복사와 삭제의 대상은 같다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class NotificationArchiveService {
+    public enum Policy {
+        ARCHIVE, // 보관 테이블로 옮긴다.
+        DELETE   // 보관하지 않고 삭제한다.
+    }
+
+    private final NotificationArchiveRepository notificationArchiveRepository;
+
+    /**
+     * [fromId, toId) 구간에서 cutoff 이전에 생성되어 확인한 알림을 보관(또는 삭제)한다.
+     * @return notification 테이블에서 옮겨진 알림 수
+     */
+    public int archiveRange(long fromId, long toId, LocalDateTime cutoff, Policy policy, LocalDateTime now) {
+        int copied = policy == Policy.ARCHIVE ? notificationArchiveRepository.copyToArchive(fromId, toId, cutoff, now) : 0;
+        int deleted = notificationArchiveRepository.deleteArchivable(fromId, toId, cutoff);
+        if (policy == Policy.ARCHIVE && copied != deleted) {
+            // 롤백하여 보관되지 않은 알림이 삭제되지 않도록 한다.
+            throw new IllegalStateException("알림 보관 실패: 구간 [" + fromId + ", " + toId + ") 복사 " + copied + "개, 삭제 " + deleted + "개");
+        }
+        return deleted;
+    }
+}
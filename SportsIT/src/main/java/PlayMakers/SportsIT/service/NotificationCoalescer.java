@@ -0,0 +1,57 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.domain.Member;
+import PlayMakers.SportsIT.domain.Notification;
+import PlayMakers.SportsIT.enums.NotificationTitle;
+import PlayMakers.SportsIT.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 알림 합치기
+ * 모집 시작 직후처럼 참가 신청이 몰리면 주최자에게 참가자마다 알림이 쌓이므로,
+ * 같은 수신자, 제목, 링크의 확인하지 않은 알림이 일정 시간(window) 안에 있으면 새 알림을 저장하지 않고
+ * 그 알림의 개수와 메시지("새로운 참가자 N명")를 갱신한다.
+ *
+ * window는 처음 저장된 알림의 생성 시각 기준이며, 수신자가 알림을 확인하면 이후 알림은 새 알림으로 저장된다.
+ * 합칠 알림은 행 잠금(SELECT ... FOR UPDATE)으로 조회하므로 동시에 들어온 참가 알림이나 알림 확인과 엇갈리지 않는다.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+    private static final Set<NotificationTitle> COALESCING_TITLES = EnumSet.of(NotificationTitle.NEW_PLAYER, NotificationTitle.NEW_SPECTATOR);
+
+    private final NotificationRepository notificationRepository;
+    private final Duration window;
+
+    public NotificationCoalescer(NotificationRepository notificationRepository,
+                                 @Value("${notification.coalesce.window-seconds:3600}") long windowSeconds) {
+        this.notificationRepository = notificationRepository;
+        this.window = Duration.ofSeconds(windowSeconds);
+    }
+
+    /**
+     * 합칠 수 있는 알림이 있으면 합친다. (호출 측 트랜잭션 안에서 실행)
+     * @return 합쳐진 알림, 합칠 알림이 없으면 Optional.empty() (새 알림을 저장해야 함)
+     */
+    public Optional<Notification> coalesce(Member receiver, NotificationTitle title, String link, Member sender, String content, LocalDateTime now) {
+        if (!COALESCING_TITLES.contains(title) || window.isZero() || window.isNegative()) return Optional.empty();
+
+        Optional<Notification> target = notificationRepository
+                .findFirstByReceiver_UidAndTitleAndLinkAndCheckedFalseAndCreatedDateGreaterThanEqualOrderByIdDesc(
+                        receiver.getUid(), title, link, now.minus(window));
+        target.ifPresent(notification -> {
+            String message = NotificationService.renderMessage(title, receiver.getName(), content, notification.getCoalescedCount() + 1);
+            notification.coalesce(sender, message);
+            log.debug("알림 합침: {} {}개", notification.getId(), notification.getCoalescedCount());
+        });
+        return target;
+    }
+}
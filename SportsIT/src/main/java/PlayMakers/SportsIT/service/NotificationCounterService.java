@@ -0,0 +1,126 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.enums.NotificationType;
+import PlayMakers.SportsIT.repository.NotificationCounterRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 확인하지 않은 알림 수
+ * 알림을 저장할 때 증가, 확인할 때 감소시키는 카운터(notification_counter)를 사용하여 알림 수를 COUNT 없이 조회한다.
+ * 조회 결과는 메모리에 짧게(TTL) 캐시하며, 이 서버에서 카운터가 바뀌면 트랜잭션 커밋 후 해당 회원의 캐시를 지운다.
+ * (다른 서버에서 바뀐 값은 TTL이 지나면 반영된다.)
+ * 카운터 보정은 회원 uid 범위(reconcileBatchSize명)씩 나눠서 비교하므로 한 번에 전체 알림을 세거나 모든 카운터를 메모리에 올리지 않는다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class NotificationCounterService {
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final Cache<Long, Map<NotificationType, Long>> cache;
+    private final int reconcileBatchSize;
+
+    public NotificationCounterService(NotificationCounterRepository notificationCounterRepository,
+                                      @Value("${notification.counter.cache-max-size:100000}") long maxSize,
+                                      @Value("${notification.counter.cache-ttl-seconds:10}") long ttlSeconds,
+                                      @Value("${notification.counter.reconcile-batch-size:1000}") int reconcileBatchSize) {
+        this.notificationCounterRepository = notificationCounterRepository;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * @return 알림 종류 -> 확인하지 않은 알림 수 (모든 종류 포함, 없으면 0)
+     */
+    public Map<NotificationType, Long> getUnreadCounts(Long memberUid) {
+        return cache.get(memberUid, uid -> {
+            Map<NotificationType, Long> counts = new EnumMap<>(NotificationType.class);
+            for (NotificationType type : NotificationType.values()) counts.put(type, 0L);
+            counts.putAll(notificationCounterRepository.findByMemberUid(uid));
+            return Collections.unmodifiableMap(counts);
+        });
+    }
+
+    public void evict(Long memberUid) {
+        cache.invalidate(memberUid);
+    }
+
+    public void increase(Collection<Long> memberUids, NotificationType notificationType) {
+        if (memberUids.isEmpty() || notificationType == null) return;
+        notificationCounterRepository.add(memberUids, notificationType, 1);
+        evictAfterCommit(memberUids);
+    }
+
+    public void decrease(Long memberUid, NotificationType notificationType) {
+        decrease(memberUid, notificationType, 1);
+    }
+
+    public void decrease(Long memberUid, NotificationType notificationType, long amount) {
+        if (notificationType == null || amount <= 0) return;
+        notificationCounterRepository.add(List.of(memberUid), notificationType, -amount);
+        evictAfterCommit(List.of(memberUid));
+    }
+
+    /**
+     * 카운터와 실제 확인하지 않은 알림 수를 비교하여 어긋난 카운터를 바로잡는다.
+     * 알림을 받은 회원 uid 순으로 reconcileBatchSize명씩 범위를 나눠 비교한다. (마지막 범위는 알림이 없는 회원의 카운터까지 포함)
+     * 바로잡기는 UPDATE 한 문장으로 다시 세므로 트랜잭션으로 묶지 않는다. (범위를 도는 동안 긴 트랜잭션을 만들지 않음)
+     * @return 바로잡은 카운터 수
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public int reconcile() {
+        int repaired = 0;
+        long fromUid = Long.MIN_VALUE;
+        while (true) {
+            Long toUid = notificationCounterRepository.findNthReceiverUid(fromUid, reconcileBatchSize);
+            repaired += reconcile(fromUid, toUid == null ? Long.MAX_VALUE : toUid);
+            if (toUid == null) break;
+            fromUid = toUid;
+        }
+        if (repaired > 0) log.warn("확인하지 않은 알림 수 보정: {}개", repaired);
+        return repaired;
+    }
+
+    private int reconcile(long fromUid, long toUid) {
+        Map<NotificationCounterRepository.Key, Long> actual = notificationCounterRepository.countUnreadNotifications(fromUid, toUid);
+        Map<NotificationCounterRepository.Key, Long> counters = notificationCounterRepository.findByMemberUidRange(fromUid, toUid);
+
+        Set<NotificationCounterRepository.Key> keys = new HashSet<>(actual.keySet());
+        keys.addAll(counters.keySet());
+        int repaired = 0;
+        for (NotificationCounterRepository.Key key : keys) {
+            long expected = actual.getOrDefault(key, 0L);
+            if (counters.getOrDefault(key, 0L) == expected) continue;
+            notificationCounterRepository.recount(key.memberUid(), key.notificationType());
+            cache.invalidate(key.memberUid());
+            repaired++;
+        }
+        return repaired;
+    }
+
+    private void evictAfterCommit(Collection<Long> memberUids) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidateAll(memberUids);
+            return;
+        }
+        List<Long> uids = List.copyOf(memberUids);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidateAll(uids);
+            }
+        });
+    }
+}
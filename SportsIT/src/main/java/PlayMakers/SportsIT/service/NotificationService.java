@@ -1,84 +1,235 @@
 package PlayMakers.SportsIT.service;
 
+import PlayMakers.SportsIT.domain.Competition;
+import PlayMakers.SportsIT.domain.CompetitionState;
+import PlayMakers.SportsIT.domain.JoinCompetition;
 import PlayMakers.SportsIT.domain.Member;
 import PlayMakers.SportsIT.domain.Notification;
+import PlayMakers.SportsIT.dto.NotificationDto;
 import PlayMakers.SportsIT.enums.NotificationTitle;
 import PlayMakers.SportsIT.enums.NotificationType;
+import PlayMakers.SportsIT.exceptions.EntityNotFoundException;
+import PlayMakers.SportsIT.exceptions.ErrorCode;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.repository.JoinCompetitionRepository;
 import PlayMakers.SportsIT.repository.MemberRepository;
+import PlayMakers.SportsIT.repository.NotificationBatchRepository;
 import PlayMakers.SportsIT.repository.NotificationRepository;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class NotificationService {
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
     private final MemberRepository memberRepository;
+    private final CompetitionRepository competitionRepository;
+    private final JoinCompetitionRepository joinCompetitionRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final NotificationCounterService notificationCounterService;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationCoalescer notificationCoalescer;
+
+    /**
+     * 알림 목록 조회 (최신순)
+     * 알림 id를 커서로 사용하는 keyset 페이지네이션이며, 알림 id는 저장 순서이므로 생성일 순서와 같다.
+     * @param cursor 이전 페이지의 nextCursor (마지막으로 받은 알림 id), 첫 페이지면 null
+     * @param size 페이지 크기 (최대 50)
+     */
+    public CursorSlice<NotificationDto.Summary> getNotifications(Long uid, NotificationType type, String cursor, int size) {
+        log.debug("알림 목록 조회: {} {}", type, cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long beforeId = parseCursor(cursor, Long.MAX_VALUE);
+
+        List<NotificationDto.Summary> notifications = new ArrayList<>(
+                notificationRepository.findSummariesByReceiverBefore(uid, type, beforeId, PageRequest.of(0, pageSize + 1)));
+        boolean hasNext = notifications.size() > pageSize;
+        if (hasNext) notifications.remove(pageSize);
+        String nextCursor = notifications.isEmpty() ? null : String.valueOf(notifications.get(notifications.size() - 1).getId());
+        return new CursorSlice<>(notifications, PageRequest.of(0, pageSize), hasNext, nextCursor);
+    }
 
-    public List<Notification> getActivityNotificationsByMember(Member member) {
-        log.debug("활동 알림 목록 조회");
-        Pageable pageable = PageRequest.of(0, 15);
-        return notificationRepository.findByReceiverAndNotificationType(member, NotificationType.ACTIVITY, pageable).getContent();
+    /**
+     * 알림 일괄 확인
+     * @param type 알림 종류, null이면 모든 종류
+     * @param upTo 이 알림 id 이하의 알림만 확인 (목록의 커서 또는 알림 id), null이면 전체
+     * @return 확인 처리된 알림 수
+     */
+    public int checkNotifications(Long uid, NotificationType type, String upTo) {
+        long upToId = parseCursor(upTo, Long.MAX_VALUE);
+        int checked = 0;
+        for (NotificationType target : type == null ? NotificationType.values() : new NotificationType[]{type}) {
+            int updated = notificationRepository.markAllChecked(uid, target, upToId);
+            notificationCounterService.decrease(uid, target, updated);
+            checked += updated;
+        }
+        log.debug("알림 일괄 확인: {}개", checked);
+        if (checked > 0) notificationStreamService.sendUnreadCountsAfterCommit(uid);
+        return checked;
     }
 
-    public List<Notification> getCompetitionNotificationsByMember(Member member) {
-        log.debug("공지 알림 목록 조회");
-        Pageable pageable = PageRequest.of(0, 15);
-        return notificationRepository.findByReceiverAndNotificationType(member, NotificationType.COMPETITION, pageable).getContent();
+    private static long parseCursor(String cursor, long defaultValue) {
+        if (cursor == null || cursor.isBlank()) return defaultValue;
+        try {
+            return Long.parseLong(cursor.trim());
+        } catch (NumberFormatException e) {
+            throw new InvalidValueException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다: " + cursor);
+        }
     }
 
-    public void checkNotification(Long id, Member viewer) {
+    /**
+     * 알림 확인
+     * 확인 처리(UPDATE)를 먼저 하고, 실제로 확인 처리된 경우에만 알림 종류를 조회하여 카운터를 감소시킨다. (알림 엔티티를 로딩하지 않음)
+     * @throws EntityNotFoundException 알림이 존재하지 않는 경우
+     */
+    public void checkNotification(Long id, Long viewerUid) {
         log.debug("알림 확인");
-        Notification notification = notificationRepository.findById(id).orElseThrow();
-        if (notification.getReceiver().getUid().equals(viewer.getUid())) notification.setChecked(true);
+        if (notificationRepository.markChecked(id, viewerUid) == 0) {
+            if (!notificationRepository.existsById(id)) throw new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND, "알림 ID: " + id);
+            return; // 다른 회원의 알림이거나 이미 확인함
+        }
+        notificationCounterService.decrease(viewerUid, notificationRepository.findNotificationTypeById(id));
+        notificationStreamService.sendUnreadCountsAfterCommit(viewerUid);
     }
-    public int getUncheckedNotificationCount(Member member) {
+
+    /**
+     * 확인하지 않은 알림 개수 조회 (알림 종류별, COUNT 없이 카운터에서 조회)
+     */
+    public Map<NotificationType, Long> getUncheckedNotificationCounts(Long uid) {
         log.debug("확인하지 않은 알림 개수 조회");
-        return notificationRepository.countByReceiverAndChecked(member, false);
+        return notificationCounterService.getUnreadCounts(uid);
     }
 
+    /**
+     * 알림 발송
+     * 참가 알림처럼 짧은 시간에 몰리는 알림은 확인하지 않은 같은 알림이 있으면 새로 저장하지 않고 그 알림에 합친다. (NotificationCoalescer)
+     */
     public void sendNotification(Member receiver, NotificationTitle title, String link, Member sender, String content) {
         log.info("공지 알림 발송");
-        String message="";
-        NotificationType type = null;
-        switch (title) {
-            case JOIN -> message = receiver.getName() + "님의 회원가입을 진심으로 환영합니다! FEEL-IT을 채워 내 포르필을 관리하세요!";
-            case RECRUITING_END -> message = "대회 모집이 종료되었습니다. 참가자를 확인해보세요!" + " : " + content;
-            case START_SOON -> message = "대회가 곧 시작됩니다." + " : " + content;
-            case STARTED -> message = "대회가 시작되었습니다." + " : " + content;
-            case END -> message = "대회가 종료되었습니다." + " : " + content;
-            case NEED_TO_COMPLETE -> message = "대회가 종료되었습니다. 대회 결과를 입력해주세요." + " : " + content;
-            case CHECK_RESULT -> message = "대회가 종료되었습니다. 대회 결과를 확인하세요!" + " : " + content;
-            case CANCELED -> message = "대회가 취소되었습니다." + " : " + content;
-            case NEW_PLAYER -> message = "대회에 새로운 참가자가 등록되었습니다." + " : " + content;
-            case NEW_SPECTATOR -> message = "대회에 새로운 관람객이 등록되었습니다." + " : " + content;
-            default -> throw new IllegalStateException("Unexpected notification title: " + title);
+        if (notificationCoalescer.coalesce(receiver, title, link, sender, content, LocalDateTime.now()).isPresent()) {
+            return; // 확인하지 않은 알림 수는 그대로
         }
         Notification notification = Notification.builder()
                 .receiver(receiver)
                 .title(title)
-                .message(message)
+                .message(renderMessage(title, receiver.getName(), content, 1))
                 .link(link)
                 .notificationType(getNotificationType(title))
                 .sender(sender)
                 .build();
         notificationRepository.save(notification);
+        notificationCounterService.increase(List.of(receiver.getUid()), notification.getNotificationType());
     }
 
-    private NotificationType getNotificationType(NotificationTitle title) {
-        NotificationType type = null;
-        switch (title) {
-            case JOIN -> type = NotificationType.ACTIVITY;
-            case RECRUITING_END, START_SOON, STARTED, END, NEED_TO_COMPLETE, CHECK_RESULT, CANCELED -> type = NotificationType.COMPETITION;
+    /**
+     * 같은 내용의 알림을 여러 수신자에게 발송한다.
+     * 메시지는 한 번만 만들고, 수신자 엔티티를 로딩하지 않고 uid로 여러 행을 한 번에 저장한다.
+     * @param receiverIds 수신자 uid 목록
+     * @param senderUid 발신자 uid (없으면 null)
+     * @return 발송된 알림 수
+     */
+    public int sendNotifications(List<Long> receiverIds, NotificationTitle title, String link, Long senderUid, String content) {
+        if (receiverIds.isEmpty()) return 0;
+        if (title == NotificationTitle.JOIN) {
+            throw new IllegalArgumentException("회원가입 알림은 수신자마다 내용이 달라 일괄 발송할 수 없습니다.");
         }
-        return type;
+        NotificationType type = getNotificationType(title);
+        int sent = notificationBatchRepository.insertAll(receiverIds, title, renderMessage(title, null, content, 1), link,
+                senderUid, type, LocalDateTime.now());
+        notificationCounterService.increase(receiverIds, type);
+        log.info("알림 일괄 발송: {} {}건", title, sent);
+        return sent;
+    }
+
+    public void sendJoinNotification(Long uid) {
+        memberRepository.findById(uid).ifPresent(member ->
+                sendNotification(member, NotificationTitle.JOIN, "/member/profile", null, null));
+    }
+
+    /**
+     * 대회 참가 알림 발송 (주최자에게 새 참가자/관람객 등록을 알린다)
+     */
+    public void sendJoinCompetitionNotification(Long competitionId, Long uid, JoinCompetition.joinType joinType) {
+        Competition competition = competitionRepository.findById(competitionId).orElse(null);
+        Member sender = memberRepository.findById(uid).orElse(null);
+        if (competition == null || sender == null) return; // 발송 전에 삭제됨
+
+        NotificationTitle title = joinType == JoinCompetition.joinType.PLAYER ? NotificationTitle.NEW_PLAYER : NotificationTitle.NEW_SPECTATOR;
+        sendNotification(competition.getHost(), title, "/competitions/" + competitionId, sender, competition.getName());
+    }
+
+    /**
+     * 대회 상태 변경 알림 발송
+     * 모집 마감, 대회 시작, 대회 종료 시 참가자에게 알림을 보내고, 대회 종료 시에는 주최자에게도 알림을 보낸다.
+     * @param changed 새 상태 -> 상태가 변경된 대회 아이디 목록
+     */
+    public void sendCompetitionStateNotifications(Map<CompetitionState, List<Long>> changed) {
+        changed.forEach((state, competitionIds) -> {
+            NotificationTitle title;
+            switch (state) {
+                case RECRUITING_END -> title = NotificationTitle.RECRUITING_END;
+                case IN_PROGRESS -> title = NotificationTitle.STARTED;
+                case END -> title = NotificationTitle.END;
+                default -> {
+                    return;
+                }
+            }
+            for (Competition competition : competitionRepository.findAllById(competitionIds)) {
+                Long hostUid = competition.getHost().getUid();
+                List<Long> receiverIds = new ArrayList<>(joinCompetitionRepository.findUidsByCompetitionId(competition.getCompetitionId()));
+                if (state == CompetitionState.END) receiverIds.add(hostUid);
+                sendNotifications(receiverIds, title, "/competitions/" + competition.getCompetitionId(), hostUid, competition.getName());
+            }
+        });
+    }
+
+    /**
+     * 대회 결과 등록 알림 발송 (참가자 전원에게)
+     */
+    public void sendCompetitionResultNotifications(Long competitionId) {
+        Competition competition = competitionRepository.findById(competitionId).orElse(null);
+        if (competition == null) return;
+
+        sendNotifications(joinCompetitionRepository.findUidsByCompetitionId(competitionId), NotificationTitle.CHECK_RESULT,
+                "competitions/result" + competitionId, competition.getHost().getUid(), competition.getName());
+    }
+
+    /**
+     * @param count 합쳐진 알림 수 (참가 알림만 사용)
+     */
+    static String renderMessage(NotificationTitle title, String receiverName, String content, int count) {
+        return switch (title) {
+            case JOIN -> receiverName + "님의 회원가입을 진심으로 환영합니다! FEEL-IT을 채워 내 포르필을 관리하세요!";
+            case RECRUITING_END -> "대회 모집이 종료되었습니다. 참가자를 확인해보세요!" + " : " + content;
+            case START_SOON -> "대회가 곧 시작됩니다." + " : " + content;
+            case STARTED -> "대회가 시작되었습니다." + " : " + content;
+            case END -> "대회가 종료되었습니다." + " : " + content;
+            case NEED_TO_COMPLETE -> "대회가 종료되었습니다. 대회 결과를 입력해주세요." + " : " + content;
+            case CHECK_RESULT -> "대회가 종료되었습니다. 대회 결과를 확인하세요!" + " : " + content;
+            case CANCELED -> "대회가 취소되었습니다." + " : " + content;
+            case NEW_PLAYER -> (count > 1 ? "대회에 새로운 참가자 " + count + "명이 등록되었습니다." : "대회에 새로운 참가자가 등록되었습니다.") + " : " + content;
+            case NEW_SPECTATOR -> (count > 1 ? "대회에 새로운 관람객 " + count + "명이 등록되었습니다." : "대회에 새로운 관람객이 등록되었습니다.") + " : " + content;
+        };
+    }
+
+    private static NotificationType getNotificationType(NotificationTitle title) {
+        return switch (title) {
+            case JOIN, NEW_PLAYER, NEW_SPECTATOR -> NotificationType.ACTIVITY;
+            case RECRUITING_END, START_SOON, STARTED, END, NEED_TO_COMPLETE, CHECK_RESULT, CANCELED -> NotificationType.COMPETITION;
+        };
     }
 }
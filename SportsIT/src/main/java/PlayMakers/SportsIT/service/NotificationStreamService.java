@@ -0,0 +1,223 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.dto.NotificationDto;
+import PlayMakers.SportsIT.enums.NotificationType;
+import PlayMakers.SportsIT.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+/**
+ * 실시간 알림 (Server-Sent Events)
+ * 접속한 회원마다 SseEmitter를 보관하고, 새 알림과 확인하지 않은 알림 수를 보낸다.
+ * SseEmitter는 서블릿 비동기 요청이라 연결마다 스레드를 점유하지 않는다.
+ *
+ * 새 알림은 서버마다 1초 간격으로 마지막 조회 시각 이후 저장되거나 합쳐진(updatedDate) 알림을 조회하여,
+ * 이 서버에 접속한 회원의 알림만 보낸다. 알림이 어느 서버에서 저장되었는지와 관계없이 모든 서버가 같은 방법으로 보낸다.
+ *
+ * 알림 id 순서와 커밋 순서는 다를 수 있으므로(늦게 커밋된 작은 id) 마지막 조회 시각보다 pollLag만큼 앞에서부터 다시 조회하고,
+ * 연결마다 보낸 알림(id, 합쳐진 수)을 기억하여 중복을 보내지 않는다. 합쳐진 알림은 같은 id로 합쳐진 수가 늘어난 알림을 다시 보낸다.
+ * 이벤트 id는 알림 id이며, 재연결 시 Last-Event-ID 이후의 알림을 다시 보낸다.
+ */
+@Slf4j
+@Service
+public class NotificationStreamService {
+    static final String NOTIFICATION_EVENT = "notification";
+    static final String UNREAD_COUNT_EVENT = "unread-count";
+    private static final int POLL_BATCH_SIZE = 500;
+    private static final int REPLAY_LIMIT = 100;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterService notificationCounterService;
+    private final long timeoutMillis;
+    private final Duration pollLag;
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastPolledAt; // 서버 시작 후 초기화 전에는 null
+
+    /**
+     * @param sent 이 연결로 보낸 알림 id -> 보낸 알림, 다시 조회될 수 있는 기간(pollLag) 동안만 보관한다.
+     */
+    private record Connection(SseEmitter emitter, Map<Long, Sent> sent) {
+    }
+
+    private record Sent(int coalescedCount, LocalDateTime updatedDate) {
+    }
+
+    public NotificationStreamService(NotificationRepository notificationRepository,
+                                     NotificationCounterService notificationCounterService,
+                                     @Value("${notification.stream.timeout-ms:1800000}") long timeoutMillis,
+                                     @Value("${notification.stream.poll-lag-ms:5000}") long pollLagMillis) {
+        this.notificationRepository = notificationRepository;
+        this.notificationCounterService = notificationCounterService;
+        this.timeoutMillis = timeoutMillis;
+        this.pollLag = Duration.ofMillis(pollLagMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (lastPolledAt == null) lastPolledAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실시간 알림 구독
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 알림 id (Last-Event-ID), 처음 연결이면 null
+     */
+    public SseEmitter subscribe(Long uid, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(emitter, new ConcurrentHashMap<>());
+        connections.computeIfAbsent(uid, key -> new CopyOnWriteArraySet<>()).add(connection);
+        emitter.onCompletion(() -> remove(uid, connection));
+        emitter.onTimeout(() -> remove(uid, connection));
+        emitter.onError(e -> remove(uid, connection));
+
+        try {
+            if (lastEventId != null) {
+                // 연결을 먼저 등록한 뒤 다시 보내므로 그 사이 저장된 알림은 중복될 수는 있어도 빠지지 않는다. (클라이언트는 id로 중복 제거)
+                for (NotificationDto.Summary notification : notificationRepository.findSummariesByReceiverAfter(uid, lastEventId, PageRequest.of(0, REPLAY_LIMIT))) {
+                    if (markSent(connection, notification)) emitter.send(notificationEvent(notification));
+                }
+            }
+            emitter.send(SseEmitter.event().name(UNREAD_COUNT_EVENT).data(notificationCounterService.getUnreadCounts(uid)));
+        } catch (IOException | IllegalStateException e) {
+            remove(uid, connection);
+        }
+        return emitter;
+    }
+
+    /**
+     * 마지막 조회 시각(에서 pollLag을 뺀 시각) 이후 저장되거나 합쳐진 알림을 접속한 수신자에게 보낸다.
+     * 접속한 회원이 없으면 조회하지 않는다. (다음 조회도 pollLag만큼 앞에서부터 하므로 그 사이 커밋된 알림은 빠지지 않음)
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.poll-interval-ms:1000}")
+    public void pollNewNotifications() {
+        LocalDateTime polledAt = lastPolledAt;
+        if (polledAt == null) return; // 초기화 전
+        LocalDateTime now = LocalDateTime.now();
+        if (connections.isEmpty()) {
+            lastPolledAt = now;
+            return;
+        }
+
+        LocalDateTime afterDate = polledAt.minus(pollLag);
+        long afterId = 0L;
+        List<NotificationDto.Summary> notifications;
+        do {
+            notifications = notificationRepository.findSummariesUpdatedAfter(afterDate, afterId, PageRequest.of(0, POLL_BATCH_SIZE));
+            Set<Long> notifiedUids = new HashSet<>();
+            for (NotificationDto.Summary notification : notifications) {
+                afterDate = notification.getUpdatedDate();
+                afterId = notification.getId();
+                Set<Connection> receiverConnections = connections.get(notification.getReceiverUid());
+                if (receiverConnections == null) continue;
+                for (Connection connection : receiverConnections) {
+                    if (sendNotification(connection, notification)) notifiedUids.add(notification.getReceiverUid());
+                }
+            }
+            notifiedUids.forEach(uid -> {
+                notificationCounterService.evict(uid); // 다른 서버에서 저장된 알림이면 캐시된 알림 수가 오래됨
+                sendUnreadCounts(uid);
+            });
+        } while (notifications.size() == POLL_BATCH_SIZE);
+        lastPolledAt = now;
+
+        // 다음 조회 범위보다 오래된 알림은 다시 조회되지 않으므로 잊는다.
+        LocalDateTime forgetBefore = now.minus(pollLag);
+        connections.values().forEach(receiverConnections -> receiverConnections.forEach(connection ->
+                connection.sent().values().removeIf(sent -> sent.updatedDate() != null && sent.updatedDate().isBefore(forgetBefore))));
+    }
+
+    /**
+     * 확인하지 않은 알림 수가 바뀌었을 때 (알림 확인 등) 트랜잭션 커밋 후 이 서버에 접속 중인 회원에게 보낸다.
+     */
+    public void sendUnreadCountsAfterCommit(Long uid) {
+        if (!connections.containsKey(uid)) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendUnreadCounts(uid);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sendUnreadCounts(uid);
+            }
+        });
+    }
+
+    private void sendUnreadCounts(Long uid) {
+        Set<Connection> receiverConnections = connections.get(uid);
+        if (receiverConnections == null) return;
+        Map<NotificationType, Long> counts = notificationCounterService.getUnreadCounts(uid);
+        receiverConnections.forEach(connection -> send(uid, connection, SseEmitter.event().name(UNREAD_COUNT_EVENT).data(counts)));
+    }
+
+    /**
+     * 프록시, 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트를 보낸다.
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-interval-ms:30000}")
+    public void sendHeartbeats() {
+        connections.forEach((uid, receiverConnections) ->
+                receiverConnections.forEach(connection -> send(uid, connection, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * @return 보냈으면 true, 이미 보낸 알림이면 false
+     */
+    private boolean sendNotification(Connection connection, NotificationDto.Summary notification) {
+        if (!markSent(connection, notification)) return false;
+        send(notification.getReceiverUid(), connection, notificationEvent(notification));
+        return true;
+    }
+
+    /**
+     * 보낼 알림으로 기록한다. 같은 알림을 이미 보냈으면(합쳐진 수가 같거나 적으면) false
+     */
+    private static boolean markSent(Connection connection, NotificationDto.Summary notification) {
+        Sent previous = connection.sent().get(notification.getId());
+        if (previous != null && previous.coalescedCount() >= notification.getCoalescedCount()) return false;
+        connection.sent().put(notification.getId(), new Sent(notification.getCoalescedCount(), notification.getUpdatedDate()));
+        return true;
+    }
+
+    private static SseEmitter.SseEventBuilder notificationEvent(NotificationDto.Summary notification) {
+        return SseEmitter.event()
+                .id(String.valueOf(notification.getId()))
+                .name(NOTIFICATION_EVENT)
+                .data(notification);
+    }
+
+    private void send(Long uid, Connection connection, SseEmitter.SseEventBuilder event) {
+        try {
+            connection.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            remove(uid, connection);
+            connection.emitter().completeWithError(e);
+        }
+    }
+
+    private void remove(Long uid, Connection connection) {
+        connections.computeIfPresent(uid, (key, receiverConnections) -> {
+            receiverConnections.remove(connection);
+            return receiverConnections.isEmpty() ? null : receiverConnections;
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.domain.CompetitionState;
+import PlayMakers.SportsIT.domain.JoinCompetition;
+import PlayMakers.SportsIT.domain.OutboxEvent;
+import PlayMakers.SportsIT.exceptions.EntityNotFoundException;
+import PlayMakers.SportsIT.exceptions.ErrorCode;
+import PlayMakers.SportsIT.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 이벤트 하나를 알림으로 발송한다.
+ * 알림 저장과 이벤트 처리 완료 표시가 같은 트랜잭션에서 커밋되므로, 발송 도중 실패하면 이벤트는 대기 상태로 남아 다시 처리된다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OutboxEventHandler {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final NotificationService notificationService;
+
+    public void handle(Long eventId) {
+        OutboxEvent event = outboxEventRepository.findById(eventId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.ENTITY_NOT_FOUND, "존재하지 않는 아웃박스 이벤트입니다: " + eventId));
+        if (event.getStatus() != OutboxEvent.Status.PENDING) return; // 이미 처리됨
+
+        JsonNode payload = readPayload(event);
+        switch (event.getEventType()) {
+            case MEMBER_JOINED -> notificationService.sendJoinNotification(event.getAggregateId());
+            case COMPETITION_JOINED -> notificationService.sendJoinCompetitionNotification(event.getAggregateId(),
+                    payload.get("uid").asLong(), JoinCompetition.joinType.valueOf(payload.get("joinType").asText()));
+            case COMPETITION_STATE_CHANGED -> notificationService.sendCompetitionStateNotifications(
+                    Map.of(CompetitionState.valueOf(payload.get("state").asText()), List.of(event.getAggregateId())));
+            case COMPETITION_RESULT_SAVED -> notificationService.sendCompetitionResultNotifications(event.getAggregateId());
+        }
+        event.dispatched(LocalDateTime.now());
+    }
+
+    /**
+     * 처리 실패를 기록한다. 최대 재시도 횟수를 넘으면 더 이상 처리하지 않는다. (FAILED)
+     */
+    public OutboxEvent.Status markFailed(Long eventId, String error, int maxAttempts) {
+        OutboxEvent event = outboxEventRepository.findById(eventId).orElse(null);
+        if (event == null) return OutboxEvent.Status.FAILED;
+        event.failed(error, maxAttempts);
+        return event.getStatus();
+    }
+
+    private static JsonNode readPayload(OutboxEvent event) {
+        if (event.getPayload() == null) return OBJECT_MAPPER.nullNode();
+        try {
+            return OBJECT_MAPPER.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 역직렬화 실패: " + event.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package PlayMakers.SportsIT.service;
+
+import PlayMakers.SportsIT.domain.CompetitionState;
+import PlayMakers.SportsIT.domain.JoinCompetition;
+import PlayMakers.SportsIT.domain.Member;
+import PlayMakers.SportsIT.domain.OutboxEvent;
+import PlayMakers.SportsIT.enums.OutboxEventType;
+import PlayMakers.SportsIT.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 이벤트 저장
+ * 호출한 서비스의 트랜잭션 안에서만 저장하므로(MANDATORY) 변경이 롤백되면 이벤트도 함께 롤백된다.
+ */
+@Slf4j
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public void memberJoined(Member member) {
+        save(OutboxEventType.MEMBER_JOINED, member.getUid(), null);
+    }
+
+    public void competitionJoined(JoinCompetition joinCompetition) {
+        save(OutboxEventType.COMPETITION_JOINED, joinCompetition.getCompetition().getCompetitionId(),
+                Map.of("uid", joinCompetition.getMember().getUid(), "joinType", joinCompetition.getJoinType().name()));
+    }
+
+    public void competitionResultSaved(Long competitionId) {
+        save(OutboxEventType.COMPETITION_RESULT_SAVED, competitionId, null);
+    }
+
+    /**
+     * @param changed 새 상태 -> 상태가 변경된 대회 아이디 목록
+     */
+    public void competitionStateChanged(Map<CompetitionState, List<Long>> changed) {
+        List<OutboxEvent> events = new ArrayList<>();
+        changed.forEach((state, competitionIds) -> competitionIds.forEach(competitionId ->
+                events.add(event(OutboxEventType.COMPETITION_STATE_CHANGED, competitionId, Map.of("state", state.name())))));
+        outboxEventRepository.saveAll(events);
+    }
+
+    private void save(OutboxEventType eventType, Long aggregateId, Map<String, Object> payload) {
+        outboxEventRepository.save(event(eventType, aggregateId, payload));
+    }
+
+    private static OutboxEvent event(OutboxEventType eventType, Long aggregateId, Map<String, Object> payload) {
+        try {
+            return OutboxEvent.builder()
+                    .eventType(eventType)
+                    .aggregateId(aggregateId)
+                    .payload(payload == null ? null : OBJECT_MAPPER.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + eventType, e);
+        }
+    }
+}
@@ -7,12 +7,17 @@ import PlayMakers.SportsIT.domain.Participant;
 import PlayMakers.SportsIT.dto.ParticipantDto;
 import PlayMakers.SportsIT.repository.CompetitionRepository;
 import PlayMakers.SportsIT.repository.MemberRepository;
+import PlayMakers.SportsIT.enums.ExportFormat;
+import PlayMakers.SportsIT.repository.ParticipantExportRepository;
 import PlayMakers.SportsIT.repository.ParticipantRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,6 +29,9 @@ public class ParticipantService {
     private final MemberRepository memberRepository;
     private final CompetitionRepository competitionRepository;
     private final ParticipantRepository participantRepository;
+    private final ParticipantExportRepository participantExportRepository;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
     public List<Participant> findAllByCompetitionId(Long competitionId){
         return participantRepository.findAllByCompetitionCompetitionId(competitionId);
@@ -31,12 +39,10 @@ public class ParticipantService {
     public List<ParticipantDto.Response> findAllDtoByCompetitionId(Long competitionId) {
         List<ParticipantDto.Response> participantDtos = new ArrayList<>();
         for (Participant participant : participantRepository.findAllByCompetitionCompetitionId(competitionId)) {
-            String phone = participant.getMember().getPhone();
-            String phoneSecured = phone.substring(phone.length()-4);
             participantDtos.add(ParticipantDto.Response.builder()
                     .uid(participant.getId().getUid())
                     .userName(participant.getMember().getName())
-                    .phone(phoneSecured)
+                    .phone(securePhone(participant.getMember().getPhone()))
                     .sectorTitle(participant.getId().getSectorTitle())
                     .subSectorName(participant.getId().getSubSectorName())
                     .build());
@@ -44,6 +50,66 @@ public class ParticipantService {
         return participantDtos;
     }
 
+    /**
+     * 참가자 명단 내보내기 (CSV, JSON Lines)
+     * 참가자를 한 행씩 읽어 바로 out에 쓰므로 명단 크기와 관계없이 메모리 사용량이 일정하다.
+     * 전화번호는 명단 조회와 같이 뒤 4자리만 내보낸다.
+     * @param sectorTitle 종목, null이면 전체
+     * @param subSectorName 세부 종목, null이면 전체
+     * @return 내보낸 참가자 수
+     */
+    public long export(Long competitionId, String sectorTitle, String subSectorName, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM을 붙인다.
+            writer.write("uid,userName,phone,sectorTitle,subSectorName\n");
+        }
+        long[] count = {0};
+        try {
+            participantExportRepository.forEach(competitionId, sectorTitle, subSectorName, row -> {
+                ParticipantExportRepository.Row secured = new ParticipantExportRepository.Row(row.uid(), row.userName(),
+                        securePhone(row.phone()), row.sectorTitle(), row.subSectorName());
+                try {
+                    writer.write(format == ExportFormat.CSV ? toCsv(secured) : OBJECT_MAPPER.writeValueAsString(secured));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("참가자 명단 내보내기: 대회 {}, {}명 ({})", competitionId, count[0], format);
+        return count[0];
+    }
+
+    private static String toCsv(ParticipantExportRepository.Row row) {
+        return String.join(",", String.valueOf(row.uid()), csvField(row.userName()), csvField(row.phone()),
+                csvField(row.sectorTitle()), csvField(row.subSectorName()));
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싼다. 수식으로 해석될 수 있는 값은 앞에 '를 붙인다.
+     */
+    static String csvField(String value) {
+        if (value == null) return "";
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0) value = "'" + value;
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    /**
+     * 전화번호 뒤 4자리
+     */
+    private static String securePhone(String phone) {
+        if (phone == null || phone.length() <= 4) return phone;
+        return phone.substring(phone.length()-4);
+    }
+
     public List<Participant> findAllByCompetitionIdAndSectorTitle(Long competitionId, String sectorTitle){
         return participantRepository.findAllByCompetitionCompetitionIdAndIdSectorTitle(competitionId, sectorTitle);
     }
@@ -0,0 +1,24 @@
+package PlayMakers.SportsIT.utils.api;
+
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * 커서 기반 Slice
+ * 기존 Slice 응답 형식(content, size, number, first, last ...)을 그대로 유지하면서
+ * 다음 페이지 조회에 사용할 nextCursor를 함께 반환한다. (다음 페이지가 없으면 null)
+ */
+@Getter
+public class CursorSlice<T> extends SliceImpl<T> {
+    private static final long serialVersionUID = 1L;
+
+    private final String nextCursor;
+
+    public CursorSlice(List<T> content, Pageable pageable, boolean hasNext, String nextCursor) {
+        super(content, pageable, hasNext);
+        this.nextCursor = hasNext ? nextCursor : null;
+    }
+}
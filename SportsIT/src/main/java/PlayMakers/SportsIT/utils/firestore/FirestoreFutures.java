@@ -0,0 +1,39 @@
+package PlayMakers.SportsIT.utils.firestore;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Firestore ApiFuture -> CompletableFuture 변환
+ * ApiFuture.get()으로 요청 스레드를 멈추지 않고, Firestore 응답이 오면 CompletableFuture를 완료한다.
+ * 후속 작업(thenApply 등)은 Firestore 콜백 스레드에서 실행되므로 DB 조회처럼 오래 걸리는 작업을 이어 붙이면 안 된다.
+ */
+public final class FirestoreFutures {
+    private FirestoreFutures() {
+    }
+
+    public static <T> CompletableFuture<T> toCompletableFuture(ApiFuture<T> apiFuture) {
+        CompletableFuture<T> future = new CompletableFuture<>() {
+            @Override
+            public boolean cancel(boolean mayInterruptIfRunning) {
+                apiFuture.cancel(mayInterruptIfRunning);
+                return super.cancel(mayInterruptIfRunning);
+            }
+        };
+        ApiFutures.addCallback(apiFuture, new ApiFutureCallback<>() {
+            @Override
+            public void onFailure(Throwable t) {
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onSuccess(T result) {
+                future.complete(result);
+            }
+        }, Runnable::run);
+        return future;
+    }
+}
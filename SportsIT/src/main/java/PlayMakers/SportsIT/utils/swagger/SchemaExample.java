@@ -49,6 +49,25 @@ public class SchemaExample {
                     .addProperty("uid", new IntegerSchema().example(1))
                     .addProperty("name", new StringSchema().example("홍길동"))
                     .addProperty("profileImageUrl", new StringSchema().example("https://sportsit.s3.ap-northeast-2.amazonaws.com/competition/1/1.jpg")));
+    public static Schema CompetitionSummary = new Schema<Map<String, Object>>()
+            .addProperty("competitionId", new IntegerSchema().example(2791))
+            .addProperty("name", new StringSchema().example("스포츠잇 팔씨름 대회"))
+            .addProperty("host", new JsonSchema()
+                    .addProperty("uid", new IntegerSchema().example(1))
+                    .addProperty("name", new StringSchema().example("홍길동")))
+            .addProperty("sportCategory", new StringSchema().example("ARM_WRESTLING"))
+            .addProperty("posterUrl", new StringSchema().example("https://sportsit.s3.ap-northeast-2.amazonaws.com/competition/1/1.jpg"))
+            .addProperty("state", new StringSchema().example("RECRUITING"))
+            .addProperty("competitionType", new StringSchema().example("FREE"))
+            .addProperty("startDate", new StringSchema().example("2023-09-25T00:00:00Z"))
+            .addProperty("endDate", new StringSchema().example("2023-09-30T00:00:00Z"))
+            .addProperty("recruitingStart", new StringSchema().example("2023-09-15T00:00:00Z"))
+            .addProperty("recruitingEnd", new StringSchema().example("2023-09-20T00:00:00Z"))
+            .addProperty("viewCount", new IntegerSchema().example(0))
+            .addProperty("scrapCount", new IntegerSchema().example(0))
+            .addProperty("totalPrize", new IntegerSchema().example(1000000))
+            .addProperty("location", new StringSchema().example("서울특별시 강남구 테헤란로 427"))
+            .addProperty("createdDate", new StringSchema().example("2023-08-30T13:17:04.846Z"));
     //public static Schema Competition = new Schema
     public static Schema CompetitionForm = new Schema<Map<String, Object>> ()
             .addProperty("timestamp",new StringSchema().example("2023-08-30T13:17:04.846Z"))
@@ -85,13 +104,14 @@ public class SchemaExample {
             .addProperty("code",new StringSchema().example("200"))
             .addProperty("success",new StringSchema().example("true"))
             .addProperty("result",new JsonSchema()
-                    .addProperty("content", new ArraySchema().items(Competition))
+                    .addProperty("content", new ArraySchema().items(CompetitionSummary))
                     .addProperty("size", new IntegerSchema().example(10))
                     .addProperty("number", new IntegerSchema().example(0))
                     .addProperty("first", new BooleanSchema().example(true))
                     .addProperty("last", new BooleanSchema().example(true))
                     .addProperty("numberOfElements", new IntegerSchema().example(1))
-                    .addProperty("empty", new BooleanSchema().example(false)));
+                    .addProperty("empty", new BooleanSchema().example(false))
+                    .addProperty("nextCursor", new StringSchema().example("Y3JlYXRlZERhdGV8MjAyMy0wOC0zMFQxMzoxNzowNC44NDZ8MTI")));
 
 
 public static Schema Agreement = new Schema<Map<String, Object>>()
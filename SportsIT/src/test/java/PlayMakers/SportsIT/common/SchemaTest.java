@@ -0,0 +1,41 @@
+package PlayMakers.SportsIT.common;
+
+import PlayMakers.SportsIT.config.TestConfig;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JPA 엔티티 매핑으로 만든 스키마(ddl-auto=create)를 쓰는 H2(MySQL 모드) 테스트
+ * JdbcTemplate으로 직접 SQL을 실행하는 저장소도 실제 엔티티와 같은 테이블에서 확인한다.
+ *
+ * - 모든 테스트 클래스가 같은 컨텍스트(같은 DB)를 공유하므로, 사용하는 테이블은 TestTables.reset으로 비우고 시작한다.
+ * - 동시성 테스트를 위해 테스트 트랜잭션을 쓰지 않는다. (각 SQL이 바로 커밋됨)
+ * - 부모 행 없이 필요한 행만 넣을 수 있도록 외래 키 검사는 끈다. 컬럼 이름, 타입, NOT NULL은 엔티티와 같게 확인된다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema_test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.connection-init-sql=SET REFERENTIAL_INTEGRITY FALSE",
+        "spring.datasource.hikari.maximum-pool-size=40",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.sql.init.mode=never"
+})
+public @interface SchemaTest {
+}
@@ -0,0 +1,20 @@
+package PlayMakers.SportsIT.common;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * SchemaTest에서 사용하는 테이블 정리
+ */
+public final class TestTables {
+    private TestTables() {
+    }
+
+    /**
+     * 테이블을 비우고 자동 증가 id를 1부터 다시 시작한다.
+     */
+    public static void reset(JdbcTemplate jdbcTemplate, String... tables) {
+        for (String table : tables) {
+            jdbcTemplate.execute("TRUNCATE TABLE " + table + " RESTART IDENTITY");
+        }
+    }
+}
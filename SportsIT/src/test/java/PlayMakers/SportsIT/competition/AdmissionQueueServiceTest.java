@@ -0,0 +1,112 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+import PlayMakers.SportsIT.exceptions.RequestDeniedException;
+import PlayMakers.SportsIT.repository.AdmissionQueueStore;
+import PlayMakers.SportsIT.repository.InMemoryAdmissionQueueStore;
+import PlayMakers.SportsIT.repository.JdbcAdmissionQueueStore;
+import PlayMakers.SportsIT.service.AdmissionQueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SchemaTest
+class AdmissionQueueServiceTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    AdmissionQueueService admissionQueueService;
+
+    @BeforeEach
+    void setUp() {
+        admissionQueueService = new AdmissionQueueService(new InMemoryAdmissionQueueStore(), "test-secret", 600, 0);
+    }
+
+    @Test
+    @DisplayName("대기열에 들어온 순서대로 초당 입장 인원씩 입장 토큰을 받는다.")
+    void 순서대로_입장() {
+        admissionQueueService.open(1L, 2);
+        List<AdmissionQueueService.Ticket> tickets = LongStream.rangeClosed(1, 5)
+                .mapToObj(uid -> admissionQueueService.enter(1L, uid)).toList();
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), tickets.stream().map(AdmissionQueueService.Ticket::position).toList());
+        assertTrue(tickets.stream().allMatch(ticket -> ticket.admissionToken() == null));
+
+        admissionQueueService.advance();
+
+        AdmissionQueueService.Ticket second = admissionQueueService.status(1L, 2L, tickets.get(1).queueToken());
+        AdmissionQueueService.Ticket third = admissionQueueService.status(1L, 3L, tickets.get(2).queueToken());
+        assertEquals(0, second.position());
+        assertNotNull(second.admissionToken());
+        assertEquals(1, third.position());
+        assertNull(third.admissionToken());
+    }
+
+    @Test
+    @DisplayName("대기열이 열린 대회는 본인의 유효한 입장 토큰이 있어야 참가할 수 있다.")
+    void 입장_토큰_확인() {
+        assertDoesNotThrow(() -> admissionQueueService.checkAdmitted(1L, 1L, null)); // 대기열이 없는 대회
+
+        admissionQueueService.open(1L, 10);
+        AdmissionQueueService.Ticket ticket = admissionQueueService.enter(1L, 1L);
+        assertThrows(RequestDeniedException.class, () -> admissionQueueService.checkAdmitted(1L, 1L, null));
+        admissionQueueService.advance();
+        String admissionToken = admissionQueueService.status(1L, 1L, ticket.queueToken()).admissionToken();
+
+        assertDoesNotThrow(() -> admissionQueueService.checkAdmitted(1L, 1L, admissionToken));
+        assertThrows(RequestDeniedException.class, () -> admissionQueueService.checkAdmitted(1L, 2L, admissionToken)); // 다른 회원
+        assertThrows(RequestDeniedException.class, () -> admissionQueueService.checkAdmitted(1L, 1L, ticket.queueToken())); // 대기열 토큰
+        assertThrows(RequestDeniedException.class, () -> admissionQueueService.checkAdmitted(1L, 1L, admissionToken.replace('.', 'x')));
+
+        AdmissionQueueService other = new AdmissionQueueService(new InMemoryAdmissionQueueStore(), "other-secret", 600, 0);
+        other.open(1L, 10);
+        assertThrows(RequestDeniedException.class, () -> other.checkAdmitted(1L, 1L, admissionToken)); // 다른 비밀키로 서명
+        assertThrows(InvalidValueException.class, () -> admissionQueueService.status(2L, 1L, ticket.queueToken())); // 다른 대회
+    }
+
+    @Test
+    @DisplayName("DB 대기열은 서버 간에 순번을 공유하고 발급한 순번까지만 입장시킨다.")
+    void DB_대기열() {
+        TestTables.reset(jdbcTemplate, "admission_queue", "admission_ticket");
+        AdmissionQueueStore node1 = new JdbcAdmissionQueueStore(jdbcTemplate);
+        AdmissionQueueStore node2 = new JdbcAdmissionQueueStore(jdbcTemplate);
+
+        assertTrue(node1.issue(1L, 1L).isEmpty());
+        node1.open(1L, 5);
+        node2.open(1L, 5);
+        assertEquals(1, node1.issue(1L, 1L).getAsLong());
+        assertEquals(2, node2.issue(1L, 2L).getAsLong());
+        assertEquals(3, node1.issue(1L, 3L).getAsLong());
+        assertEquals(2, node1.issue(1L, 2L).getAsLong()); // 다른 서버로 다시 들어와도 같은 순번
+
+        node2.advance();
+        assertEquals(new AdmissionQueueStore.State(5, 3, 3), node1.find(1L).orElseThrow());
+
+        // 대기열을 닫았다가 다시 열면 순번을 새로 발급한다.
+        node1.close(1L);
+        node2.open(1L, 5);
+        assertEquals(1, node2.issue(1L, 3L).getAsLong());
+    }
+
+    @Test
+    @DisplayName("같은 회원이 대기열에 다시 들어오면 새 순번을 받지 않고 처음 받은 순서를 받는다.")
+    void 다시_들어와도_같은_순번() {
+        admissionQueueService.open(1L, 1);
+        AdmissionQueueService.Ticket first = admissionQueueService.enter(1L, 1L);
+        admissionQueueService.enter(1L, 2L);
+        AdmissionQueueService.Ticket again = admissionQueueService.enter(1L, 2L);
+        AdmissionQueueService.Ticket third = admissionQueueService.enter(1L, 3L);
+
+        assertEquals(1, first.position());
+        assertEquals(2, again.position());
+        assertEquals(3, third.position());
+        assertEquals(first, admissionQueueService.enter(1L, 1L));
+    }
+}
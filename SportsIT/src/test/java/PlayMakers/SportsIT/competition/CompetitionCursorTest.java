@@ -0,0 +1,66 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.dto.CompetitionCursor;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompetitionCursorTest {
+
+    @Test
+    @DisplayName("등록일 커서를 인코딩한 뒤 디코딩하면 같은 위치를 가리킨다.")
+    void 등록일_커서_인코딩_디코딩() {
+        LocalDateTime createdDate = LocalDateTime.of(2023, 8, 30, 13, 17, 4, 846000000);
+        CompetitionCursor cursor = CompetitionCursor.of(CompetitionCursor.SortKey.CREATED_DATE, 12L, createdDate, 5, 0);
+
+        CompetitionCursor decoded = CompetitionCursor.decode(cursor.encode());
+
+        assertEquals(CompetitionCursor.SortKey.CREATED_DATE, decoded.getSortKey());
+        assertEquals(createdDate, decoded.getCreatedDate());
+        assertNull(decoded.getCount());
+        assertEquals(12L, decoded.getCompetitionId());
+    }
+
+    @Test
+    @DisplayName("조회수 커서를 인코딩한 뒤 디코딩하면 같은 위치를 가리킨다.")
+    void 조회수_커서_인코딩_디코딩() {
+        CompetitionCursor cursor = CompetitionCursor.of(CompetitionCursor.SortKey.VIEW_COUNT, 7L, LocalDateTime.now(), 150, 3);
+
+        CompetitionCursor decoded = CompetitionCursor.decode(cursor.encode());
+
+        assertEquals(CompetitionCursor.SortKey.VIEW_COUNT, decoded.getSortKey());
+        assertEquals(150, decoded.getCount());
+        assertEquals(7L, decoded.getCompetitionId());
+    }
+
+    @Test
+    @DisplayName("커서가 비어있으면 첫 페이지로 간주한다.")
+    void 빈_커서() {
+        assertNull(CompetitionCursor.decode(null));
+        assertNull(CompetitionCursor.decode(""));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 InvalidValueException을 던진다.")
+    void 잘못된_커서() {
+        assertThrows(InvalidValueException.class, () -> CompetitionCursor.decode("not-a-cursor"));
+        assertThrows(InvalidValueException.class, () -> CompetitionCursor.decode("!!!"));
+    }
+
+    @Test
+    @DisplayName("다음 페이지가 없으면 nextCursor는 null이다.")
+    void 마지막_페이지_커서() {
+        CursorSlice<String> last = new CursorSlice<>(List.of("a"), PageRequest.of(0, 10), false, "cursor");
+        CursorSlice<String> notLast = new CursorSlice<>(List.of("a"), PageRequest.of(0, 1), true, "cursor");
+
+        assertNull(last.getNextCursor());
+        assertEquals("cursor", notLast.getNextCursor());
+    }
+}
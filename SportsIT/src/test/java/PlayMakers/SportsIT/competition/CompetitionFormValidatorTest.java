@@ -0,0 +1,88 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.domain.CompetitionForm;
+import PlayMakers.SportsIT.domain.CompetitionFormValidator;
+import PlayMakers.SportsIT.domain.CompetitionTemplate;
+import PlayMakers.SportsIT.exceptions.ErrorCode;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+import PlayMakers.SportsIT.repository.InMemoryDocumentStore;
+import PlayMakers.SportsIT.service.CompetitionTemplateService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompetitionFormValidatorTest {
+
+    private static CompetitionTemplate template() {
+        CompetitionTemplate template = new CompetitionTemplate();
+        List<CompetitionTemplate.SubSector> subSectors = List.of(
+                new CompetitionTemplate.SubSector("-65kg"), new CompetitionTemplate.SubSector("-75kg"));
+        template.setSectors(List.of(
+                new CompetitionTemplate.Sector("프로", 70000L, 20000L, true, subSectors),
+                new CompetitionTemplate.Sector("아마추어", 30000L, 5000L, false, subSectors)));
+        template.setQuestionnaires(List.of(
+                new CompetitionTemplate.Questionnaire("티셔츠 사이즈", CompetitionTemplate.Type.SINGLE,
+                        List.of(new CompetitionTemplate.Opt("M"), new CompetitionTemplate.Opt("L"))),
+                new CompetitionTemplate.Questionnaire("참가 경로", CompetitionTemplate.Type.MULTI,
+                        List.of(new CompetitionTemplate.Opt("SNS"), new CompetitionTemplate.Opt("지인"))),
+                new CompetitionTemplate.Questionnaire("하고 싶은 말", CompetitionTemplate.Type.LONG, null)));
+        return template;
+    }
+
+    private static CompetitionForm.Sector sector(String title, boolean first, boolean second) {
+        return new CompetitionForm.Sector(title, List.of(
+                new CompetitionForm.SubSector("-65kg", first), new CompetitionForm.SubSector("-75kg", second)));
+    }
+
+    private static CompetitionForm.Answer answer(String question, String... options) {
+        return new CompetitionForm.Answer(question, Arrays.stream(options).map(CompetitionForm.Opt::new).toList());
+    }
+
+    private static void assertInvalid(CompetitionFormValidator validator, List<CompetitionForm.Sector> sectors, List<CompetitionForm.Answer> answers) {
+        InvalidValueException e = assertThrows(InvalidValueException.class, () -> validator.validate(sectors, answers));
+        assertEquals(ErrorCode.INVALID_JOIN_FORM, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("템플릿과 맞는 신청서는 통과한다.")
+    void 올바른_신청서() {
+        CompetitionFormValidator validator = CompetitionFormValidator.of(template());
+
+        assertDoesNotThrow(() -> validator.validate(
+                List.of(sector("프로", true, true), sector("아마추어", false, true)),
+                List.of(answer("티셔츠 사이즈", "M"), answer("참가 경로", "SNS", "지인"), answer("하고 싶은 말", "잘 부탁드립니다."))));
+        assertDoesNotThrow(() -> validator.validate(null, null));
+    }
+
+    @Test
+    @DisplayName("템플릿에 없는 부문, 체급, 질문, 선택지와 선택 개수 규칙을 어긴 신청서는 COMPETITION-006으로 거절한다.")
+    void 잘못된_신청서() {
+        CompetitionFormValidator validator = CompetitionFormValidator.of(template());
+
+        assertInvalid(validator, List.of(sector("세미프로", true, false)), null);
+        assertInvalid(validator, List.of(new CompetitionForm.Sector("프로", List.of(new CompetitionForm.SubSector("+75kg", true)))), null);
+        assertInvalid(validator, List.of(sector("아마추어", true, true)), null); // 복수 선택 불가
+        assertInvalid(validator, List.of(sector("프로", true, false), sector("프로", false, true)), null);
+
+        assertInvalid(validator, null, List.of(answer("없는 질문", "M")));
+        assertInvalid(validator, null, List.of(answer("티셔츠 사이즈", "M", "L")));
+        assertInvalid(validator, null, List.of(answer("참가 경로", "SNS", "광고")));
+        assertInvalid(validator, null, List.of(answer("티셔츠 사이즈", "M"), answer("티셔츠 사이즈", "L")));
+    }
+
+    @Test
+    @DisplayName("신청서 검증기는 캐시된 템플릿마다 한 번만 만든다.")
+    void 신청서_검증기_캐시() throws Exception {
+        InMemoryDocumentStore<CompetitionTemplate> templateStore = new InMemoryDocumentStore<>(CompetitionTemplate.class);
+        CompetitionTemplateService competitionTemplateService = new CompetitionTemplateService(templateStore, 100, 600);
+        String templateId = templateStore.save(template()).get();
+
+        CompetitionFormValidator validator = competitionTemplateService.getFormValidatorAsync(templateId).get();
+        assertSame(validator, competitionTemplateService.getFormValidatorAsync(templateId).get());
+        assertNull(competitionTemplateService.getFormValidatorAsync("없는 템플릿").get());
+    }
+}
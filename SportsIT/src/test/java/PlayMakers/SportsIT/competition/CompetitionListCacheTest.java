@@ -0,0 +1,59 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.dto.CompetitionDto;
+import PlayMakers.SportsIT.service.CompetitionListCache;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompetitionListCacheTest {
+    CompetitionListCache competitionListCache = new CompetitionListCache(100, 60, 60);
+    LocalDateTime now = LocalDateTime.of(2023, 9, 1, 12, 0);
+
+    private CursorSlice<CompetitionDto.Summary> slice() {
+        return new CursorSlice<>(new ArrayList<>(List.of(new CompetitionDto.Summary())), PageRequest.of(0, 10), false, null);
+    }
+
+    @Test
+    @DisplayName("검색어, 필터 순서가 달라도 같은 조회 조건이면 캐시를 공유한다.")
+    void 조회_조건_정규화() {
+        CompetitionListCache.Key a = competitionListCache.key(" 팔씨름 ", List.of("RECRUITING", "PLANNING"), null, null, 0, 10, now);
+        CompetitionListCache.Key b = competitionListCache.key("팔씨름", List.of("PLANNING", "RECRUITING", "PLANNING"), "createdDate", "", 0, 10, now);
+        assertEquals(a, b);
+    }
+
+    @Test
+    @DisplayName("현재 시각 기준 필터가 있을 때만 시각 구간이 캐시 키에 포함된다.")
+    void 시간_구간() {
+        assertNull(competitionListCache.key(null, List.of("RECRUITING"), null, null, 0, 10, now).timeBucket());
+        assertEquals(now, competitionListCache.key(null, List.of("recruitingEnd"), null, null, 0, 10, now).timeBucket());
+
+        LocalDateTime bucketedNow = competitionListCache.bucketedNow();
+        assertEquals(0, bucketedNow.getSecond());
+        assertEquals(0, bucketedNow.getNano());
+    }
+
+    @Test
+    @DisplayName("같은 조회 조건은 한 번만 조회하고, 무효화 후에는 다시 조회한다.")
+    void 캐시_조회_및_무효화() {
+        AtomicInteger loads = new AtomicInteger();
+
+        competitionListCache.get(competitionListCache.key("팔씨름", null, null, null, 0, 10, now), () -> { loads.incrementAndGet(); return slice(); });
+        competitionListCache.get(competitionListCache.key("팔씨름", null, null, null, 0, 10, now), () -> { loads.incrementAndGet(); return slice(); });
+        assertEquals(1, loads.get());
+        assertEquals(1L, competitionListCache.stats().get("hitCount"));
+        assertEquals(1L, competitionListCache.stats().get("missCount"));
+
+        competitionListCache.invalidateAll();
+        competitionListCache.get(competitionListCache.key("팔씨름", null, null, null, 0, 10, now), () -> { loads.incrementAndGet(); return slice(); });
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,98 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.dto.CompetitionCursor;
+import PlayMakers.SportsIT.dto.CompetitionDto;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SchemaTest
+class CompetitionRankRepositoryTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    CompetitionRepository competitionRepository;
+
+    final LocalDateTime now = LocalDateTime.of(2023, 5, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        TestTables.reset(jdbcTemplate, "competition", "poster");
+    }
+
+    private void insertCompetition(long competitionId, String state) {
+        jdbcTemplate.update("INSERT INTO competition (competition_id, name, view_count, scrap_count, start_date, end_date, " +
+                        "recruiting_start, recruiting_end, total_prize, content, location, location_detail, state, competition_type, created_date) " +
+                        "VALUES (?, ?, 0, 0, ?, ?, ?, ?, 0, '내용', '서울', '체육관', ?, 'FREE', ?)",
+                competitionId, "대회" + competitionId, now.plusDays(30), now.plusDays(31), now.minusDays(10), now.plusDays(20), state, now);
+    }
+
+    private static List<Long> ids(CursorSlice<CompetitionDto.Summary> slice) {
+        return slice.getContent().stream().map(CompetitionDto.Summary::getCompetitionId).toList();
+    }
+
+    @Test
+    @DisplayName("관련도 순 조회는 순위를 유지하고, 필터로 걸러진 대회를 건너뛰며 커서로 다음 페이지를 이어서 조회한다.")
+    void 관련도_순_페이지_조회() {
+        List<Long> rankedIds = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            insertCompetition(id, id % 3 == 0 ? "END" : "RECRUITING"); // 3, 6, 9, 12는 필터에서 제외
+            rankedIds.add(13 - id); // 12, 11, ..., 1 순
+        }
+        rankedIds.add(100L); // 삭제된 대회
+        List<String> filterType = List.of("RECRUITING");
+
+        CursorSlice<CompetitionDto.Summary> first = competitionRepository.findCompetitionSummaryByRank(rankedIds, filterType, null, PageRequest.of(0, 3), now);
+        assertEquals(List.of(11L, 10L, 8L), ids(first));
+        assertTrue(first.hasNext());
+
+        CursorSlice<CompetitionDto.Summary> second = competitionRepository.findCompetitionSummaryByRank(rankedIds, filterType,
+                CompetitionCursor.decode(first.getNextCursor()), PageRequest.of(0, 3), now);
+        assertEquals(List.of(7L, 5L, 4L), ids(second));
+        assertTrue(second.hasNext());
+
+        CursorSlice<CompetitionDto.Summary> last = competitionRepository.findCompetitionSummaryByRank(rankedIds, filterType,
+                CompetitionCursor.decode(second.getNextCursor()), PageRequest.of(0, 3), now);
+        assertEquals(List.of(2L, 1L), ids(last));
+        assertFalse(last.hasNext());
+
+        // offset 방식은 필터를 통과한 대회 기준으로 건너뛴다.
+        assertEquals(List.of(7L, 5L, 4L), ids(competitionRepository.findCompetitionSummaryByRank(rankedIds, filterType, null, PageRequest.of(1, 3), now)));
+    }
+
+    @Test
+    @DisplayName("필터로 걸러진 대회가 많으면 정해진 횟수만큼만 다시 조회하고, 확인한 위치부터 다음 페이지를 이어서 조회한다.")
+    void 관련도_순_다시_조회_제한() {
+        List<Long> rankedIds = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            insertCompetition(id, id == 30 ? "RECRUITING" : "END");
+            rankedIds.add(id);
+        }
+        List<String> filterType = List.of("RECRUITING");
+
+        CursorSlice<CompetitionDto.Summary> slice = competitionRepository.findCompetitionSummaryByRank(rankedIds, filterType, null, PageRequest.of(0, 1), now);
+        List<Long> found = new ArrayList<>(ids(slice));
+        int requests = 1;
+        while (slice.hasNext()) {
+            slice = competitionRepository.findCompetitionSummaryByRank(rankedIds, filterType,
+                    CompetitionCursor.decode(slice.getNextCursor()), PageRequest.of(0, 1), now);
+            found.addAll(ids(slice));
+            requests++;
+        }
+        assertEquals(List.of(30L), found);
+        assertTrue(requests > 1); // 한 번에 30개를 모두 확인하지 않는다.
+    }
+}
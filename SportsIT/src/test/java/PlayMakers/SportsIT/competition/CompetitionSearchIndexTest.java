@@ -0,0 +1,98 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.domain.SportCategory;
+import PlayMakers.SportsIT.dto.CompetitionDto;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.service.CompetitionSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CompetitionSearchIndexTest {
+    @Mock
+    CompetitionRepository competitionRepository;
+    @InjectMocks
+    CompetitionSearchIndex competitionSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        given(competitionRepository.findSearchDocuments(null)).willReturn(List.of(
+                new CompetitionDto.SearchDocument(1L, "스포츠잇 팔씨름 대회", "플레이메이커스", SportCategory.ARM_WRESTLING),
+                new CompetitionDto.SearchDocument(2L, "서울 테니스 오픈", "서울시체육회", SportCategory.TENNIS),
+                new CompetitionDto.SearchDocument(3L, "팔씨름 팔씨름 왕중왕전", "팔씨름협회", SportCategory.ARM_WRESTLING),
+                new CompetitionDto.SearchDocument(4L, "Sports Cup", "Host", SportCategory.SOCCER)
+        ));
+        competitionSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("색인 생성 전에는 검색 결과 대신 빈 값을 반환한다.")
+    void 색인_생성_전() {
+        CompetitionSearchIndex notReady = new CompetitionSearchIndex(competitionRepository);
+        assertFalse(notReady.isReady());
+        assertEquals(Optional.empty(), notReady.search("팔씨름"));
+    }
+
+    @Test
+    @DisplayName("대회 이름, 주최자 이름, 종목명에 검색어가 포함된 대회를 관련도 순으로 찾는다.")
+    void 검색() {
+        assertTrue(competitionSearchIndex.isReady());
+        assertEquals(List.of(3L, 1L), competitionSearchIndex.search("팔씨름").get());
+        assertEquals(List.of(2L), competitionSearchIndex.search("체육회").get());
+        assertEquals(List.of(2L), competitionSearchIndex.search("테니스").get());
+        assertEquals(List.of(4L), competitionSearchIndex.search("sports").get());
+    }
+
+    @Test
+    @DisplayName("검색어의 bigram이 모두 있어도 연속된 문자열이 아니면 검색되지 않는다.")
+    void 부분_문자열_확인() {
+        assertEquals(List.of(), competitionSearchIndex.search("씨름팔").get());
+        assertEquals(List.of(), competitionSearchIndex.search("축구대회").get());
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어도 검색할 수 있다.")
+    void 한_글자_검색() {
+        assertEquals(List.of(2L), competitionSearchIndex.search("니").get());
+    }
+
+    @Test
+    @DisplayName("대회가 수정되거나 삭제되면 색인에 반영된다.")
+    void 색인_갱신() {
+        given(competitionRepository.findSearchDocuments(List.of(2L))).willReturn(List.of(
+                new CompetitionDto.SearchDocument(2L, "서울 팔씨름 오픈", "서울시체육회", SportCategory.ARM_WRESTLING)));
+
+        competitionSearchIndex.index(2L);
+        assertTrue(competitionSearchIndex.search("팔씨름").get().contains(2L));
+        assertEquals(List.of(), competitionSearchIndex.search("테니스").get());
+
+        competitionSearchIndex.remove(3L);
+        assertFalse(competitionSearchIndex.search("팔씨름").get().contains(3L));
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 생성/수정된 대회는 주기적인 반영으로 색인된다.")
+    void 주기적_반영() {
+        given(competitionRepository.findCompetitionIdsUpdatedSince(any())).willReturn(List.of(5L));
+        given(competitionRepository.findSearchDocuments(List.of(5L))).willReturn(List.of(
+                new CompetitionDto.SearchDocument(5L, "부산 팔씨름 챔피언십", "부산협회", SportCategory.ARM_WRESTLING)));
+        assertFalse(competitionSearchIndex.search("부산").get().contains(5L));
+
+        competitionSearchIndex.refresh();
+
+        assertEquals(List.of(5L), competitionSearchIndex.search("부산").get());
+        assertTrue(competitionSearchIndex.search("팔씨름").get().contains(5L));
+    }
+}
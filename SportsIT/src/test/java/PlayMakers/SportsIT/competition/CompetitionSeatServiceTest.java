@@ -0,0 +1,165 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.domain.Competition;
+import PlayMakers.SportsIT.domain.JoinCompetition;
+import PlayMakers.SportsIT.dto.JoinCompetitionDto;
+import PlayMakers.SportsIT.dto.JoinCountDto;
+import PlayMakers.SportsIT.exceptions.RequestDeniedException;
+import PlayMakers.SportsIT.repository.*;
+import PlayMakers.SportsIT.service.CompetitionSeatService;
+import PlayMakers.SportsIT.service.JoinCompetitionService;
+import PlayMakers.SportsIT.service.OutboxEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SchemaTest
+class CompetitionSeatServiceTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    CompetitionSeatRepository competitionSeatRepository;
+    CompetitionRepository competitionRepository;
+    CompetitionSeatService competitionSeatService;
+
+    @BeforeEach
+    void setUp() {
+        TestTables.reset(jdbcTemplate, "competition_seat", "join_competition");
+        competitionSeatRepository = spy(new CompetitionSeatRepository(jdbcTemplate));
+        competitionRepository = mock(CompetitionRepository.class);
+        competitionSeatService = new CompetitionSeatService(competitionSeatRepository, competitionRepository, 60, 60);
+    }
+
+    private static Competition competition(Long competitionId, Integer maxPlayer) {
+        return Competition.builder().competitionId(competitionId).maxPlayer(maxPlayer).maxViewer(999).build();
+    }
+
+    @Test
+    @DisplayName("동시에 참가 신청이 몰려도 정원보다 많이 예약되지 않는다.")
+    void 동시_예약_정원_초과_없음() throws Exception {
+        Competition competition = competition(1L, 100);
+        competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 0L); // 좌석 행 생성
+        competitionSeatService = new CompetitionSeatService(competitionSeatRepository, competitionRepository, 0, 60); // 마감 기억 없이 모든 요청이 DB로 가도록
+
+        int requests = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (long uid = 1; uid <= requests; uid++) {
+            long memberUid = uid;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, memberUid);
+                    reserved.incrementAndGet();
+                } catch (RequestDeniedException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertEquals(99, reserved.get());
+        assertEquals(requests - 99, rejected.get());
+        assertEquals(100, competitionSeatRepository.find(new CompetitionSeatRepository.Key(1L, JoinCompetition.joinType.PLAYER)).orElseThrow().taken());
+    }
+
+    @Test
+    @DisplayName("정원이 찬 것으로 확인되면 이후 신청은 DB에 가지 않고 거절한다.")
+    void 마감된_좌석_빠른_거절() {
+        Competition competition = competition(2L, 1);
+        competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 1L);
+        assertThrows(RequestDeniedException.class, () -> competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 2L));
+        clearInvocations(competitionSeatRepository);
+
+        assertThrows(RequestDeniedException.class, () -> competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 3L));
+        assertTrue(competitionSeatService.isFull(competition, JoinCompetition.joinType.PLAYER));
+        verifyNoInteractions(competitionSeatRepository);
+
+        // 취소하면 다시 예약할 수 있다.
+        competitionSeatService.release(2L, JoinCompetition.joinType.PLAYER);
+        assertDoesNotThrow(() -> competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 3L));
+    }
+
+    @Test
+    @DisplayName("좌석 행이 없는 대회는 기존 참가 신청 수로 좌석 행을 만들고, 선수와 관람객 정원을 따로 확인한다.")
+    void 좌석_행_생성() {
+        for (long uid = 1; uid <= 3; uid++) {
+            jdbcTemplate.update("INSERT INTO join_competition (uid, competition_id, join_type) VALUES (?, 3, 'PLAYER')", uid);
+        }
+        jdbcTemplate.update("INSERT INTO join_competition (uid, competition_id, join_type) VALUES (4, 3, 'VIEWER')");
+        Competition competition = Competition.builder().competitionId(3L).maxPlayer(4).maxViewer(1).build();
+
+        // uid 3의 신청은 같은 트랜잭션에서 저장된 것으로 보고 초기값에서 제외한 뒤 예약으로 센다.
+        competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 3L);
+        assertEquals(3, competitionSeatRepository.find(new CompetitionSeatRepository.Key(3L, JoinCompetition.joinType.PLAYER)).orElseThrow().taken());
+        competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 5L);
+        assertThrows(RequestDeniedException.class, () -> competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 6L));
+        assertThrows(RequestDeniedException.class, () -> competitionSeatService.reserve(competition, JoinCompetition.joinType.VIEWER, 6L));
+        verify(competitionSeatRepository, times(2)).initialize(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("참가 인원은 좌석 행에서 한 번 읽은 뒤 캐시하고, 예약/취소 시 캐시 값도 함께 바꾼다.")
+    void 참가_인원_캐시() {
+        jdbcTemplate.update("INSERT INTO join_competition (uid, competition_id, join_type) VALUES (1, 4, 'PLAYER')");
+        Competition competition = Competition.builder().competitionId(4L).maxPlayer(10).maxViewer(null).build();
+        when(competitionRepository.findById(4L)).thenReturn(Optional.of(competition));
+
+        JoinCountDto counts = competitionSeatService.getJoinCounts(4L);
+        assertEquals(10, counts.getMaxPlayerCount());
+        assertEquals(1, counts.getPlayerCount());
+        assertNull(counts.getMaxViewerCount());
+        assertEquals(0, counts.getViewerCount());
+
+        competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 2L);
+        competitionSeatService.reserve(competition, JoinCompetition.joinType.VIEWER, 3L);
+        competitionSeatService.release(4L, JoinCompetition.joinType.PLAYER);
+        clearInvocations(competitionSeatRepository);
+
+        counts = competitionSeatService.getJoinCounts(4L);
+        assertEquals(1, counts.getPlayerCount());
+        assertEquals(1, counts.getViewerCount());
+        verifyNoInteractions(competitionSeatRepository);
+        verify(competitionRepository, times(1)).findById(4L);
+    }
+
+    @Test
+    @DisplayName("참가를 취소하면 좌석 수가 줄어들고, 참가 종류가 없는 기존 신청은 좌석을 취소하지 않는다.")
+    void 참가_취소_좌석_반환() {
+        Competition competition = competition(5L, 10);
+        competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 1L);
+        competitionSeatService.reserve(competition, JoinCompetition.joinType.PLAYER, 2L);
+        JoinCompetitionRepository joinCompetitionRepository = mock(JoinCompetitionRepository.class);
+        JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, mock(CompetitionCustomRepository.class),
+                mock(MemberRepository.class), joinCompetitionRepository, mock(ParticipantRepository.class), mock(OutboxEventPublisher.class), competitionSeatService);
+        when(joinCompetitionRepository.findByIdUidAndIdCompetitionId(1L, 5L))
+                .thenReturn(Optional.of(JoinCompetition.builder().joinType(JoinCompetition.joinType.PLAYER).build()));
+        when(joinCompetitionRepository.findByIdUidAndIdCompetitionId(3L, 5L))
+                .thenReturn(Optional.of(JoinCompetition.builder().build())); // 참가 종류가 없는 기존 신청
+
+        joinCompetitionService.deleteJoinCompetition(JoinCompetitionDto.builder().uid(1L).competitionId(5L).build());
+        assertEquals(1, competitionSeatRepository.find(new CompetitionSeatRepository.Key(5L, JoinCompetition.joinType.PLAYER)).orElseThrow().taken());
+
+        assertDoesNotThrow(() -> joinCompetitionService.deleteJoinCompetition(JoinCompetitionDto.builder().uid(3L).competitionId(5L).build()));
+        assertEquals(1, competitionSeatRepository.find(new CompetitionSeatRepository.Key(5L, JoinCompetition.joinType.PLAYER)).orElseThrow().taken());
+    }
+}
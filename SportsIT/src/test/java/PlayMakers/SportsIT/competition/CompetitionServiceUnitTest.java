@@ -10,7 +10,11 @@ import PlayMakers.SportsIT.exceptions.competition.IllegalMemberTypeException;
 import PlayMakers.SportsIT.repository.CategoryRepository;
 import PlayMakers.SportsIT.repository.CompetitionRepository;
 import PlayMakers.SportsIT.repository.MemberRepository;
+import PlayMakers.SportsIT.service.CompetitionSeatService;
+import PlayMakers.SportsIT.service.CompetitionListCache;
+import PlayMakers.SportsIT.service.CompetitionSearchIndex;
 import PlayMakers.SportsIT.service.CompetitionService;
+import PlayMakers.SportsIT.service.CompetitionViewCountBuffer;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +46,14 @@ class CompetitionServiceUnitTest {
     CategoryRepository categoryRepository;
     @Mock @MainCompetitionPolicy
     CompetitionPolicy competitionPolicy;
+    @Mock
+    CompetitionSearchIndex competitionSearchIndex;
+    @Mock
+    CompetitionListCache competitionListCache;
+    @Mock
+    CompetitionViewCountBuffer competitionViewCountBuffer;
+    @Mock
+    CompetitionSeatService competitionSeatService;
     @InjectMocks
     CompetitionService competitionService;
 
@@ -0,0 +1,82 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.domain.CompetitionState;
+import PlayMakers.SportsIT.domain.SchedulerLease;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.repository.SchedulerLeaseRepository;
+import PlayMakers.SportsIT.service.CompetitionStateService;
+import PlayMakers.SportsIT.service.OutboxEventPublisher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompetitionStateServiceTest {
+    @Mock
+    CompetitionRepository competitionRepository;
+    @Mock
+    SchedulerLeaseRepository schedulerLeaseRepository;
+    @Mock
+    OutboxEventPublisher outboxEventPublisher;
+    @InjectMocks
+    CompetitionStateService competitionStateService;
+
+    LocalDateTime now = LocalDateTime.of(2023, 9, 1, 9, 0);
+    SchedulerLease lease = SchedulerLease.builder().name("competition-state-sweep").owner("node-a").expiresAt(now.plusMinutes(15)).fencingToken(3L).build();
+
+    @Test
+    @DisplayName("전환 시각이 지난 대회를 상태별로 한 번에 전환하고, 변경된 대회 아이디를 반환한다.")
+    void 일괄_상태_전환() {
+        given(schedulerLeaseRepository.lockIfHeld(lease, now)).willReturn(true);
+        given(competitionRepository.findCompetitionIdsToTransition(any(), eq(now))).willReturn(List.of());
+        given(competitionRepository.findCompetitionIdsToTransition(CompetitionState.PLANNING, now)).willReturn(List.of(1L, 2L, 3L));
+        given(competitionRepository.findCompetitionIdsToTransition(CompetitionState.IN_PROGRESS, now)).willReturn(List.of(4L));
+        given(competitionRepository.updateStates(List.of(1L, 2L, 3L), CompetitionState.PLANNING, CompetitionState.RECRUITING)).willReturn(3L);
+        given(competitionRepository.updateStates(List.of(4L), CompetitionState.IN_PROGRESS, CompetitionState.END)).willReturn(1L);
+
+        Map<CompetitionState, List<Long>> changed = competitionStateService.updateStatesByTime(now, lease);
+
+        assertEquals(Map.of(CompetitionState.RECRUITING, List.of(1L, 2L, 3L), CompetitionState.END, List.of(4L)), changed);
+        InOrder inOrder = inOrder(competitionRepository);
+        inOrder.verify(competitionRepository).findCompetitionIdsToTransition(CompetitionState.PLANNING, now);
+        inOrder.verify(competitionRepository).findCompetitionIdsToTransition(CompetitionState.RECRUITING, now);
+        inOrder.verify(competitionRepository).findCompetitionIdsToTransition(CompetitionState.RECRUITING_END, now);
+        inOrder.verify(competitionRepository).findCompetitionIdsToTransition(CompetitionState.IN_PROGRESS, now);
+        verify(competitionRepository, times(2)).updateStates(any(), any(), any());
+        verify(outboxEventPublisher).competitionStateChanged(changed);
+    }
+
+    @Test
+    @DisplayName("스케줄러 임대가 다른 서버로 넘어갔으면 상태를 전환하지 않는다.")
+    void 임대_상실_시_전환_안함() {
+        given(schedulerLeaseRepository.lockIfHeld(lease, now)).willReturn(false);
+
+        assertTrue(competitionStateService.updateStatesByTime(now, lease).isEmpty());
+        verifyNoInteractions(competitionRepository, outboxEventPublisher);
+    }
+
+    @Test
+    @DisplayName("이미 다른 곳에서 전환된 대회는 변경되지 않은 것으로 반환한다.")
+    void 단건_상태_전환() {
+        given(competitionRepository.updateState(1L, CompetitionState.RECRUITING, CompetitionState.RECRUITING_END, now)).willReturn(1L);
+        given(competitionRepository.updateState(2L, CompetitionState.RECRUITING, CompetitionState.RECRUITING_END, now)).willReturn(0L);
+
+        assertEquals(Map.of(CompetitionState.RECRUITING_END, List.of(1L)),
+                competitionStateService.updateState(1L, CompetitionState.RECRUITING, CompetitionState.RECRUITING_END, now));
+        assertTrue(competitionStateService.updateState(2L, CompetitionState.RECRUITING, CompetitionState.RECRUITING_END, now).isEmpty());
+    }
+}
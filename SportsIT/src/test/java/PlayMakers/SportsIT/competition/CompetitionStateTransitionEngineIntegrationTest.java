@@ -0,0 +1,96 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.domain.CompetitionState;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.repository.SchedulerLeaseRepository;
+import PlayMakers.SportsIT.scheduler.CompetitionStateTransitionEngine;
+import PlayMakers.SportsIT.service.CompetitionListCache;
+import PlayMakers.SportsIT.service.CompetitionStateService;
+import PlayMakers.SportsIT.service.OutboxEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 다른 서버에서 대회 일정이 수정되어 이 서버의 예약이 오래된 경우를 실제 DB로 확인한다.
+ */
+@SchemaTest
+@Import(CompetitionStateService.class)
+class CompetitionStateTransitionEngineIntegrationTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    CompetitionRepository competitionRepository;
+    @Autowired
+    CompetitionStateService competitionStateService;
+    @MockBean
+    SchedulerLeaseRepository schedulerLeaseRepository;
+    @MockBean
+    OutboxEventPublisher outboxEventPublisher;
+
+    CompetitionListCache competitionListCache = mock(CompetitionListCache.class);
+    CompetitionStateTransitionEngine competitionStateTransitionEngine;
+
+    @BeforeEach
+    void setUp() {
+        TestTables.reset(jdbcTemplate, "competition");
+        competitionStateTransitionEngine = new CompetitionStateTransitionEngine(competitionRepository, competitionStateService, competitionListCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        competitionStateTransitionEngine.shutdown();
+    }
+
+    private void insertCompetition(long competitionId, LocalDateTime recruitingStart) {
+        jdbcTemplate.update("INSERT INTO competition (competition_id, name, view_count, scrap_count, start_date, end_date, " +
+                        "recruiting_start, recruiting_end, total_prize, content, location, location_detail, state, competition_type, created_date) " +
+                        "VALUES (?, ?, 0, 0, ?, ?, ?, ?, 0, '내용', '서울', '체육관', 'PLANNING', 'FREE', ?)",
+                competitionId, "대회" + competitionId, recruitingStart.plusDays(30), recruitingStart.plusDays(31),
+                recruitingStart, recruitingStart.plusDays(20), LocalDateTime.now());
+    }
+
+    private String state(long competitionId) {
+        return jdbcTemplate.queryForObject("SELECT state FROM competition WHERE competition_id = ?", String.class, competitionId);
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 모집 시작일이 늦춰지면, 이전 시각에 예약된 작업은 상태를 바꾸지 않고 바뀐 시각으로 다시 예약한다.")
+    void 늦춰진_일정() {
+        insertCompetition(1L, LocalDateTime.now().plusNanos(300_000_000L));
+        competitionStateTransitionEngine.rebuild();
+        assertEquals(1, competitionStateTransitionEngine.getScheduledCount());
+
+        // 다른 서버에서 일정 수정 (이 서버에는 reschedule이 호출되지 않음)
+        jdbcTemplate.update("UPDATE competition SET recruiting_start = ? WHERE competition_id = 1", LocalDateTime.now().plusDays(1));
+
+        verify(competitionListCache, after(1000).never()).invalidateAll();
+        assertEquals(CompetitionState.PLANNING.name(), state(1L));
+        verify(outboxEventPublisher, never()).competitionStateChanged(any());
+        assertEquals(1, competitionStateTransitionEngine.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("전환 시각이 지난 대회만 상태를 전환한다.")
+    void 전환_시각_확인() {
+        insertCompetition(1L, LocalDateTime.now().minusMinutes(1));
+        insertCompetition(2L, LocalDateTime.now().plusDays(1));
+
+        assertFalse(competitionStateService.updateState(1L, CompetitionState.PLANNING, CompetitionState.RECRUITING, LocalDateTime.now()).isEmpty());
+        assertTrue(competitionStateService.updateState(2L, CompetitionState.PLANNING, CompetitionState.RECRUITING, LocalDateTime.now()).isEmpty());
+        assertEquals(CompetitionState.RECRUITING.name(), state(1L));
+        assertEquals(CompetitionState.PLANNING.name(), state(2L));
+    }
+}
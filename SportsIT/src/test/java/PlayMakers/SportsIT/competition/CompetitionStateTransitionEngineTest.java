@@ -0,0 +1,120 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.domain.CompetitionState;
+import PlayMakers.SportsIT.dto.CompetitionDto;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.scheduler.CompetitionStateTransitionEngine;
+import PlayMakers.SportsIT.service.CompetitionListCache;
+import PlayMakers.SportsIT.service.CompetitionStateService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompetitionStateTransitionEngineTest {
+    @Mock
+    CompetitionRepository competitionRepository;
+    @Mock
+    CompetitionStateService competitionStateService;
+    @Mock
+    CompetitionListCache competitionListCache;
+    @InjectMocks
+    CompetitionStateTransitionEngine competitionStateTransitionEngine;
+
+    LocalDateTime now = LocalDateTime.now();
+
+    @AfterEach
+    void tearDown() {
+        competitionStateTransitionEngine.shutdown();
+    }
+
+    private CompetitionDto.StateSchedule schedule(Long competitionId, CompetitionState state) {
+        return new CompetitionDto.StateSchedule(competitionId, state,
+                now.minusDays(10), now.minusDays(1), now.plusDays(5), now.plusDays(6));
+    }
+
+    @Test
+    @DisplayName("대회 상태마다 다음 상태와 전환 시각이 정해진다.")
+    void 다음_상태() {
+        CompetitionDto.StateSchedule planning = schedule(1L, CompetitionState.PLANNING);
+        assertEquals(CompetitionState.RECRUITING, planning.nextState());
+        assertEquals(planning.getRecruitingStart(), planning.nextTransitionAt());
+
+        CompetitionDto.StateSchedule inProgress = schedule(1L, CompetitionState.IN_PROGRESS);
+        assertEquals(CompetitionState.END, inProgress.nextState());
+        assertEquals(inProgress.getEndDate(), inProgress.nextTransitionAt());
+
+        assertNull(schedule(1L, CompetitionState.END).nextState());
+        assertNull(schedule(1L, CompetitionState.CANCEL).nextTransitionAt());
+    }
+
+    @Test
+    @DisplayName("전환 시각이 지난 대회는 바로 전환되고, 다음 전환이 예약된다.")
+    void 지난_전환_실행() {
+        given(competitionRepository.findStateSchedules(null)).willReturn(List.of(schedule(1L, CompetitionState.RECRUITING)));
+        given(competitionStateService.updateState(eq(1L), eq(CompetitionState.RECRUITING), eq(CompetitionState.RECRUITING_END), any())).willReturn(Map.of(CompetitionState.RECRUITING_END, List.of(1L)));
+        given(competitionRepository.findStateSchedules(List.of(1L))).willReturn(List.of(schedule(1L, CompetitionState.RECRUITING_END)));
+
+        competitionStateTransitionEngine.rebuild();
+
+        verify(competitionStateService, timeout(2000)).updateState(eq(1L), eq(CompetitionState.RECRUITING), eq(CompetitionState.RECRUITING_END), any());
+        verify(competitionListCache, timeout(2000)).invalidateAll();
+        verify(competitionRepository, timeout(2000)).findStateSchedules(List.of(1L));
+        verify(competitionStateService, after(200).never()).updateState(eq(1L), eq(CompetitionState.RECRUITING_END), eq(CompetitionState.IN_PROGRESS), any());
+        assertEquals(1, competitionStateTransitionEngine.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 전환한 경우 캐시를 무효화하지 않는다.")
+    void 이미_전환됨() {
+        given(competitionRepository.findStateSchedules(null)).willReturn(List.of(schedule(1L, CompetitionState.RECRUITING)));
+        given(competitionStateService.updateState(eq(1L), eq(CompetitionState.RECRUITING), eq(CompetitionState.RECRUITING_END), any())).willReturn(Map.of());
+        given(competitionRepository.findStateSchedules(List.of(1L))).willReturn(List.of(schedule(1L, CompetitionState.RECRUITING_END)));
+
+        competitionStateTransitionEngine.rebuild();
+
+        verify(competitionRepository, timeout(2000)).findStateSchedules(List.of(1L));
+        verify(competitionListCache, never()).invalidateAll();
+    }
+
+    @Test
+    @DisplayName("전환에 실패해도 그 사이 등록된 새 예약은 남겨 둔다.")
+    void 실패_시_새_예약_유지() {
+        given(competitionRepository.findStateSchedules(null)).willReturn(List.of(schedule(1L, CompetitionState.RECRUITING)));
+        given(competitionRepository.findStateSchedules(List.of(1L))).willReturn(List.of(schedule(1L, CompetitionState.RECRUITING_END)));
+        given(competitionStateService.updateState(eq(1L), eq(CompetitionState.RECRUITING), eq(CompetitionState.RECRUITING_END), any())).willAnswer(invocation -> {
+            competitionStateTransitionEngine.reschedule(1L); // 대회 수정으로 다시 예약됨
+            throw new IllegalStateException("DB 연결 실패");
+        });
+
+        competitionStateTransitionEngine.rebuild();
+
+        verify(competitionStateService, timeout(2000)).updateState(eq(1L), eq(CompetitionState.RECRUITING), eq(CompetitionState.RECRUITING_END), any());
+        verify(competitionListCache, after(200).never()).invalidateAll();
+        assertEquals(1, competitionStateTransitionEngine.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("예약된 전환은 대회 삭제 시 취소된다.")
+    void 전환_취소() {
+        given(competitionRepository.findStateSchedules(null)).willReturn(List.of(schedule(1L, CompetitionState.RECRUITING_END)));
+
+        competitionStateTransitionEngine.rebuild();
+        assertEquals(1, competitionStateTransitionEngine.getScheduledCount());
+
+        competitionStateTransitionEngine.cancel(1L);
+        assertEquals(0, competitionStateTransitionEngine.getScheduledCount());
+    }
+}
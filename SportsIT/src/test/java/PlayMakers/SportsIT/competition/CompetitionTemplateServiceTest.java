@@ -0,0 +1,74 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.domain.CompetitionTemplate;
+import PlayMakers.SportsIT.repository.DocumentStore;
+import PlayMakers.SportsIT.repository.InMemoryDocumentStore;
+import PlayMakers.SportsIT.service.CompetitionTemplateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CompetitionTemplateServiceTest {
+    DocumentStore<CompetitionTemplate> templateStore;
+    CompetitionTemplateService competitionTemplateService;
+
+    @BeforeEach
+    void setUp() {
+        templateStore = spy(new InMemoryDocumentStore<>(CompetitionTemplate.class));
+        competitionTemplateService = new CompetitionTemplateService(templateStore, 100, 600);
+    }
+
+    @Test
+    @DisplayName("조회한 템플릿은 캐시하고, 수정/삭제하면 다시 조회한다.")
+    void 템플릿_캐시_무효화() throws Exception {
+        templateStore.update("t1", new CompetitionTemplate()).get();
+
+        CompetitionTemplate first = competitionTemplateService.getTemplate("t1");
+        assertSame(first, competitionTemplateService.getTemplate("t1"));
+        verify(templateStore, times(1)).find("t1");
+
+        competitionTemplateService.updateTemplate("t1", new CompetitionTemplate());
+        assertNotSame(first, competitionTemplateService.getTemplate("t1"));
+        competitionTemplateService.deleteTemplate("t1");
+        assertNull(competitionTemplateService.getTemplate("t1"));
+        verify(templateStore, times(3)).find("t1");
+        assertEquals(1L, competitionTemplateService.stats().get("hitCount"));
+    }
+
+    @Test
+    @DisplayName("같은 템플릿을 동시에 조회하면 저장소 조회는 한 번만 실행한다.")
+    void 동시_조회_한번만_로딩() throws Exception {
+        CompletableFuture<CompetitionTemplate> loading = new CompletableFuture<>();
+        doReturn(loading).when(templateStore).find("t2");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<CompetitionTemplate>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> competitionTemplateService.getTemplate("t2")));
+        }
+        Thread.sleep(200);
+        loading.complete(new CompetitionTemplate());
+        CompetitionTemplate loaded = futures.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<CompetitionTemplate> future : futures) assertSame(loaded, future.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        verify(templateStore, times(1)).find("t2");
+    }
+
+    @Test
+    @DisplayName("저장소 조회가 실패하면 ExecutionException을 던지고 실패한 결과는 캐시하지 않는다.")
+    void 조회_실패() throws Exception {
+        templateStore.update("t3", new CompetitionTemplate()).get();
+        doReturn(CompletableFuture.failedFuture(new RuntimeException("unavailable"))).doCallRealMethod().when(templateStore).find("t3");
+
+        assertThrows(ExecutionException.class, () -> competitionTemplateService.getTemplate("t3"));
+        assertNotNull(competitionTemplateService.getTemplate("t3"));
+    }
+}
@@ -0,0 +1,64 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.repository.CompetitionViewCountRepository;
+import PlayMakers.SportsIT.service.CompetitionViewCountBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompetitionViewCountBufferTest {
+    @Mock
+    CompetitionViewCountRepository competitionViewCountRepository;
+    @InjectMocks
+    CompetitionViewCountBuffer competitionViewCountBuffer;
+
+    @Test
+    @DisplayName("모아 둔 조회수 증가분을 한 번에 반영한다.")
+    void 조회수_반영() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> competitionViewCountBuffer.increase(1L));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        competitionViewCountBuffer.increase(2L);
+        assertEquals(1000, competitionViewCountBuffer.getPending(1L));
+
+        competitionViewCountBuffer.flush();
+
+        verify(competitionViewCountRepository).addViewCounts(Map.of(1L, 1000L, 2L, 1L));
+        assertEquals(0, competitionViewCountBuffer.getPending(1L));
+    }
+
+    @Test
+    @DisplayName("증가분이 없으면 DB에 반영하지 않는다.")
+    void 증가분_없음() {
+        competitionViewCountBuffer.flush();
+        verify(competitionViewCountRepository, never()).addViewCounts(any());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증가분은 다음 반영 때 다시 반영한다.")
+    void 반영_실패() {
+        competitionViewCountBuffer.increase(1L);
+        willThrow(new RuntimeException("DB 오류")).given(competitionViewCountRepository).addViewCounts(any());
+
+        competitionViewCountBuffer.flush();
+
+        assertEquals(1, competitionViewCountBuffer.getPending(1L));
+    }
+}
@@ -0,0 +1,79 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.domain.CompetitionForm;
+import PlayMakers.SportsIT.domain.CompetitionTemplate;
+import PlayMakers.SportsIT.repository.DocumentStore;
+import PlayMakers.SportsIT.repository.DualWriteDocumentStore;
+import PlayMakers.SportsIT.repository.InMemoryDocumentStore;
+import PlayMakers.SportsIT.repository.JdbcDocumentStore;
+import PlayMakers.SportsIT.service.DocumentStoreBackfill;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SchemaTest
+class DocumentStoreTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    JdbcDocumentStore<CompetitionForm> jdbcFormStore;
+
+    @BeforeEach
+    void setUp() {
+        TestTables.reset(jdbcTemplate, "form_document", "template_document");
+        jdbcFormStore = new JdbcDocumentStore<>(jdbcTemplate, "form_document", CompetitionForm.class);
+    }
+
+    private static CompetitionForm form(String sectorTitle) {
+        return CompetitionForm.builder()
+                .sectors(List.of(new CompetitionForm.Sector(sectorTitle, List.of(new CompetitionForm.SubSector("-75kg", true)))))
+                .build();
+    }
+
+    @Test
+    @DisplayName("DB 저장소는 신청서를 JSON으로 저장하고, Firestore와 같은 형식의 id를 만든다.")
+    void DB_저장소() throws Exception {
+        String id = jdbcFormStore.save(form("프로")).get();
+        assertTrue(id.matches("[A-Za-z0-9]{20}"));
+        assertEquals("프로", jdbcFormStore.find(id).get().getSectors().get(0).getTitle());
+        assertTrue(jdbcFormStore.find(id).get().getSectors().get(0).getSubSectors().get(0).isChecked());
+
+        jdbcFormStore.update(id, form("세미프로")).get();
+        jdbcFormStore.update("new-id", form("아마추어")).get(); // 없으면 만든다.
+        assertEquals("세미프로", jdbcFormStore.find(id).get().getSectors().get(0).getTitle());
+        assertFalse(jdbcFormStore.createIfAbsent(id, form("프로")).get());
+        assertEquals(2, jdbcFormStore.findIds(null, 10).get().size());
+
+        jdbcFormStore.delete(id).get();
+        assertNull(jdbcFormStore.find(id).get());
+    }
+
+    @Test
+    @DisplayName("이중 쓰기 중에는 두 저장소에 같은 id로 쓰고, 이관하면 secondary에 없는 문서만 복사한다.")
+    void 이중_쓰기와_이관() throws Exception {
+        InMemoryDocumentStore<CompetitionForm> memoryFormStore = new InMemoryDocumentStore<>(CompetitionForm.class);
+        for (int i = 0; i < 5; i++) memoryFormStore.save(form("기존" + i)).get();
+        DocumentStore<CompetitionForm> formStore = new DualWriteDocumentStore<>("form", memoryFormStore, jdbcFormStore);
+
+        String id = formStore.save(form("새 신청서")).get();
+        assertEquals("새 신청서", jdbcFormStore.find(id).get().getSectors().get(0).getTitle());
+
+        DocumentStore<CompetitionTemplate> templateStore = new DualWriteDocumentStore<>("template",
+                new InMemoryDocumentStore<>(CompetitionTemplate.class),
+                new JdbcDocumentStore<>(jdbcTemplate, "template_document", CompetitionTemplate.class));
+        List<DocumentStoreBackfill.Result> results = new DocumentStoreBackfill(templateStore, formStore, 2).backfillAll();
+
+        DocumentStoreBackfill.Result formResult = results.get(1);
+        assertEquals(6, formResult.scanned());
+        assertEquals(5, formResult.copied());
+        assertEquals(0, formResult.failed());
+        assertEquals(memoryFormStore.findIds(null, 10).get(), jdbcFormStore.findIds(null, 10).get());
+    }
+}
@@ -8,7 +8,9 @@ import PlayMakers.SportsIT.enums.Subscribe;
 import PlayMakers.SportsIT.exceptions.RequestDeniedException;
 import PlayMakers.SportsIT.exceptions.UnAuthorizedException;
 import PlayMakers.SportsIT.repository.*;
+import PlayMakers.SportsIT.service.CompetitionSeatService;
 import PlayMakers.SportsIT.service.JoinCompetitionService;
+import PlayMakers.SportsIT.service.OutboxEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +19,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.time.LocalDateTime;
@@ -42,6 +45,10 @@ public class JoinCompetitionServiceIntegrationTest {
     CompetitionCustomRepository competitionCustomRepository;
     @Autowired
     ParticipantRepository participantRepository;
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
 
     MemberType userTypePlayer = MemberType.builder()
             .roleName("ROLE_USER")
@@ -50,6 +57,10 @@ public class JoinCompetitionServiceIntegrationTest {
             .roleName("ROLE_INSTITUTION")
             .build();
 
+    private CompetitionSeatService competitionSeatService() {
+        return new CompetitionSeatService(new CompetitionSeatRepository(jdbcTemplate), competitionRepository, 5, 30);
+    }
+
     @BeforeEach
     void Before() {
         joinCompetitionRepository.deleteAll();
@@ -64,7 +75,7 @@ public class JoinCompetitionServiceIntegrationTest {
         @DisplayName("체육인은 대회 참가를 신청할 수 있다.")
         void 대회_신청(){
             // given
-            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository);
+            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository, new OutboxEventPublisher(outboxEventRepository), competitionSeatService());
 
             int hostIdx = 1;
             MemberType hostMemberType = userTypeInst;
@@ -110,7 +121,7 @@ public class JoinCompetitionServiceIntegrationTest {
 
 //            Competition recruitEndCompetition = getCompetition(host, LocalDateTime.now().minusDays(-5), CompetitionState.RECRUITING_END);
 //            recruitEndCompetition.setCompetitionId(2L);
-            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository);
+            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository, new OutboxEventPublisher(outboxEventRepository), competitionSeatService());
             Member player = getMember(2, userTypePlayer, Subscribe.BASIC_PLAYER);
             memberRepository.save(player);
             // when
@@ -139,7 +150,7 @@ public class JoinCompetitionServiceIntegrationTest {
             Competition recruitingCompetition =
                     competitionRepository.save(getCompetition(host, LocalDateTime.now().minusDays(2), CompetitionState.RECRUITING));
             JoinCompetitionService joinCompetitionService =
-                    new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository);
+                    new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository, new OutboxEventPublisher(outboxEventRepository), competitionSeatService());
             Member player = getMember(2, userTypePlayer, Subscribe.BASIC_PLAYER);
             memberRepository.save(player);
 
@@ -166,7 +177,7 @@ public class JoinCompetitionServiceIntegrationTest {
             // given
             Member host = memberRepository.save(getMember(1, userTypeInst, Subscribe.BASIC_HOST));
             Competition recruitEndCompetition = competitionRepository.save(getCompetition(host, LocalDateTime.now().minusDays(5), CompetitionState.RECRUITING_END));
-            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository);
+            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository, new OutboxEventPublisher(outboxEventRepository), competitionSeatService());
             Member player = getMember(2, userTypePlayer, Subscribe.BASIC_PLAYER);
             memberRepository.save(player);
             // when
@@ -186,7 +197,7 @@ public class JoinCompetitionServiceIntegrationTest {
             // given
             Member host = memberRepository.save(getMember(2, userTypeInst, Subscribe.BASIC_HOST));
             Competition recruitingCompetition = competitionRepository.save(getCompetition(host, LocalDateTime.now().minusDays(2), CompetitionState.RECRUITING));
-            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository);
+            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository, new OutboxEventPublisher(outboxEventRepository), competitionSeatService());
             // when
             JoinCompetitionDto joinCompetitionDto = JoinCompetitionDto.builder()
                     .competitionId(recruitingCompetition.getCompetitionId())
@@ -209,7 +220,7 @@ public class JoinCompetitionServiceIntegrationTest {
             // given
             Member host = memberRepository.save(getMember(1, userTypeInst, Subscribe.BASIC_HOST));
             Competition recruitingCompetition = competitionRepository.save(getCompetition(host, LocalDateTime.now().minusDays(2), CompetitionState.RECRUITING));
-            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository);
+            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository, new OutboxEventPublisher(outboxEventRepository), competitionSeatService());
             Member player = getMember(2, userTypePlayer, Subscribe.BASIC_PLAYER);
             memberRepository.save(player);
             JoinCompetitionDto joinCompetitionDto = JoinCompetitionDto.builder()
@@ -231,7 +242,7 @@ public class JoinCompetitionServiceIntegrationTest {
             // given
             Member host = memberRepository.save(getMember(1, userTypeInst, Subscribe.BASIC_HOST));
             Competition recruitingCompetition = competitionRepository.save(getCompetition(host, LocalDateTime.now().minusDays(8), CompetitionState.RECRUITING));
-            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository);
+            JoinCompetitionService joinCompetitionService = new JoinCompetitionService(competitionRepository, competitionCustomRepository, memberRepository, joinCompetitionRepository, participantRepository, new OutboxEventPublisher(outboxEventRepository), competitionSeatService());
             Member player = getMember(2, userTypePlayer, Subscribe.BASIC_PLAYER);
             memberRepository.save(player);
             JoinCompetitionDto joinCompetitionDto = JoinCompetitionDto.builder()
@@ -6,7 +6,9 @@ import PlayMakers.SportsIT.dto.JoinCompetitionDto;
 import PlayMakers.SportsIT.repository.CompetitionRepository;
 import PlayMakers.SportsIT.repository.JoinCompetitionRepository;
 import PlayMakers.SportsIT.repository.MemberRepository;
+import PlayMakers.SportsIT.service.CompetitionSeatService;
 import PlayMakers.SportsIT.service.JoinCompetitionService;
+import PlayMakers.SportsIT.service.OutboxEventPublisher;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -35,6 +37,10 @@ class JoinCompetitionServiceUnitTest {
     CompetitionPolicy competitionPolicy;
     @Mock
     private JoinCompetitionRepository joinCompetitionRepository;
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+    @Mock
+    private CompetitionSeatService competitionSeatService;
     @InjectMocks
     private JoinCompetitionService joinCompetitionService;
 
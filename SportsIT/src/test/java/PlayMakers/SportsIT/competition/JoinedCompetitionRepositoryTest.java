@@ -0,0 +1,100 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.domain.JoinCompetition;
+import PlayMakers.SportsIT.dto.CompetitionCursor;
+import PlayMakers.SportsIT.dto.JoinCompetitionDto;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SchemaTest
+class JoinedCompetitionRepositoryTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    CompetitionRepository competitionRepository;
+
+    final LocalDateTime joinDate = LocalDateTime.of(2023, 5, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        TestTables.reset(jdbcTemplate, "competition", "join_competition", "poster");
+        // 회원 1이 대회 1~5에 참가, 대회 2~4는 같은 시각에 참가 신청
+        insertJoin(1L, 1L, joinDate.minusDays(1));
+        insertJoin(1L, 2L, joinDate);
+        insertJoin(1L, 3L, joinDate);
+        insertJoin(1L, 4L, joinDate);
+        insertJoin(1L, 5L, joinDate.plusDays(1));
+        insertJoin(2L, 3L, joinDate); // 다른 회원
+        jdbcTemplate.update("INSERT INTO poster (competition_id, poster_url) VALUES (3, 'https://poster/3-b'), (3, 'https://poster/3-a')");
+    }
+
+    private void insertJoin(long uid, long competitionId, LocalDateTime createdDate) {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM competition WHERE competition_id = ?", Integer.class, competitionId) == 0) {
+            jdbcTemplate.update("INSERT INTO competition (competition_id, name, view_count, scrap_count, start_date, end_date, " +
+                            "recruiting_start, recruiting_end, total_prize, content, location, location_detail, state, competition_type, created_date) " +
+                            "VALUES (?, ?, 0, 0, ?, ?, ?, ?, 0, '내용', '서울', '체육관', 'RECRUITING', 'FREE', ?)",
+                    competitionId, "대회" + competitionId, joinDate.plusDays(30), joinDate.plusDays(31), joinDate.minusDays(10), joinDate.plusDays(20), joinDate);
+        }
+        jdbcTemplate.update("INSERT INTO join_competition (uid, competition_id, join_type, created_date) VALUES (?, ?, 'PLAYER', ?)",
+                uid, competitionId, createdDate);
+    }
+
+    private static List<Long> ids(CursorSlice<JoinCompetitionDto.UserJoinResponse> slice) {
+        return slice.getContent().stream().map(join -> join.getCompetition().getCompetitionId()).toList();
+    }
+
+    @Test
+    @DisplayName("참가한 대회는 참가 신청일 최신순으로, 같은 시각이면 대회 아이디 역순으로 커서를 따라 빠짐없이 조회한다.")
+    void 참가한_대회_커서_조회() {
+        CursorSlice<JoinCompetitionDto.UserJoinResponse> first = competitionRepository.findJoinedCompetitionSummaryByCursor(1L, null, PageRequest.of(0, 2));
+        assertEquals(List.of(5L, 4L), ids(first));
+        assertTrue(first.hasNext());
+        assertNotNull(first.getNextCursor());
+
+        // 같은 참가 신청일(대회 2~4) 사이에서 페이지가 나뉘어도 대회 아이디로 이어서 조회한다.
+        CursorSlice<JoinCompetitionDto.UserJoinResponse> second = competitionRepository.findJoinedCompetitionSummaryByCursor(
+                1L, CompetitionCursor.decode(first.getNextCursor()), PageRequest.of(0, 2));
+        assertEquals(List.of(3L, 2L), ids(second));
+        assertTrue(second.hasNext());
+
+        CursorSlice<JoinCompetitionDto.UserJoinResponse> last = competitionRepository.findJoinedCompetitionSummaryByCursor(
+                1L, CompetitionCursor.decode(second.getNextCursor()), PageRequest.of(0, 2));
+        assertEquals(List.of(1L), ids(last));
+        assertFalse(last.hasNext());
+        assertNull(last.getNextCursor());
+
+        // 목록 항목에는 포스터 목록 대신 대표 포스터 URL이 담긴다.
+        JoinCompetitionDto.UserJoinResponse join = second.getContent().get(0);
+        assertEquals("https://poster/3-a", join.getCompetition().getPosterUrl());
+        assertNull(join.getCompetition().getPosters());
+        assertEquals(JoinCompetition.joinType.PLAYER, join.getType());
+        assertEquals(joinDate, join.getJoinDate());
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 페이지 번호(offset)로 조회하고, 커서가 있으면 페이지 번호는 무시한다.")
+    void 페이지_번호와_커서() {
+        assertEquals(List.of(3L, 2L), ids(competitionRepository.findJoinedCompetitionSummaryByCursor(1L, null, PageRequest.of(1, 2))));
+
+        CursorSlice<JoinCompetitionDto.UserJoinResponse> first = competitionRepository.findJoinedCompetitionSummaryByCursor(1L, null, PageRequest.of(0, 2));
+        assertEquals(List.of(3L, 2L), ids(competitionRepository.findJoinedCompetitionSummaryByCursor(
+                1L, CompetitionCursor.decode(first.getNextCursor()), PageRequest.of(5, 2))));
+
+        CompetitionCursor viewCountCursor = CompetitionCursor.of(CompetitionCursor.SortKey.VIEW_COUNT, 3L, null, 0, null);
+        assertThrows(InvalidValueException.class, () -> competitionRepository.findJoinedCompetitionSummaryByCursor(1L, viewCountCursor, PageRequest.of(0, 2)));
+    }
+}
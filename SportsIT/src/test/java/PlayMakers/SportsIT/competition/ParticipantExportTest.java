@@ -0,0 +1,66 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.enums.ExportFormat;
+import PlayMakers.SportsIT.repository.CompetitionRepository;
+import PlayMakers.SportsIT.repository.MemberRepository;
+import PlayMakers.SportsIT.repository.ParticipantExportRepository;
+import PlayMakers.SportsIT.repository.ParticipantRepository;
+import PlayMakers.SportsIT.service.ParticipantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@SchemaTest
+class ParticipantExportTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    ParticipantService participantService;
+
+    @BeforeEach
+    void setUp() {
+        TestTables.reset(jdbcTemplate, "participant", "member");
+        jdbcTemplate.update("INSERT INTO member (uid, pw, name, email, phone, subscription, activated) VALUES "
+                + "(1, 'pw', '김철수', 'a@sportsit.com', '01012345678', 'FREE', true), "
+                + "(2, 'pw', '이, \"영희\"', 'b@sportsit.com', '01098765432', 'FREE', true), "
+                + "(3, 'pw', '=박민수', 'c@sportsit.com', '01011112222', 'FREE', true)");
+        jdbcTemplate.update("INSERT INTO participant (uid, competition_id, sector_title, sub_sector_name) VALUES "
+                + "(1, 10, '팔씨름', '왼팔'), (2, 10, '팔씨름', '오른팔'), (3, 10, '보디빌딩', '일반'), (1, 11, '팔씨름', '왼팔')");
+
+        participantService = new ParticipantService(mock(MemberRepository.class), mock(CompetitionRepository.class),
+                mock(ParticipantRepository.class), new ParticipantExportRepository(jdbcTemplate, 100));
+    }
+
+    @Test
+    @DisplayName("CSV로 내보내면 전화번호는 뒤 4자리만, 특수문자가 있는 값은 따옴표로 감싸서 쓴다.")
+    void CSV_내보내기() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = participantService.export(10L, null, null, ExportFormat.CSV, out);
+
+        assertEquals(3, count);
+        assertEquals("\uFEFFuid,userName,phone,sectorTitle,subSectorName\n"
+                + "3,'=박민수,2222,보디빌딩,일반\n"
+                + "2,\"이, \"\"영희\"\"\",5432,팔씨름,오른팔\n"
+                + "1,김철수,5678,팔씨름,왼팔\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("JSON Lines로 내보내면 종목, 세부 종목으로 거른 참가자를 한 줄에 하나씩 쓴다.")
+    void JSONL_내보내기() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = participantService.export(10L, "팔씨름", "왼팔", ExportFormat.JSONL, out);
+
+        assertEquals(1, count);
+        assertEquals("{\"uid\":1,\"userName\":\"김철수\",\"phone\":\"5678\",\"sectorTitle\":\"팔씨름\",\"subSectorName\":\"왼팔\"}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,68 @@
+package PlayMakers.SportsIT.competition;
+
+import PlayMakers.SportsIT.domain.CompetitionForm;
+import PlayMakers.SportsIT.domain.CompetitionTemplate;
+import PlayMakers.SportsIT.domain.PricingTable;
+import PlayMakers.SportsIT.repository.InMemoryDocumentStore;
+import PlayMakers.SportsIT.service.CompetitionTemplateService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingTableTest {
+
+    private static CompetitionTemplate template(int sectorCount) {
+        List<CompetitionTemplate.Sector> sectors = new ArrayList<>();
+        for (int i = 0; i < sectorCount; i++) {
+            sectors.add(new CompetitionTemplate.Sector("부문" + i, 30000L + i, 10000L, true,
+                    List.of(new CompetitionTemplate.SubSector("-65kg"), new CompetitionTemplate.SubSector("-75kg"))));
+        }
+        CompetitionTemplate template = new CompetitionTemplate();
+        template.setSectors(sectors);
+        return template;
+    }
+
+    private static CompetitionForm.Sector sector(String title, boolean... checked) {
+        List<CompetitionForm.SubSector> subSectors = new ArrayList<>();
+        for (int i = 0; i < checked.length; i++) {
+            subSectors.add(new CompetitionForm.SubSector("체급" + i, checked[i]));
+        }
+        return new CompetitionForm.Sector(title, subSectors);
+    }
+
+    @Test
+    @DisplayName("부문마다 첫 체급은 cost, 추가 체급은 expandCost로 계산하고, 같은 부문이 여러 번 나오면 한 부문으로 본다.")
+    void 참가비_계산() {
+        PricingTable pricingTable = PricingTable.of(template(100));
+
+        assertEquals(30000L + 10000L, pricingTable.calculate(List.of(sector("부문0", true, true))));
+        assertEquals(0L, pricingTable.calculate(List.of(sector("부문1", false, false))));
+        assertEquals(30001L + 10000L + 10000L, pricingTable.calculate(List.of(sector("부문1", true), sector("부문1", true, true))));
+        // 64번째 이후 부문
+        assertEquals(30099L + 30070L + 10000L, pricingTable.calculate(List.of(sector("부문99", true), sector("부문70", true), sector("부문70", true))));
+
+        assertThrows(IllegalArgumentException.class, () -> pricingTable.calculate(List.of(sector("없는 부문", true))));
+        // 선택하지 않은 부문은 템플릿에 없어도 된다.
+        assertEquals(0L, pricingTable.calculate(List.of(sector("없는 부문", false))));
+    }
+
+    @Test
+    @DisplayName("참가비 표는 캐시된 템플릿마다 한 번만 만든다.")
+    void 참가비_표_캐시() throws Exception {
+        InMemoryDocumentStore<CompetitionTemplate> templateStore = new InMemoryDocumentStore<>(CompetitionTemplate.class);
+        CompetitionTemplateService competitionTemplateService = new CompetitionTemplateService(templateStore, 100, 600);
+        String templateId = templateStore.save(template(3)).get();
+
+        PricingTable pricingTable = competitionTemplateService.getPricingTableAsync(templateId).get();
+        assertSame(pricingTable, competitionTemplateService.getPricingTableAsync(templateId).get());
+        assertEquals(3, pricingTable.size());
+
+        competitionTemplateService.updateTemplate(templateId, template(5));
+        assertEquals(5, competitionTemplateService.getPricingTableAsync(templateId).get().size());
+        assertNull(competitionTemplateService.getPricingTableAsync("없는 템플릿").get());
+    }
+}
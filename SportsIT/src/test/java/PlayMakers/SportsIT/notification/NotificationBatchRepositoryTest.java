@@ -0,0 +1,50 @@
+package PlayMakers.SportsIT.notification;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.enums.NotificationTitle;
+import PlayMakers.SportsIT.enums.NotificationType;
+import PlayMakers.SportsIT.repository.NotificationBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SchemaTest
+class NotificationBatchRepositoryTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    NotificationBatchRepository notificationBatchRepository;
+
+    @BeforeEach
+    void setUp() {
+        TestTables.reset(jdbcTemplate, "notification");
+        notificationBatchRepository = new NotificationBatchRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("수신자 수가 한 INSERT 문의 최대 행 수를 넘어도 모든 수신자에게 같은 알림이 저장된다.")
+    void 알림_일괄_저장() {
+        List<Long> receiverIds = LongStream.rangeClosed(1, 1203).boxed().toList();
+
+        int inserted = notificationBatchRepository.insertAll(receiverIds, NotificationTitle.END, "대회가 종료되었습니다. : 팔씨름 대회",
+                "/competitions/7", 99L, NotificationType.COMPETITION, LocalDateTime.now());
+
+        assertEquals(1203, inserted);
+        assertEquals(1203, jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT receiver_uid) FROM notification", Long.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT message) FROM notification WHERE sender_uid = 99 AND checked = false", Long.class));
+    }
+
+    @Test
+    @DisplayName("수신자가 없으면 아무것도 저장하지 않는다.")
+    void 수신자_없음() {
+        assertEquals(0, notificationBatchRepository.insertAll(List.of(), NotificationTitle.END, "m", "/l", null, null, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,72 @@
+package PlayMakers.SportsIT.notification;
+
+import PlayMakers.SportsIT.domain.Member;
+import PlayMakers.SportsIT.domain.Notification;
+import PlayMakers.SportsIT.enums.NotificationTitle;
+import PlayMakers.SportsIT.enums.NotificationType;
+import PlayMakers.SportsIT.repository.NotificationRepository;
+import PlayMakers.SportsIT.service.NotificationCoalescer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+    @Mock
+    NotificationRepository notificationRepository;
+    NotificationCoalescer notificationCoalescer;
+
+    Member host = Member.builder().uid(1L).name("주최자").build();
+    Member player = Member.builder().uid(2L).name("참가자").build();
+    LocalDateTime now = LocalDateTime.of(2023, 5, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        notificationCoalescer = new NotificationCoalescer(notificationRepository, 600);
+    }
+
+    @Test
+    @DisplayName("window 안에 확인하지 않은 같은 참가 알림이 있으면 개수와 메시지를 갱신한다.")
+    void 참가_알림_합치기() {
+        Notification existing = Notification.builder()
+                .receiver(host).title(NotificationTitle.NEW_PLAYER).link("/competitions/7")
+                .message("대회에 새로운 참가자가 등록되었습니다. : 팔씨름 대회").notificationType(NotificationType.ACTIVITY)
+                .build();
+        given(notificationRepository.findFirstByReceiver_UidAndTitleAndLinkAndCheckedFalseAndCreatedDateGreaterThanEqualOrderByIdDesc(
+                1L, NotificationTitle.NEW_PLAYER, "/competitions/7", now.minusSeconds(600))).willReturn(Optional.of(existing));
+
+        Optional<Notification> coalesced = notificationCoalescer.coalesce(host, NotificationTitle.NEW_PLAYER, "/competitions/7", player, "팔씨름 대회", now);
+
+        assertTrue(coalesced.isPresent());
+        assertEquals(2, existing.getCoalescedCount());
+        assertEquals("대회에 새로운 참가자 2명이 등록되었습니다. : 팔씨름 대회", existing.getMessage());
+        assertEquals(player, existing.getSender());
+    }
+
+    @Test
+    @DisplayName("합칠 알림이 없으면 빈 값을 반환하여 새 알림을 저장하게 한다.")
+    void 합칠_알림_없음() {
+        given(notificationRepository.findFirstByReceiver_UidAndTitleAndLinkAndCheckedFalseAndCreatedDateGreaterThanEqualOrderByIdDesc(
+                any(), any(), any(), any())).willReturn(Optional.empty());
+
+        assertTrue(notificationCoalescer.coalesce(host, NotificationTitle.NEW_SPECTATOR, "/competitions/7", player, "팔씨름 대회", now).isEmpty());
+    }
+
+    @Test
+    @DisplayName("참가 알림이 아니면 합치지 않는다.")
+    void 참가_알림이_아니면_합치지_않음() {
+        assertTrue(notificationCoalescer.coalesce(host, NotificationTitle.JOIN, "/member/profile", null, null, now).isEmpty());
+        verifyNoInteractions(notificationRepository);
+    }
+}
@@ -0,0 +1,71 @@
+package PlayMakers.SportsIT.notification;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.enums.NotificationType;
+import PlayMakers.SportsIT.repository.NotificationCounterRepository;
+import PlayMakers.SportsIT.service.NotificationCounterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SchemaTest
+class NotificationCounterServiceTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    NotificationCounterService notificationCounterService;
+
+    @BeforeEach
+    void setUp() {
+        TestTables.reset(jdbcTemplate, "notification_counter", "notification");
+        notificationCounterService = new NotificationCounterService(new NotificationCounterRepository(jdbcTemplate), 1000, 3600, 1); // 보정은 회원 한 명씩
+    }
+
+    @Test
+    @DisplayName("알림 저장/확인 시 알림 종류별로 카운터가 증감하고, 조회 캐시에도 반영된다.")
+    void 카운터_증감() {
+        assertEquals(0L, notificationCounterService.getUnreadCounts(1L).get(NotificationType.ACTIVITY));
+
+        notificationCounterService.increase(List.of(1L, 2L, 1L), NotificationType.COMPETITION);
+        notificationCounterService.increase(List.of(1L), NotificationType.ACTIVITY);
+        notificationCounterService.decrease(1L, NotificationType.COMPETITION);
+
+        assertEquals(1L, notificationCounterService.getUnreadCounts(1L).get(NotificationType.COMPETITION));
+        assertEquals(1L, notificationCounterService.getUnreadCounts(1L).get(NotificationType.ACTIVITY));
+        assertEquals(1L, notificationCounterService.getUnreadCounts(2L).get(NotificationType.COMPETITION));
+    }
+
+    @Test
+    @DisplayName("카운터는 0 미만으로 내려가지 않는다.")
+    void 카운터_하한() {
+        notificationCounterService.decrease(3L, NotificationType.ACTIVITY);
+        notificationCounterService.decrease(3L, NotificationType.ACTIVITY);
+
+        assertEquals(0L, notificationCounterService.getUnreadCounts(3L).get(NotificationType.ACTIVITY));
+    }
+
+    @Test
+    @DisplayName("보정 작업은 회원 uid 범위별로 실제 확인하지 않은 알림 수와 어긋난 카운터만 바로잡는다.")
+    void 카운터_보정() {
+        jdbcTemplate.update("INSERT INTO notification (title, link, message, receiver_uid, notification_type, checked) VALUES "
+                + "('END', '/l', 'm', 1, 'COMPETITION', false), ('END', '/l', 'm', 1, 'COMPETITION', false), "
+                + "('END', '/l', 'm', 1, 'COMPETITION', true), ('JOIN', '/l', 'm', 2, 'ACTIVITY', false)");
+        notificationCounterService.increase(List.of(1L, 1L), NotificationType.COMPETITION); // 정확함
+        notificationCounterService.increase(List.of(3L), NotificationType.ACTIVITY); // 실제 알림 없음
+        assertEquals(1L, notificationCounterService.getUnreadCounts(3L).get(NotificationType.ACTIVITY));
+
+        int repaired = notificationCounterService.reconcile();
+
+        assertEquals(2, repaired); // 2번 ACTIVITY 누락, 3번 ACTIVITY 초과
+        assertEquals(2L, notificationCounterService.getUnreadCounts(1L).get(NotificationType.COMPETITION));
+        assertEquals(1L, notificationCounterService.getUnreadCounts(2L).get(NotificationType.ACTIVITY));
+        assertEquals(0L, notificationCounterService.getUnreadCounts(3L).get(NotificationType.ACTIVITY));
+        assertEquals(0, notificationCounterService.reconcile());
+    }
+}
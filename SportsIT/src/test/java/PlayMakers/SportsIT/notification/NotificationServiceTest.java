@@ -0,0 +1,130 @@
+package PlayMakers.SportsIT.notification;
+
+import PlayMakers.SportsIT.dto.NotificationDto;
+import PlayMakers.SportsIT.enums.NotificationTitle;
+import PlayMakers.SportsIT.enums.NotificationType;
+import PlayMakers.SportsIT.exceptions.EntityNotFoundException;
+import PlayMakers.SportsIT.exceptions.InvalidValueException;
+import PlayMakers.SportsIT.repository.*;
+import PlayMakers.SportsIT.service.NotificationCoalescer;
+import PlayMakers.SportsIT.service.NotificationCounterService;
+import PlayMakers.SportsIT.service.NotificationService;
+import PlayMakers.SportsIT.service.NotificationStreamService;
+import PlayMakers.SportsIT.utils.api.CursorSlice;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+    @Mock
+    NotificationRepository notificationRepository;
+    @Mock
+    MemberRepository memberRepository;
+    @Mock
+    CompetitionRepository competitionRepository;
+    @Mock
+    JoinCompetitionRepository joinCompetitionRepository;
+    @Mock
+    NotificationBatchRepository notificationBatchRepository;
+    @Mock
+    NotificationCounterService notificationCounterService;
+    @Mock
+    NotificationStreamService notificationStreamService;
+    @Mock
+    NotificationCoalescer notificationCoalescer;
+    @InjectMocks
+    NotificationService notificationService;
+
+    private static List<NotificationDto.Summary> notifications(long fromId, long toId) {
+        return LongStream.iterate(fromId, id -> id >= toId, id -> id - 1)
+                .mapToObj(id -> new NotificationDto.Summary(id, 1L, NotificationTitle.JOIN, "m", "/l", NotificationType.ACTIVITY, false, 1, LocalDateTime.now()))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("알림 목록은 한 개 더 조회하여 다음 페이지 여부를 판단하고, 마지막 알림 id를 다음 커서로 반환한다.")
+    void 알림_목록_커서() {
+        given(notificationRepository.findSummariesByReceiverBefore(1L, NotificationType.ACTIVITY, Long.MAX_VALUE, PageRequest.of(0, 4)))
+                .willReturn(notifications(40, 37));
+        given(notificationRepository.findSummariesByReceiverBefore(1L, NotificationType.ACTIVITY, 38L, PageRequest.of(0, 4)))
+                .willReturn(notifications(37, 36));
+
+        CursorSlice<NotificationDto.Summary> first = notificationService.getNotifications(1L, NotificationType.ACTIVITY, null, 3);
+        CursorSlice<NotificationDto.Summary> second = notificationService.getNotifications(1L, NotificationType.ACTIVITY, first.getNextCursor(), 3);
+
+        assertEquals(List.of(40L, 39L, 38L), first.getContent().stream().map(NotificationDto.Summary::getId).toList());
+        assertEquals("38", first.getNextCursor());
+        assertEquals(List.of(37L, 36L), second.getContent().stream().map(NotificationDto.Summary::getId).toList());
+        assertFalse(second.hasNext());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 InvalidValueException을 던진다.")
+    void 잘못된_커서() {
+        assertThrows(InvalidValueException.class, () -> notificationService.getNotifications(1L, NotificationType.ACTIVITY, "abc", 10));
+    }
+
+    @Test
+    @DisplayName("알림 일괄 확인은 종류별 UPDATE 한 번으로 처리하고, 확인된 수만큼 카운터를 줄인다.")
+    void 알림_일괄_확인() {
+        given(notificationRepository.markAllChecked(1L, NotificationType.COMPETITION, Long.MAX_VALUE)).willReturn(4);
+        given(notificationRepository.markAllChecked(1L, NotificationType.ACTIVITY, Long.MAX_VALUE)).willReturn(0);
+
+        int checked = notificationService.checkNotifications(1L, null, null);
+
+        assertEquals(4, checked);
+        verify(notificationCounterService).decrease(1L, NotificationType.COMPETITION, 4);
+        verify(notificationCounterService).decrease(1L, NotificationType.ACTIVITY, 0);
+        verify(notificationStreamService).sendUnreadCountsAfterCommit(1L);
+    }
+
+    @Test
+    @DisplayName("커서까지의 알림만 확인 처리할 수 있다.")
+    void 커서까지_확인() {
+        given(notificationRepository.markAllChecked(1L, NotificationType.ACTIVITY, 38L)).willReturn(2);
+
+        assertEquals(2, notificationService.checkNotifications(1L, NotificationType.ACTIVITY, "38"));
+        verify(notificationRepository, never()).markAllChecked(1L, NotificationType.COMPETITION, 38L);
+    }
+
+    @Test
+    @DisplayName("알림 확인은 확인 처리된 경우에만 알림 종류를 조회하여 카운터를 감소시킨다.")
+    void 알림_확인() {
+        given(notificationRepository.markChecked(7L, 1L)).willReturn(1);
+        given(notificationRepository.findNotificationTypeById(7L)).willReturn(NotificationType.ACTIVITY);
+        given(notificationRepository.markChecked(8L, 1L)).willReturn(0);
+        given(notificationRepository.existsById(8L)).willReturn(true);
+
+        notificationService.checkNotification(7L, 1L);
+        notificationService.checkNotification(8L, 1L); // 이미 확인함
+
+        verify(notificationCounterService).decrease(1L, NotificationType.ACTIVITY);
+        verify(notificationRepository, never()).findNotificationTypeById(8L);
+        verify(notificationRepository, never()).findById(any());
+        verify(notificationStreamService, times(1)).sendUnreadCountsAfterCommit(1L);
+    }
+
+    @Test
+    @DisplayName("없는 알림을 확인하면 EntityNotFoundException을 던진다.")
+    void 없는_알림_확인() {
+        given(notificationRepository.markChecked(9L, 1L)).willReturn(0);
+        given(notificationRepository.existsById(9L)).willReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> notificationService.checkNotification(9L, 1L));
+        verify(notificationCounterService, never()).decrease(any(), any());
+    }
+}
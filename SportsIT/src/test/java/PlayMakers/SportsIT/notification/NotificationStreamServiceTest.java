@@ -0,0 +1,127 @@
+package PlayMakers.SportsIT.notification;
+
+import PlayMakers.SportsIT.dto.NotificationDto;
+import PlayMakers.SportsIT.enums.NotificationTitle;
+import PlayMakers.SportsIT.enums.NotificationType;
+import PlayMakers.SportsIT.repository.NotificationRepository;
+import PlayMakers.SportsIT.service.NotificationCounterService;
+import PlayMakers.SportsIT.service.NotificationStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamServiceTest {
+    @Mock
+    NotificationRepository notificationRepository;
+    @Mock
+    NotificationCounterService notificationCounterService;
+
+    NotificationStreamService notificationStreamService;
+
+    @BeforeEach
+    void setUp() {
+        notificationStreamService = new NotificationStreamService(notificationRepository, notificationCounterService, 60000, 5000);
+        notificationStreamService.init();
+    }
+
+    private static NotificationDto.Summary notification(Long id, Long receiverUid) {
+        return notification(id, receiverUid, 1);
+    }
+
+    private static NotificationDto.Summary notification(Long id, Long receiverUid, int coalescedCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new NotificationDto.Summary(id, receiverUid, NotificationTitle.END, "대회가 종료되었습니다.", "/competitions/1",
+                NotificationType.COMPETITION, false, coalescedCount, now, now);
+    }
+
+    @Test
+    @DisplayName("새 알림 중 이 서버에 접속한 회원의 알림만 보낸다.")
+    void 접속한_회원에게만_발송() {
+        given(notificationCounterService.getUnreadCounts(any())).willReturn(Map.of(NotificationType.COMPETITION, 1L));
+        notificationStreamService.subscribe(1L, null);
+        given(notificationRepository.findSummariesUpdatedAfter(any(), anyLong(), any())).willReturn(List.of(notification(101L, 1L), notification(102L, 2L)));
+
+        notificationStreamService.pollNewNotifications();
+
+        assertEquals(1, notificationStreamService.getConnectionCount());
+        verify(notificationCounterService).evict(1L);
+        verify(notificationCounterService, never()).evict(2L);
+    }
+
+    @Test
+    @DisplayName("늦게 커밋된 작은 id의 알림도 다음 조회에서 보내고, 이미 보낸 알림은 다시 보내지 않는다.")
+    void 커밋_순서가_다른_알림() {
+        given(notificationCounterService.getUnreadCounts(any())).willReturn(Map.of());
+        notificationStreamService.subscribe(1L, null);
+
+        // 102가 먼저 커밋되고 101은 아직 커밋 전
+        given(notificationRepository.findSummariesUpdatedAfter(any(), anyLong(), any())).willReturn(List.of(notification(102L, 1L)));
+        notificationStreamService.pollNewNotifications();
+        verify(notificationCounterService, times(1)).evict(1L);
+
+        // 다음 조회는 앞 조회 범위와 겹치므로 101과 102가 함께 조회된다.
+        given(notificationRepository.findSummariesUpdatedAfter(any(), anyLong(), any())).willReturn(List.of(notification(102L, 1L), notification(101L, 1L)));
+        notificationStreamService.pollNewNotifications();
+        verify(notificationCounterService, times(2)).evict(1L); // 101만 보냄
+
+        notificationStreamService.pollNewNotifications();
+        verify(notificationCounterService, times(2)).evict(1L); // 모두 보낸 알림
+    }
+
+    @Test
+    @DisplayName("합쳐진 알림은 합쳐진 수가 늘어나면 다시 보낸다.")
+    void 합쳐진_알림_발송() {
+        given(notificationCounterService.getUnreadCounts(any())).willReturn(Map.of());
+        notificationStreamService.subscribe(1L, null);
+
+        given(notificationRepository.findSummariesUpdatedAfter(any(), anyLong(), any())).willReturn(List.of(notification(101L, 1L, 1)));
+        notificationStreamService.pollNewNotifications();
+        given(notificationRepository.findSummariesUpdatedAfter(any(), anyLong(), any())).willReturn(List.of(notification(101L, 1L, 2)));
+        notificationStreamService.pollNewNotifications();
+
+        verify(notificationCounterService, times(2)).evict(1L);
+    }
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID 이후의 알림을 다시 보낸다.")
+    void 재연결_시_이어받기() {
+        given(notificationRepository.findSummariesByReceiverAfter(eq(1L), eq(95L), any())).willReturn(List.of(notification(97L, 1L)));
+
+        notificationStreamService.subscribe(1L, 95L);
+
+        verify(notificationRepository).findSummariesByReceiverAfter(eq(1L), eq(95L), any());
+        verify(notificationCounterService).getUnreadCounts(1L);
+
+        // 다시 보낸 알림은 새 알림 조회에서 보내지 않는다.
+        given(notificationRepository.findSummariesUpdatedAfter(any(), anyLong(), any())).willReturn(List.of(notification(97L, 1L)));
+        notificationStreamService.pollNewNotifications();
+        verify(notificationCounterService, never()).evict(1L);
+    }
+
+    @Test
+    @DisplayName("접속한 회원이 없으면 알림을 조회하지 않고, 접속 후에는 마지막 조회 시각보다 앞에서부터 조회한다.")
+    void 접속자_없음() {
+        notificationStreamService.pollNewNotifications();
+
+        verify(notificationRepository, never()).findSummariesUpdatedAfter(any(), anyLong(), any());
+        given(notificationCounterService.getUnreadCounts(any())).willReturn(Map.of());
+        notificationStreamService.subscribe(1L, null);
+        notificationStreamService.pollNewNotifications();
+        verify(notificationRepository).findSummariesUpdatedAfter(argThat(since -> since.isBefore(LocalDateTime.now().minusSeconds(4))), eq(0L), any());
+    }
+}
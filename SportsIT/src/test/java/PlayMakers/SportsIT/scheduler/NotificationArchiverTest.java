@@ -0,0 +1,86 @@
+package PlayMakers.SportsIT.scheduler;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.repository.NotificationArchiveRepository;
+import PlayMakers.SportsIT.service.NotificationArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@SchemaTest
+class NotificationArchiverTest {
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    LocalDateTime now = LocalDateTime.of(2023, 6, 1, 4, 30);
+
+    @BeforeEach
+    void setUp() {
+        TestTables.reset(jdbcTemplate, "notification", "notification_archive");
+    }
+
+    private void insert(boolean checked, LocalDateTime createdDate) {
+        jdbcTemplate.update("INSERT INTO notification (title, link, message, checked, receiver_uid, notification_type, created_date, updated_date) "
+                + "VALUES ('END', '/competitions/1', '대회가 종료되었습니다.', ?, 1, 'COMPETITION', ?, ?)",
+                checked, createdDate == null ? null : Timestamp.valueOf(createdDate), createdDate == null ? null : Timestamp.valueOf(createdDate));
+    }
+
+    private NotificationArchiver archiver(NotificationArchiveService.Policy policy) {
+        NotificationArchiveRepository repository = new NotificationArchiveRepository(jdbcTemplate);
+        return new NotificationArchiver(repository, new NotificationArchiveService(repository),
+                mock(SchedulerLeaseManager.class), 30, 3, policy);
+    }
+
+    private List<Long> ids(String table) {
+        return jdbcTemplate.queryForList("SELECT id FROM " + table + " ORDER BY id", Long.class);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 확인한 알림만 구간 단위로 보관 테이블로 옮긴다.")
+    void 오래된_확인한_알림_보관() {
+        for (int i = 0; i < 8; i++) insert(i % 4 != 1, now.minusDays(60 - i)); // id 1~8: 오래된 알림, id 2, 6은 확인하지 않음
+        insert(true, now.minusDays(1)); // id 9, 10: 최근 알림
+        insert(true, now);
+
+        NotificationArchiver archiver = archiver(NotificationArchiveService.Policy.ARCHIVE);
+        int moved = archiver.archive(now);
+
+        assertEquals(6, moved);
+        assertEquals(List.of(2L, 6L, 9L, 10L), ids("notification"));
+        assertEquals(List.of(1L, 3L, 4L, 5L, 7L, 8L), ids("notification_archive"));
+        assertEquals(6, archiver.lastRun().get("moved"));
+        assertEquals(3, archiver.lastRun().get("chunks")); // [1, 4), [4, 7), [7, 10) 이후 id 10은 최근 알림이므로 멈춤
+    }
+
+    @Test
+    @DisplayName("생성일이 없는 알림은 건너뛰고 이어서 보관한다.")
+    void 생성일_없는_알림_건너뜀() {
+        insert(true, null); // id 1
+        insert(true, now.minusDays(60)); // id 2, 3
+        insert(true, now.minusDays(59));
+
+        assertEquals(2, archiver(NotificationArchiveService.Policy.ARCHIVE).archive(now));
+        assertEquals(List.of(1L), ids("notification"));
+        assertEquals(List.of(2L, 3L), ids("notification_archive"));
+    }
+
+    @Test
+    @DisplayName("DELETE 정책이면 보관하지 않고 삭제한다.")
+    void 삭제_정책() {
+        insert(true, now.minusDays(31));
+        insert(true, now.minusDays(29));
+
+        assertEquals(1, archiver(NotificationArchiveService.Policy.DELETE).archive(now));
+        assertEquals(List.of(2L), ids("notification"));
+        assertTrue(ids("notification_archive").isEmpty());
+    }
+}
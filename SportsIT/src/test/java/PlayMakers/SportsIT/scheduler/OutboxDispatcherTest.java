@@ -0,0 +1,97 @@
+package PlayMakers.SportsIT.scheduler;
+
+import PlayMakers.SportsIT.domain.OutboxEvent;
+import PlayMakers.SportsIT.domain.SchedulerLease;
+import PlayMakers.SportsIT.enums.OutboxEventType;
+import PlayMakers.SportsIT.repository.OutboxEventRepository;
+import PlayMakers.SportsIT.service.OutboxEventHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+    @Mock
+    OutboxEventRepository outboxEventRepository;
+    @Mock
+    OutboxEventHandler outboxEventHandler;
+    @Mock
+    SchedulerLeaseManager schedulerLeaseManager;
+
+    OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxDispatcher = new OutboxDispatcher(outboxEventRepository, outboxEventHandler, schedulerLeaseManager, 100, 3, 30);
+    }
+
+    private static OutboxEvent event(Long id, OutboxEventType type, Long aggregateId) {
+        OutboxEvent event = OutboxEvent.builder().id(id).eventType(type).aggregateId(aggregateId).build();
+        event.prePersist();
+        return event;
+    }
+
+    private void leader(boolean leader) {
+        given(schedulerLeaseManager.tryAcquire(eq(OutboxDispatcher.DISPATCH_LEASE), any(Duration.class)))
+                .willReturn(leader ? Optional.of(SchedulerLease.builder().fencingToken(1L).build()) : Optional.empty());
+    }
+
+    @Test
+    @DisplayName("앞 이벤트 발송에 실패한 대회의 뒤 이벤트는 건너뛰고, 다른 대회의 이벤트는 계속 발송한다.")
+    void 대회별_순서_보장() {
+        leader(true);
+        given(outboxEventRepository.findByStatusOrderByIdAsc(eq(OutboxEvent.Status.PENDING), any())).willReturn(List.of(
+                event(1L, OutboxEventType.COMPETITION_JOINED, 10L),
+                event(2L, OutboxEventType.COMPETITION_STATE_CHANGED, 10L),
+                event(3L, OutboxEventType.COMPETITION_JOINED, 20L),
+                event(4L, OutboxEventType.MEMBER_JOINED, 10L)));
+        willThrow(new IllegalStateException("발송 실패")).given(outboxEventHandler).handle(1L);
+        given(outboxEventHandler.markFailed(eq(1L), anyString(), eq(3))).willReturn(OutboxEvent.Status.PENDING);
+
+        outboxDispatcher.dispatch();
+
+        verify(outboxEventHandler).handle(1L);
+        verify(outboxEventHandler, never()).handle(2L);
+        verify(outboxEventHandler).handle(3L);
+        verify(outboxEventHandler).handle(4L); // 회원 이벤트는 대회 10과 순서가 무관
+        assertEquals(2L, outboxDispatcher.stats().get("dispatchedCount"));
+        assertEquals(0L, outboxDispatcher.stats().get("failedCount"));
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수를 넘긴 이벤트는 최종 실패로 집계한다.")
+    void 최종_실패_집계() {
+        leader(true);
+        given(outboxEventRepository.findByStatusOrderByIdAsc(eq(OutboxEvent.Status.PENDING), any()))
+                .willReturn(List.of(event(1L, OutboxEventType.COMPETITION_RESULT_SAVED, 10L)));
+        willThrow(new IllegalStateException("발송 실패")).given(outboxEventHandler).handle(1L);
+        given(outboxEventHandler.markFailed(eq(1L), anyString(), eq(3))).willReturn(OutboxEvent.Status.FAILED);
+
+        outboxDispatcher.dispatch();
+
+        assertEquals(1L, outboxDispatcher.stats().get("failedCount"));
+    }
+
+    @Test
+    @DisplayName("임대를 가진 서버가 아니면 발송하지 않는다.")
+    void 리더가_아니면_발송_안함() {
+        leader(false);
+
+        outboxDispatcher.dispatch();
+
+        verifyNoInteractions(outboxEventRepository, outboxEventHandler);
+    }
+}
@@ -0,0 +1,145 @@
+package PlayMakers.SportsIT.scheduler;
+
+import PlayMakers.SportsIT.common.SchemaTest;
+import PlayMakers.SportsIT.common.TestTables;
+import PlayMakers.SportsIT.domain.SchedulerLease;
+import PlayMakers.SportsIT.repository.SchedulerLeaseRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 하나의 H2 DB를 공유하는 두 애플리케이션 컨텍스트(서버 두 대)로 리더 선출을 확인한다.
+ */
+@SchemaTest
+class SchedulerLeaseManagerTest {
+    private static final String LEASE = "competition-state-sweep";
+
+    @Autowired
+    DataSource dataSource;
+
+    AnnotationConfigApplicationContext nodeA;
+    AnnotationConfigApplicationContext nodeB;
+
+    // @Configuration을 붙이면 테스트 컨텍스트 설정으로 인식되므로 붙이지 않는다.
+    @Import({SchedulerLeaseRepository.class, SchedulerLeaseManager.class})
+    static class NodeConfig {
+    }
+
+    @BeforeEach
+    void setUp() {
+        TestTables.reset(new JdbcTemplate(dataSource), "scheduler_lease");
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    private AnnotationConfigApplicationContext startNode() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("lease", Map.of("scheduler.lease.ttl-seconds", "1")));
+        context.registerBean(JdbcTemplate.class, () -> new JdbcTemplate(dataSource));
+        context.register(NodeConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    @Test
+    @DisplayName("두 서버 중 한 서버만 임대를 획득하고, 리더는 임대를 연장해도 토큰이 유지된다.")
+    void 한_서버만_리더() {
+        SchedulerLeaseManager a = nodeA.getBean(SchedulerLeaseManager.class);
+        SchedulerLeaseManager b = nodeB.getBean(SchedulerLeaseManager.class);
+
+        Optional<SchedulerLease> first = a.tryAcquire(LEASE);
+        Optional<SchedulerLease> other = b.tryAcquire(LEASE);
+        Optional<SchedulerLease> renewed = a.tryAcquire(LEASE);
+
+        assertTrue(first.isPresent());
+        assertTrue(other.isEmpty());
+        assertTrue(renewed.isPresent());
+        assertEquals(first.get().getFencingToken(), renewed.get().getFencingToken());
+        assertTrue(renewed.get().getExpiresAt().isAfter(first.get().getExpiresAt()) || renewed.get().getExpiresAt().isEqual(first.get().getExpiresAt()));
+    }
+
+    @Test
+    @DisplayName("임대가 만료되면 다른 서버가 인수하고, 이전 리더의 토큰으로는 작업을 실행할 수 없다.")
+    void 임대_만료_시_리더_이동() throws InterruptedException {
+        SchedulerLeaseManager a = nodeA.getBean(SchedulerLeaseManager.class);
+        SchedulerLeaseManager b = nodeB.getBean(SchedulerLeaseManager.class);
+        SchedulerLeaseRepository repository = nodeA.getBean(SchedulerLeaseRepository.class);
+
+        SchedulerLease oldLease = a.tryAcquire(LEASE).orElseThrow();
+        Thread.sleep(1200); // ttl 1초
+
+        SchedulerLease newLease = b.tryAcquire(LEASE).orElseThrow();
+
+        assertEquals(b.getOwner(), newLease.getOwner());
+        assertEquals(oldLease.getFencingToken() + 1, newLease.getFencingToken());
+        assertFalse(repository.lockIfHeld(oldLease, LocalDateTime.now()));
+        assertTrue(repository.lockIfHeld(newLease, LocalDateTime.now()));
+        assertTrue(a.tryAcquire(LEASE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("리더가 종료되며 임대를 반납하면 다른 서버가 바로 인수한다.")
+    void 종료_시_임대_반납() {
+        SchedulerLeaseManager b = nodeB.getBean(SchedulerLeaseManager.class);
+        assertTrue(nodeA.getBean(SchedulerLeaseManager.class).tryAcquire(LEASE).isPresent());
+        assertTrue(b.tryAcquire(LEASE).isEmpty());
+
+        nodeA.close();
+
+        assertTrue(b.tryAcquire(LEASE).isPresent());
+    }
+
+    @Test
+    @DisplayName("두 서버가 동시에 임대를 요청해도 유효한 리더는 항상 하나이다.")
+    void 동시_획득_경쟁() throws Exception {
+        SchedulerLeaseManager a = nodeA.getBean(SchedulerLeaseManager.class);
+        SchedulerLeaseManager b = nodeB.getBean(SchedulerLeaseManager.class);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                nodeA.getBean(JdbcTemplate.class).update("DELETE FROM scheduler_lease");
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Optional<SchedulerLease>>> results = new ArrayList<>();
+                for (SchedulerLeaseManager manager : List.of(a, b)) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return manager.tryAcquire(LEASE);
+                    }));
+                }
+                start.countDown();
+
+                long leaders = 0;
+                for (Future<Optional<SchedulerLease>> result : results) {
+                    if (result.get(5, TimeUnit.SECONDS).isPresent()) leaders++;
+                }
+                assertEquals(1, leaders);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}